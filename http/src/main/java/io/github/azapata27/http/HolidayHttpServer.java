@@ -0,0 +1,428 @@
+package io.github.azapata27.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.azapata27.ColombianHolidayValidator;
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.codec.HolidayJsonEncoder;
+import io.github.azapata27.codec.HolidayJsonEncoder.EncodedYear;
+import io.github.azapata27.model.Holiday;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.DateTimeException;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exposes a {@link HolidayValidator} over HTTP using the JDK's built-in {@code com.sun.net.httpserver},
+ * with every request handled on its own virtual thread.
+ * <p>
+ * Endpoints, all answering JSON:
+ * <ul>
+ *   <li>{@code GET /holidays/is-holiday?date=2024-12-25} - holiday, business-day and long-weekend flags of a date</li>
+ *   <li>{@code GET /holidays/year/2024} - all holidays of a year</li>
+ *   <li>{@code GET /holidays/next?date=2024-12-25} - next holiday after a date within its year</li>
+ *   <li>{@code GET /holidays/previous?date=2024-12-25} - previous holiday before a date within its year</li>
+ *   <li>{@code POST /holidays/batch} - classifies a JSON array of ISO dates, up to {@value #MAX_BATCH_SIZE} dates
+ *   and {@value #MAX_BATCH_BYTES} bytes</li>
+ *   <li>{@code GET /health} - liveness probe</li>
+ *   <li>{@code GET /metrics} - request counts, errors and latencies per endpoint</li>
+ * </ul>
+ * Holiday lists are written from the documents pre-encoded by {@link HolidayJsonEncoder}, so repeated year requests
+ * do no JSON encoding. {@code GET} responses carry a strong {@code ETag} derived from the body and honour
+ * {@code If-None-Match}, so a client revalidating after the holiday definitions change, for example through
+ * {@link ColombianHolidayValidator#updateDefinitions}, receives the new body. Since definitions can change any
+ * year, no answer is served as immutable: answers about years before the current one are cached for a week, and
+ * answers about the current and future years for a day.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayHttpServer server = new HolidayHttpServer(new ColombianHolidayValidator(), new InetSocketAddress(8080));
+ * server.start();
+ * ...
+ * server.stop();
+ * }</pre>
+ */
+public final class HolidayHttpServer {
+
+    /** Maximum number of dates accepted by the batch endpoint. */
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    /** Maximum size in bytes of a batch request body: 16 bytes per date, leaving room for whitespace. */
+    public static final int MAX_BATCH_BYTES = MAX_BATCH_SIZE * 16 + 1024;
+
+    private static final String ONE_WEEK = "public, max-age=604800";
+    private static final String ONE_DAY = "public, max-age=86400";
+    private static final String NO_STORE = "no-store";
+
+    private final HolidayValidator<? extends Holiday> validator;
+    private final InetSocketAddress address;
+    private final Clock clock;
+    private final HolidayJsonEncoder encoder;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a server for a validator, bound to the given address when started.
+     *
+     * @param validator the validator to expose; must be safe for concurrent use and not null
+     * @param address the address to bind, port {@code 0} picks a free port; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public HolidayHttpServer(HolidayValidator<? extends Holiday> validator, InetSocketAddress address) {
+        this(validator, address, Clock.system(validator == null ? ColombianHolidayValidator.DEFAULT_ZONE : validator.getZone()));
+    }
+
+    /**
+     * Creates a server for a validator, using the given clock to decide which years are in the past.
+     *
+     * @param validator the validator to expose; must be safe for concurrent use and not null
+     * @param address the address to bind, port {@code 0} picks a free port; must not be null
+     * @param clock the clock giving the current year; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public HolidayHttpServer(HolidayValidator<? extends Holiday> validator, InetSocketAddress address, Clock clock) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (address == null) {
+            throw new IllegalArgumentException("The address must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("The clock must not be null");
+        }
+        this.validator = validator;
+        this.encoder = new HolidayJsonEncoder(validator);
+        this.address = address;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the server with the default Colombian validator on the port given as first argument (8080 by default).
+     *
+     * @param args optional port number
+     * @throws IOException if the server cannot bind the port
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        HolidayHttpServer server = new HolidayHttpServer(ColombianHolidayValidator.getDefault(), new InetSocketAddress(port));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.out.println("Holiday service listening on port " + server.getPort());
+    }
+
+    /**
+     * Binds the address and starts serving requests.
+     *
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalStateException if the server is already started
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("The server is already started");
+        }
+        server = HttpServer.create(address, 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Stops the server, letting in-flight exchanges complete for up to one second.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(1);
+            executor.shutdown();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return the bound port
+     * @throws IllegalStateException if the server is not started
+     */
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("The server is not started");
+        }
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        String endpoint = "unknown";
+        int status;
+        try {
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            String method = exchange.getRequestMethod();
+
+            if (path.equals("/holidays/batch")) {
+                endpoint = "batch";
+                status = "POST".equals(method) ? batch(exchange) : error(exchange, 405, "Method not allowed");
+            } else if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                status = error(exchange, 405, "Method not allowed");
+            } else if (path.equals("/holidays/is-holiday")) {
+                endpoint = "is-holiday";
+                status = isHoliday(exchange, queryDate(uri));
+            } else if (path.startsWith("/holidays/year/")) {
+                endpoint = "year";
+                status = year(exchange, Integer.parseInt(path.substring("/holidays/year/".length())));
+            } else if (path.equals("/holidays/next")) {
+                endpoint = "next";
+                LocalDate date = queryDate(uri);
+                status = holidayLookup(exchange, date, validator.getNextHoliday(date));
+            } else if (path.equals("/holidays/previous")) {
+                endpoint = "previous";
+                LocalDate date = queryDate(uri);
+                status = holidayLookup(exchange, date, validator.getPreviousHoliday(date));
+            } else if (path.equals("/health")) {
+                endpoint = "health";
+                status = send(exchange, 200, "{\"status\":\"UP\"}", NO_STORE, false);
+            } else if (path.equals("/metrics")) {
+                endpoint = "metrics";
+                status = send(exchange, 200, metrics.toJson(), NO_STORE, false);
+            } else {
+                status = error(exchange, 404, "Not found");
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            status = error(exchange, 400, "Invalid date or year");
+        } catch (IllegalArgumentException e) {
+            status = error(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            status = error(exchange, 500, "Internal error");
+        } finally {
+            exchange.close();
+        }
+        metrics.record(endpoint, status, System.nanoTime() - start);
+    }
+
+    private int isHoliday(HttpExchange exchange, LocalDate date) throws IOException {
+        StringBuilder json = new StringBuilder(128);
+        appendClassification(json, date);
+        return send(exchange, 200, json.toString(), cacheControl(date.getYear()), true);
+    }
+
+    private int year(HttpExchange exchange, int year) throws IOException {
+        return send(exchange, 200, encoder.getEncodedYear(Year.of(year)), cacheControl(year));
+    }
+
+    private int holidayLookup(HttpExchange exchange, LocalDate date, Optional<? extends Holiday> holiday) throws IOException {
+        if (holiday.isEmpty()) {
+            return error(exchange, 404, "No holiday found in the year of the date");
+        }
+        return send(exchange, 200, HolidayJsonEncoder.encode(holiday.get()), cacheControl(date.getYear()), true);
+    }
+
+    private int batch(HttpExchange exchange) throws IOException {
+        byte[] bytes;
+        try (InputStream body = exchange.getRequestBody()) {
+            bytes = body.readNBytes(MAX_BATCH_BYTES + 1);
+        }
+        if (bytes.length > MAX_BATCH_BYTES) {
+            return error(exchange, 413, "At most " + MAX_BATCH_BYTES + " bytes per batch");
+        }
+        List<LocalDate> dates = parseDateArray(new String(bytes, StandardCharsets.UTF_8));
+        if (dates.size() > MAX_BATCH_SIZE) {
+            return error(exchange, 413, "At most " + MAX_BATCH_SIZE + " dates per batch");
+        }
+
+        StringBuilder json = new StringBuilder(dates.size() * 96 + 2);
+        json.append('[');
+        for (int i = 0; i < dates.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendClassification(json, dates.get(i));
+        }
+        json.append(']');
+        return send(exchange, 200, json.toString(), NO_STORE, false);
+    }
+
+    /**
+     * Parses a JSON array of ISO date strings, such as {@code ["2024-12-25", "2024-12-26"]}.
+     *
+     * @throws IllegalArgumentException if the text is not a JSON array of strings
+     * @throws DateTimeParseException if a string is not an ISO date
+     */
+    private static List<LocalDate> parseDateArray(String text) {
+        List<LocalDate> dates = new ArrayList<>();
+        int i = skipWhitespace(text, 0);
+        if (i == text.length() || text.charAt(i) != '[') {
+            throw new IllegalArgumentException("The body must be a JSON array of dates");
+        }
+        i = skipWhitespace(text, i + 1);
+        if (i < text.length() && text.charAt(i) == ']') {
+            i++;
+        } else {
+            while (true) {
+                if (i == text.length() || text.charAt(i) != '"') {
+                    throw new IllegalArgumentException("The body must be a JSON array of dates");
+                }
+                int end = text.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("The body must be a JSON array of dates");
+                }
+                dates.add(LocalDate.parse(text.substring(i + 1, end)));
+                i = skipWhitespace(text, end + 1);
+                if (i < text.length() && text.charAt(i) == ',') {
+                    i = skipWhitespace(text, i + 1);
+                } else if (i < text.length() && text.charAt(i) == ']') {
+                    i++;
+                    break;
+                } else {
+                    throw new IllegalArgumentException("The body must be a JSON array of dates");
+                }
+            }
+        }
+        if (skipWhitespace(text, i) != text.length()) {
+            throw new IllegalArgumentException("The body must be a JSON array of dates");
+        }
+        return dates;
+    }
+
+    private static int skipWhitespace(String text, int index) {
+        while (index < text.length()) {
+            char c = text.charAt(index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private void appendClassification(StringBuilder json, LocalDate date) {
+        json.append("{\"date\":\"").append(date)
+                .append("\",\"holiday\":").append(validator.isHoliday(date))
+                .append(",\"businessDay\":").append(validator.isBusinessDay(date))
+                .append(",\"longWeekend\":").append(validator.isLongWeekend(date))
+                .append('}');
+    }
+
+    private static void appendString(StringBuilder json, String text) {
+        if (text == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private String cacheControl(int year) {
+        return year < Year.now(clock).getValue() ? ONE_WEEK : ONE_DAY;
+    }
+
+    private static LocalDate queryDate(URI uri) {
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("date=")) {
+                    return LocalDate.parse(parameter.substring("date=".length()));
+                }
+            }
+        }
+        throw new IllegalArgumentException("The date parameter is required");
+    }
+
+    private static int error(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder(64).append("{\"error\":");
+        appendString(json, message);
+        return send(exchange, status, json.append('}').toString(), NO_STORE, false);
+    }
+
+    private static int send(HttpExchange exchange, int status, String json, String cacheControl, boolean etag)
+            throws IOException {
+        return send(exchange, status, json.getBytes(StandardCharsets.UTF_8), cacheControl, etag);
+    }
+
+    private static int send(HttpExchange exchange, int status, byte[] body, String cacheControl, boolean etag)
+            throws IOException {
+        if (sendNotModified(exchange, cacheControl, etag ? strongETag(body) : null)) {
+            return 304;
+        }
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (!head) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        return status;
+    }
+
+    private static int send(HttpExchange exchange, int status, EncodedYear body, String cacheControl)
+            throws IOException {
+        // The encoder keeps the tag next to the shared document, so nothing is hashed or copied per request
+        if (sendNotModified(exchange, cacheControl, body.getETag())) {
+            return 304;
+        }
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.getLength());
+        if (!head) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                body.writeTo(out);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Sets the response headers and answers {@code 304} if the client already holds the entity tag, if any.
+     */
+    private static boolean sendNotModified(HttpExchange exchange, String cacheControl, String tag)
+            throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        headers.set("Cache-Control", cacheControl);
+        if (tag == null) {
+            return false;
+        }
+        headers.set("ETag", tag);
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(tag))) {
+            exchange.sendResponseHeaders(304, -1);
+            return true;
+        }
+        return false;
+    }
+
+    private static String strongETag(byte[] body) {
+        // 64-bit FNV-1a over the exact response bytes
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : body) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return '"' + Long.toHexString(hash) + '"';
+    }
+}
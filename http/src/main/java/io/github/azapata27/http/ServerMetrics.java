@@ -0,0 +1,60 @@
+package io.github.azapata27.http;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters of the holiday HTTP service, updated without locks from the handler threads.
+ */
+final class ServerMetrics {
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, int status, long elapsedNanos) {
+        Endpoint counters = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        counters.requests.increment();
+        counters.totalNanos.add(elapsedNanos);
+        counters.maxNanos.accumulate(elapsedNanos);
+        if (status == 304) {
+            counters.notModified.increment();
+        } else if (status >= 400) {
+            counters.errors.increment();
+        }
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"uptimeMillis\":").append((System.nanoTime() - startNanos) / 1_000_000)
+                .append(",\"availableProcessors\":").append(Runtime.getRuntime().availableProcessors())
+                .append(",\"heapUsedBytes\":").append(Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory())
+                .append(",\"endpoints\":{");
+        boolean first = true;
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Endpoint counters = entry.getValue();
+            long requests = counters.requests.sum();
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append(entry.getKey()).append("\":{")
+                    .append("\"requests\":").append(requests)
+                    .append(",\"errors\":").append(counters.errors.sum())
+                    .append(",\"notModified\":").append(counters.notModified.sum())
+                    .append(",\"meanMicros\":").append(requests == 0 ? 0 : counters.totalNanos.sum() / requests / 1_000)
+                    .append(",\"maxMicros\":").append(counters.maxNanos.get() / 1_000)
+                    .append('}');
+        }
+        return json.append("}}").toString();
+    }
+
+    private static final class Endpoint {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
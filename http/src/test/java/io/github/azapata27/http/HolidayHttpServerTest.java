@@ -0,0 +1,197 @@
+package io.github.azapata27.http;
+
+import io.github.azapata27.ColombianHolidayValidator;
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.factory.ColombianHolidayFactory;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayHttpServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ColombianHolidayValidator validator = new ColombianHolidayValidator();
+    private HolidayHttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T12:00:00Z"), ZoneOffset.UTC);
+        server = new HolidayHttpServer(validator, new InetSocketAddress("127.0.0.1", 0), clock);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldClassifyDate() throws Exception {
+        HttpResponse<String> response = get("/holidays/is-holiday?date=2024-12-25");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"date\":\"2024-12-25\",\"holiday\":true,\"businessDay\":false,\"longWeekend\":false}",
+                response.body());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("application/json"));
+    }
+
+    @Test
+    void shouldListYearWithWeeklyCachingForPastYears() throws Exception {
+        HttpResponse<String> response = get("/holidays/year/2024");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"year\":2024,\"holidays\":[{\"date\":\"2024-01-01\""));
+        assertEquals(18, response.body().split("\"name\"").length - 1);
+        assertEquals("public, max-age=604800", response.headers().firstValue("Cache-Control").orElseThrow());
+    }
+
+    @Test
+    void shouldCacheCurrentYearForOneDay() throws Exception {
+        HttpResponse<String> response = get("/holidays/year/2025");
+
+        assertEquals("public, max-age=86400", response.headers().firstValue("Cache-Control").orElseThrow());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForMatchingETag() throws Exception {
+        HttpResponse<String> first = get("/holidays/year/2024");
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> second = client.send(HttpRequest.newBuilder(uri("/holidays/year/2024"))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(304, second.statusCode());
+        assertEquals("", second.body());
+    }
+
+    @Test
+    void shouldChangeETagOfPastYearWhenDefinitionsChange() throws Exception {
+        String etag = get("/holidays/year/2024").headers().firstValue("ETag").orElseThrow();
+        List<ColombianHoliday> fixed = new ArrayList<>(ColombianHolidayFactory.createFixedHolidays());
+        fixed.add(new ColombianHoliday.Builder()
+                .name("Día de la Prueba")
+                .date(Month.SEPTEMBER, 15)
+                .type(ColombianHolidayType.FIXED_CIVIL)
+                .build());
+        validator.updateDefinitions(fixed, ColombianHolidayFactory.createEasterBasedHolidays(),
+                ColombianHolidayFactory.createTransferableHolidays());
+
+        HttpResponse<String> revalidated = client.send(HttpRequest.newBuilder(uri("/holidays/year/2024"))
+                .header("If-None-Match", etag).build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, revalidated.statusCode());
+        assertNotEquals(etag, revalidated.headers().firstValue("ETag").orElseThrow());
+        assertTrue(revalidated.body().contains("2024-09-15"));
+    }
+
+    @Test
+    void shouldFindNextAndPreviousHoliday() throws Exception {
+        HttpResponse<String> next = get("/holidays/next?date=2024-12-09");
+        HttpResponse<String> previous = get("/holidays/previous?date=2024-12-09");
+
+        assertEquals(200, next.statusCode());
+        assertTrue(next.body().startsWith("{\"date\":\"2024-12-25\""));
+        assertTrue(previous.body().startsWith("{\"date\":\"2024-12-08\""));
+        assertEquals(404, get("/holidays/next?date=2024-12-26").statusCode());
+    }
+
+    @Test
+    void shouldClassifyBatch() throws Exception {
+        HttpResponse<String> response = post("/holidays/batch", "[\"2024-12-25\", \"2024-12-26\"]");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("[{\"date\":\"2024-12-25\",\"holiday\":true,\"businessDay\":false,\"longWeekend\":false},"
+                + "{\"date\":\"2024-12-26\",\"holiday\":false,\"businessDay\":true,\"longWeekend\":false}]", response.body());
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= HolidayHttpServer.MAX_BATCH_SIZE; i++) {
+            body.append(i == 0 ? "" : ",").append("\"2024-01-01\"");
+        }
+
+        assertEquals(413, post("/holidays/batch", body.append(']').toString()).statusCode());
+    }
+
+    @Test
+    void shouldRejectOversizedBatchBody() throws Exception {
+        String body = "[\"2024-12-25\"" + " ".repeat(HolidayHttpServer.MAX_BATCH_BYTES) + "]";
+
+        assertEquals(413, post("/holidays/batch", body).statusCode());
+    }
+
+    @Test
+    void shouldRejectMalformedBatch() throws Exception {
+        assertEquals(400, post("/holidays/batch", "\"2024-12-25\"").statusCode());
+        assertEquals(400, post("/holidays/batch", "[\"2024-12-25\" \"2024-12-26\"]").statusCode());
+        assertEquals(400, post("/holidays/batch", "[\"2024-12-25\",]").statusCode());
+        assertEquals(400, post("/holidays/batch", "[\"2024-12-25\"").statusCode());
+        assertEquals(400, post("/holidays/batch", "[\"2024-12-25\"] []").statusCode());
+        assertEquals(400, post("/holidays/batch", "[2024]").statusCode());
+        assertEquals(400, post("/holidays/batch", "{\"dates\":[\"2024-12-25\"]}").statusCode());
+        assertEquals(400, post("/holidays/batch", "[\"2024-13-01\"]").statusCode());
+        assertEquals("[]", post("/holidays/batch", " [ ] ").body());
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() throws Exception {
+        assertEquals(400, get("/holidays/is-holiday?date=2024-13-01").statusCode());
+        assertEquals(400, get("/holidays/is-holiday").statusCode());
+        assertEquals(400, get("/holidays/year/abc").statusCode());
+        assertEquals(400, get("/holidays/year/1000000000").statusCode());
+        assertEquals(404, get("/unknown").statusCode());
+        assertEquals(405, get("/holidays/batch").statusCode());
+        assertEquals(405, post("/holidays/year/2024", "").statusCode());
+    }
+
+    @Test
+    void shouldReportHealthAndMetrics() throws Exception {
+        get("/holidays/is-holiday?date=2024-12-25");
+
+        assertEquals("{\"status\":\"UP\"}", get("/health").body());
+        String metrics = get("/metrics").body();
+        assertTrue(metrics.contains("\"is-holiday\":{\"requests\":1,\"errors\":0"));
+        assertTrue(metrics.contains("\"uptimeMillis\":"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreNull() {
+        InetSocketAddress address = new InetSocketAddress(0);
+        ColombianHolidayValidator validator = new ColombianHolidayValidator();
+
+        assertThrows(IllegalArgumentException.class, () -> new HolidayHttpServer(null, address));
+        assertThrows(IllegalArgumentException.class, () -> new HolidayHttpServer(validator, null));
+        assertThrows(IllegalArgumentException.class, () -> new HolidayHttpServer(validator, address, null));
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
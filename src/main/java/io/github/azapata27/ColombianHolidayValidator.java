@@ -1,19 +1,32 @@
 package io.github.azapata27;
 
 import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.calculator.EpochDayResolver;
+import io.github.azapata27.change.CalendarChange;
+import io.github.azapata27.change.CalendarChangeListener;
+import io.github.azapata27.change.YearDelta;
 import io.github.azapata27.enums.ColombianHolidayType;
 import io.github.azapata27.factory.ColombianHolidayFactory;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.jfr.HolidayQueryEvent;
+import io.github.azapata27.jfr.HolidayYearEvent;
 import io.github.azapata27.model.ColombianHoliday;
 import io.github.azapata27.model.Holiday;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.Month;
 import java.time.Year;
+import java.time.ZoneId;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Implementation of Colombian holidays according to Law 51 of 1983 and Colombian official calendar.
@@ -48,6 +61,9 @@ import java.util.Optional;
  * HolidayValidator<ColombianHoliday> validator = new ColombianHolidayValidator();
  * ColombianHolidayValidator validator = new ColombianHolidayValidator();
  *
+ * // Or share the lazily created default instance
+ * ColombianHolidayValidator validator = ColombianHolidayValidator.getDefault();
+ *
  * // Check if a specific date is a holiday
  * boolean isHoliday = validator.isHoliday(LocalDate.now());
  *
@@ -55,6 +71,8 @@ import java.util.Optional;
  * List<LocalDate> holidays2024 = validator.getHolidaysForYear(Year.of(2024));
  * List<ColombianHoliday> holidays2024 = validator.getHolidaysForYear(Year.of(2024));
  *
+ * // Check an event timestamp (UTC epoch millis) against the Bogotá local day
+ * boolean eventOnHoliday = validator.isHolidayEpochMillis(event.getTimestampMillis());
  *
  * }</pre>
  *
@@ -65,9 +83,33 @@ import java.util.Optional;
  */
 public class ColombianHolidayValidator implements HolidayValidator<ColombianHoliday> {
 
-    private final List<ColombianHoliday> fixedHolidays;
-    private final List<ColombianHoliday> easterBasedHolidays;
-    private final List<ColombianHoliday> transferableHolidays;
+    /** Official time zone of Colombia, used to resolve instants to local days by default. */
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("America/Bogota");
+
+    /** First year kept in the per-year holiday cache; earlier years are computed on every call. */
+    static final int MIN_CACHED_YEAR = 1583;
+
+    /** Last year kept in the per-year holiday cache; later years are computed on every call. */
+    static final int MAX_CACHED_YEAR = 4099;
+
+    /**
+     * Smallest Easter offset whose date stays within its year: Easter Sunday falls on March 22 at the earliest,
+     * 80 days after January 1 of a common year.
+     */
+    static final int MIN_EASTER_OFFSET = -80;
+
+    /**
+     * Largest Easter offset whose date stays within its year: Easter Sunday falls on April 25 at the latest,
+     * 250 days before December 31. Transferable Easter-based holidays also need room to move to the next Monday.
+     */
+    static final int MAX_EASTER_OFFSET = 250;
+
+    /** Calendar version of a validator whose definitions have not been updated. */
+    public static final long INITIAL_VERSION = 1;
+
+    private final EpochDayResolver epochDayResolver;
+    private final List<CalendarChangeListener<ColombianHoliday>> listeners = new CopyOnWriteArrayList<>();
+    private volatile Definitions definitions;
 
 
     /**
@@ -78,11 +120,37 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
      *   <li>Easter-based holidays (including transferable ones)</li>
      *   <li>Transferable holidays (civil ones that move to Monday)</li>
      * </ul>
+     * Instants and timestamps are resolved to local days in {@link #DEFAULT_ZONE}.
      */
     public ColombianHolidayValidator() {
-        this.fixedHolidays = ColombianHolidayFactory.createFixedHolidays();
-        this.easterBasedHolidays = ColombianHolidayFactory.createEasterBasedHolidays();
-        this.transferableHolidays = ColombianHolidayFactory.createTransferableHolidays();
+        this(DEFAULT_ZONE);
+    }
+
+    /**
+     * Constructs a new ColombianHoliday instance that resolves instants and timestamps
+     * to local days in the given zone.
+     *
+     * @param zone the zone used by {@link #isHolidayAt(Instant)} and {@link #isHolidayEpochMillis(long)}
+     * @throws IllegalArgumentException if the {@code zone} is {@code null}
+     */
+    public ColombianHolidayValidator(ZoneId zone) {
+        this.epochDayResolver = new EpochDayResolver(zone);
+        this.definitions = new Definitions(INITIAL_VERSION,
+                ColombianHolidayFactory.createFixedHolidays(),
+                ColombianHolidayFactory.createEasterBasedHolidays(),
+                ColombianHolidayFactory.createTransferableHolidays());
+    }
+
+    /**
+     * Gets the shared default validator, resolving instants in {@link #DEFAULT_ZONE}.
+     * <p>
+     * The instance is created on first use, when the holder class is initialized, so loading this class does not
+     * build the holiday definitions. Sharing it also shares its per-year cache, which is safe for concurrent use.
+     *
+     * @return the shared default validator
+     */
+    public static ColombianHolidayValidator getDefault() {
+        return DefaultHolder.INSTANCE;
     }
 
     /**
@@ -102,7 +170,60 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         if (date == null) {
             throw new IllegalArgumentException("The date must not be null");
         }
-        return getHolidayDatesForYear(Year.of(date.getYear())).contains(date);
+        return isHolidayEpochDay(date.toEpochDay());
+    }
+
+    /**
+     * Determines if the local day containing the given instant is a Colombian holiday.
+     * The local day is resolved in the zone this validator was created with.
+     *
+     * @param instant the {@link Instant} to check; must not be null
+     * @return {@code true} if the local day of the instant is a holiday, {@code false} otherwise
+     * @throws IllegalArgumentException if the {@code instant} is {@code null}
+     */
+    @Override
+    public boolean isHolidayAt(Instant instant) {
+        return isHolidayEpochDay(epochDayResolver.toEpochDay(instant));
+    }
+
+    /**
+     * Determines if the local day containing the given UTC epoch-millis timestamp is a Colombian holiday.
+     * <p>
+     * For instants in the zone's current fixed-offset period (since 1993 for America/Bogota) and years
+     * between {@value #MIN_CACHED_YEAR} and {@value #MAX_CACHED_YEAR}, the conversion is pure arithmetic and
+     * the lookup is a bit test on a cached per-year holiday mask, so this method does not allocate once the year
+     * has been computed.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @return {@code true} if the local day of the timestamp is a holiday, {@code false} otherwise
+     */
+    @Override
+    public boolean isHolidayEpochMillis(long epochMillis) {
+        return isHolidayEpochDay(epochDayResolver.toEpochDay(epochMillis));
+    }
+
+    /**
+     * Determines if the given epoch day (days since 1970-01-01) is a Colombian holiday.
+     *
+     * @param epochDay the epoch day to check
+     * @return {@code true} if the epoch day is a holiday, {@code false} otherwise
+     */
+    @Override
+    public boolean isHolidayEpochDay(long epochDay) {
+        int year = EpochDayCalculator.yearOf(epochDay);
+        int dayOfYear = (int) (epochDay - EpochDayCalculator.firstEpochDayOfYear(year));
+        long[] mask = getHolidayYear(year).mask;
+        return (mask[dayOfYear >>> 6] & (1L << dayOfYear)) != 0;
+    }
+
+    /**
+     * Gets the zone used to resolve instants and timestamps to local days.
+     *
+     * @return the zone of this validator, {@link #DEFAULT_ZONE} unless configured otherwise
+     */
+    @Override
+    public ZoneId getZone() {
+        return epochDayResolver.getZone();
     }
 
     /**
@@ -126,27 +247,10 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
             throw new IllegalArgumentException("The year must not be null");
         }
 
-        List<LocalDate> holidays = new ArrayList<>();
-
-        for (ColombianHoliday holiday : fixedHolidays) {
-            holidays.add(LocalDate.of(year.getValue(), holiday.getMonth(), holiday.getDay()));
-        }
-
-        LocalDate easterSunday = EasterCalculator.calculateEasterSunday(year.getValue());
-        for (ColombianHoliday holiday : easterBasedHolidays) {
-            LocalDate easterBasedDate = easterSunday.plusDays(holiday.getEasterOffset());
-            holidays.add(holiday.isTransferable() ? adjustToNextMonday(easterBasedDate) : easterBasedDate);
-        }
-
-        for (ColombianHoliday holiday : transferableHolidays) {
-            LocalDate baseDate = LocalDate.of(year.getValue(), holiday.getMonth(), holiday.getDay());
-            holidays.add(adjustToNextMonday(baseDate));
-        }
-
-        // Sort holidays by date in ascending order
-        holidays.sort(Comparator.naturalOrder());
-
-        return holidays;
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        List<LocalDate> dates = new ArrayList<>(getHolidayYear(year.getValue()).dates);
+        HolidayEvents.commitQuery(event, "getHolidayDatesForYear", year.getValue());
+        return dates;
     }
 
 
@@ -181,41 +285,9 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
             throw new IllegalArgumentException("The year must not be null");
         }
 
-        List<ColombianHoliday> holidays = new ArrayList<>();
-
-        for (ColombianHoliday holiday : fixedHolidays) {
-            LocalDate date = LocalDate.of(year.getValue(), holiday.getMonth(), holiday.getDay());
-            holidays.add(new ColombianHoliday.Builder()
-                    .from(holiday)
-                    .date(date)
-                    .build());
-        }
-
-        LocalDate easterSunday = EasterCalculator.calculateEasterSunday(year.getValue());
-        for (ColombianHoliday holiday : easterBasedHolidays) {
-            LocalDate baseDate = easterSunday.plusDays(holiday.getEasterOffset());
-            LocalDate finalDate = holiday.isTransferable() ?
-                    adjustToNextMonday(baseDate) : baseDate;
-
-            holidays.add(new ColombianHoliday.Builder()
-                    .from(holiday)
-                    .date(finalDate)
-                    .build());
-        }
-
-        for (ColombianHoliday holiday : transferableHolidays) {
-            LocalDate baseDate = LocalDate.of(year.getValue(), holiday.getMonth(), holiday.getDay());
-            LocalDate finalDate = adjustToNextMonday(baseDate);
-
-            holidays.add(new ColombianHoliday.Builder()
-                    .from(holiday)
-                    .date(finalDate)
-                    .build());
-        }
-
-        // Sort holidays by date in ascending order
-        holidays.sort(Comparator.naturalOrder());
-
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        List<ColombianHoliday> holidays = new ArrayList<>(getHolidayYear(year.getValue()).holidays);
+        HolidayEvents.commitQuery(event, "getHolidaysForYear", year.getValue());
         return holidays;
     }
 
@@ -224,9 +296,11 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         if (date == null) {
             throw new IllegalArgumentException("The date must not be null");
         }
-        return getHolidayDatesForYear(Year.of(date.getYear())).stream()
-                .filter(holidayDate -> holidayDate.isAfter(date))
-                .findFirst();
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        HolidayYear holidayYear = getHolidayYear(date.getYear());
+        int index = holidayYear.indexAfter(date.toEpochDay());
+        HolidayEvents.commitQuery(event, "getNextHolidayDate", date.getYear());
+        return index < holidayYear.epochDays.length ? Optional.of(holidayYear.dates.get(index)) : Optional.empty();
     }
 
     @Override
@@ -234,9 +308,11 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         if (date == null) {
             throw new IllegalArgumentException("The date must not be null");
         }
-        return getHolidaysForYear(Year.of(date.getYear())).stream()
-                .filter(holiday -> holiday.getDate().isAfter(date))
-                .findFirst();
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        HolidayYear holidayYear = getHolidayYear(date.getYear());
+        int index = holidayYear.indexAfter(date.toEpochDay());
+        HolidayEvents.commitQuery(event, "getNextHoliday", date.getYear());
+        return index < holidayYear.epochDays.length ? Optional.of(holidayYear.holidays.get(index)) : Optional.empty();
     }
 
     @Override
@@ -244,9 +320,11 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         if (date == null) {
             throw new IllegalArgumentException("The date must not be null");
         }
-        return getHolidayDatesForYear(Year.of(date.getYear())).stream()
-                .filter(holidayDate -> holidayDate.isBefore(date))
-                .reduce((first, second) -> second); // Get the last before date
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        HolidayYear holidayYear = getHolidayYear(date.getYear());
+        int index = holidayYear.indexBefore(date.toEpochDay());
+        HolidayEvents.commitQuery(event, "getPreviousHolidayDate", date.getYear());
+        return index >= 0 ? Optional.of(holidayYear.dates.get(index)) : Optional.empty();
     }
 
     @Override
@@ -254,9 +332,11 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         if (date == null) {
             throw new IllegalArgumentException("The date must not be null");
         }
-        return getHolidaysForYear(Year.of(date.getYear())).stream()
-                .filter(holiday -> holiday.getDate().isBefore(date))
-                .reduce((first, second) -> second); // Get the last before holiday
+        HolidayQueryEvent event = HolidayEvents.beginQuery();
+        HolidayYear holidayYear = getHolidayYear(date.getYear());
+        int index = holidayYear.indexBefore(date.toEpochDay());
+        HolidayEvents.commitQuery(event, "getPreviousHoliday", date.getYear());
+        return index >= 0 ? Optional.of(holidayYear.holidays.get(index)) : Optional.empty();
     }
 
     @Override
@@ -266,9 +346,225 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         }
 
         // Get de next Monday form a date
-        LocalDate nextMonday = date.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        long epochDay = date.toEpochDay();
+        long nextMonday = epochDay + 8 - EpochDayCalculator.dayOfWeek(epochDay);
 
-        return isHoliday(nextMonday);
+        return isHolidayEpochDay(nextMonday);
+    }
+
+    /**
+     * Gets the calendar version, incremented by every call to {@link #updateDefinitions(List, List, List)}.
+     *
+     * @return the version of the current holiday definitions, starting at {@link #INITIAL_VERSION}
+     */
+    @Override
+    public long getCalendarVersion() {
+        return definitions.version;
+    }
+
+    /**
+     * Registers a listener notified after every change of the holiday definitions.
+     * Listeners are called synchronously, in registration order, on the thread that updates the definitions,
+     * and one change at a time, so versions are always delivered in increasing order.
+     *
+     * @param listener the listener to add; must not be null
+     * @throws IllegalArgumentException if the {@code listener} is {@code null}
+     */
+    public void addChangeListener(CalendarChangeListener<ColombianHoliday> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("The listener must not be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added with {@link #addChangeListener(CalendarChangeListener)}.
+     *
+     * @param listener the listener to remove
+     * @return {@code true} if the listener was registered, {@code false} otherwise
+     */
+    public boolean removeChangeListener(CalendarChangeListener<ColombianHoliday> listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Replaces the holiday definitions, for example when a law adds or moves a holiday.
+     * <p>
+     * Definitions follow the conventions of {@link ColombianHolidayFactory}: fixed and transferable holidays use
+     * their month and day, Easter-based holidays their offset from Easter Sunday. The new definitions are published
+     * atomically with the next calendar version, so concurrent readers see either the old or the new calendar, and
+     * the per-year cache starts empty again.
+     * <p>
+     * The returned change is computed from the old and the new definitions, whether or not a year was ever
+     * queried: it reports the delta of every affected year from 1583 to 4099, the
+     * range of the per-year cache, and computes the delta of any other year on demand, so
+     * {@link CalendarChange#affects(LocalDate)} holds for every date. Registered listeners receive the same change.
+     * If a listener throws, the remaining listeners are still notified and the first exception is rethrown
+     * afterwards.
+     *
+     * @param fixedHolidays the holidays on a fixed month and day; must not be null
+     * @param easterBasedHolidays the holidays at an offset from Easter Sunday; must not be null
+     * @param transferableHolidays the holidays moved to the following Monday; must not be null
+     * @return the change between the previous and the new definitions
+     * @throws IllegalArgumentException if a list is {@code null} or contains {@code null}, or a definition can
+     *                                  fall outside its year: a fixed or transferable holiday without a valid
+     *                                  month and day of a common year, a transferable holiday after December 25,
+     *                                  or an Easter offset outside {@code [-80, 250]}, six days less for
+     *                                  transferable ones
+     */
+    public synchronized CalendarChange<ColombianHoliday> updateDefinitions(List<ColombianHoliday> fixedHolidays,
+                                                              List<ColombianHoliday> easterBasedHolidays,
+                                                              List<ColombianHoliday> transferableHolidays) {
+        if (fixedHolidays == null || easterBasedHolidays == null || transferableHolidays == null) {
+            throw new IllegalArgumentException("The holiday definitions must not be null");
+        }
+        if (containsNull(fixedHolidays) || containsNull(easterBasedHolidays) || containsNull(transferableHolidays)) {
+            throw new IllegalArgumentException("The holiday definitions must not contain null");
+        }
+        checkMonthDays(fixedHolidays, 31);
+        checkMonthDays(transferableHolidays, 25);
+        checkEasterOffsets(easterBasedHolidays);
+
+        Definitions previous = definitions;
+        Definitions updated = new Definitions(previous.version + 1,
+                List.copyOf(fixedHolidays), List.copyOf(easterBasedHolidays), List.copyOf(transferableHolidays));
+
+        // The change keeps only the definitions, not the per-year caches built from them
+        Definitions before = new Definitions(previous.version,
+                previous.fixedHolidays, previous.easterBasedHolidays, previous.transferableHolidays);
+        Definitions after = new Definitions(updated.version,
+                updated.fixedHolidays, updated.easterBasedHolidays, updated.transferableHolidays);
+        CalendarChange<ColombianHoliday> change = new CalendarChange<>(previous.version, updated.version,
+                Year.of(MIN_CACHED_YEAR), Year.of(MAX_CACHED_YEAR), year -> YearDelta.between(year,
+                        computeHolidays(before, year.getValue()), computeHolidays(after, year.getValue())));
+        definitions = updated;
+
+        notifyListeners(change);
+        return change;
+    }
+
+    /**
+     * Checks that every holiday has a month and a day of that month in every year, no later than
+     * {@code lastDayOfDecember} in December so that it stays within its year when moved to the next Monday.
+     */
+    private static void checkMonthDays(List<ColombianHoliday> holidays, int lastDayOfDecember) {
+        for (ColombianHoliday holiday : holidays) {
+            if (holiday.getMonth() == null || holiday.getDay() < 1
+                    || holiday.getDay() > holiday.getMonth().length(false)) {
+                throw new IllegalArgumentException("The holiday must have a valid month and day: "
+                        + holiday.getName());
+            }
+            if (holiday.getMonth() == Month.DECEMBER && holiday.getDay() > lastDayOfDecember) {
+                throw new IllegalArgumentException("The holiday must not be moved into the next year: "
+                        + holiday.getName());
+            }
+        }
+    }
+
+    private static void checkEasterOffsets(List<ColombianHoliday> holidays) {
+        for (ColombianHoliday holiday : holidays) {
+            int maxOffset = holiday.isTransferable() ? MAX_EASTER_OFFSET - 6 : MAX_EASTER_OFFSET;
+            if (holiday.getEasterOffset() < MIN_EASTER_OFFSET || holiday.getEasterOffset() > maxOffset) {
+                throw new IllegalArgumentException("The Easter offset must keep the holiday within its year: "
+                        + holiday.getName());
+            }
+        }
+    }
+
+    private static boolean containsNull(List<ColombianHoliday> holidays) {
+        for (ColombianHoliday holiday : holidays) {
+            if (holiday == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void notifyListeners(CalendarChange<ColombianHoliday> change) {
+        RuntimeException failure = null;
+        for (CalendarChangeListener<ColombianHoliday> listener : listeners) {
+            try {
+                listener.onCalendarChange(change);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Gets the computed holidays of a year. Years in the cached range are computed once and shared;
+     * concurrent first calls may compute the same year twice, which is harmless since it is immutable.
+     * A year computed while the definitions are being replaced lands in the cache of the old definitions,
+     * which is discarded with them.
+     *
+     * @param year the year to get the holidays for
+     * @return the holidays of the year
+     */
+    private HolidayYear getHolidayYear(int year) {
+        Definitions current = definitions;
+        if (year < MIN_CACHED_YEAR || year > MAX_CACHED_YEAR) {
+            return materialize(current, year, false);
+        }
+        int index = year - MIN_CACHED_YEAR;
+        HolidayYear holidayYear = current.holidayYears.get(index);
+        if (holidayYear == null) {
+            holidayYear = materialize(current, year, true);
+            current.holidayYears.lazySet(index, holidayYear);
+        }
+        return holidayYear;
+    }
+
+    private HolidayYear materialize(Definitions current, int year, boolean cached) {
+        HolidayYearEvent event = HolidayEvents.beginYear();
+        HolidayYear holidayYear = new HolidayYear(year, computeHolidays(current, year));
+        HolidayEvents.commitYear(event, year, holidayYear.epochDays.length, cached);
+        return holidayYear;
+    }
+
+    private List<ColombianHoliday> computeHolidays(Definitions current, int year) {
+        List<ColombianHoliday> holidays = new ArrayList<>();
+
+        for (ColombianHoliday holiday : current.fixedHolidays) {
+            LocalDate date = LocalDate.of(year, holiday.getMonth(), holiday.getDay());
+            holidays.add(new ColombianHoliday.Builder()
+                    .from(holiday)
+                    .date(date)
+                    .build());
+        }
+
+        LocalDate easterSunday = EasterCalculator.calculateEasterSunday(year);
+        for (ColombianHoliday holiday : current.easterBasedHolidays) {
+            LocalDate baseDate = easterSunday.plusDays(holiday.getEasterOffset());
+            LocalDate finalDate = holiday.isTransferable() ?
+                    adjustToNextMonday(baseDate) : baseDate;
+
+            holidays.add(new ColombianHoliday.Builder()
+                    .from(holiday)
+                    .date(finalDate)
+                    .build());
+        }
+
+        for (ColombianHoliday holiday : current.transferableHolidays) {
+            LocalDate baseDate = LocalDate.of(year, holiday.getMonth(), holiday.getDay());
+            LocalDate finalDate = adjustToNextMonday(baseDate);
+
+            holidays.add(new ColombianHoliday.Builder()
+                    .from(holiday)
+                    .date(finalDate)
+                    .build());
+        }
+
+        // Sort holidays by date in ascending order
+        holidays.sort(Comparator.naturalOrder());
+
+        return holidays;
     }
 
     /**
@@ -284,4 +580,81 @@ public class ColombianHolidayValidator implements HolidayValidator<ColombianHoli
         }
         return date;
     }
+
+    /**
+     * Lazy holder of the default validator, initialized by the JVM on first access to {@link #getDefault()}.
+     */
+    private static final class DefaultHolder {
+        private static final ColombianHolidayValidator INSTANCE = new ColombianHolidayValidator();
+    }
+
+    /**
+     * Immutable holiday definitions of one calendar version, with the per-year cache computed from them.
+     */
+    private static final class Definitions {
+        private final long version;
+        private final List<ColombianHoliday> fixedHolidays;
+        private final List<ColombianHoliday> easterBasedHolidays;
+        private final List<ColombianHoliday> transferableHolidays;
+        private final AtomicReferenceArray<HolidayYear> holidayYears =
+                new AtomicReferenceArray<>(MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1);
+
+        private Definitions(long version, List<ColombianHoliday> fixedHolidays,
+                            List<ColombianHoliday> easterBasedHolidays, List<ColombianHoliday> transferableHolidays) {
+            this.version = version;
+            this.fixedHolidays = fixedHolidays;
+            this.easterBasedHolidays = easterBasedHolidays;
+            this.transferableHolidays = transferableHolidays;
+        }
+    }
+
+    /**
+     * Immutable holidays of one year: the sorted holiday list, their dates and epoch days,
+     * and a bitmask where bit {@code n} is set when the {@code n}-th day of the year (zero based) is a holiday.
+     */
+    private static final class HolidayYear {
+        private final List<ColombianHoliday> holidays;
+        private final List<LocalDate> dates;
+        private final long[] epochDays;
+        private final long[] mask = new long[6];
+
+        private HolidayYear(int year, List<ColombianHoliday> holidays) {
+            this.holidays = List.copyOf(holidays);
+            LocalDate[] holidayDates = new LocalDate[holidays.size()];
+            this.epochDays = new long[holidays.size()];
+            long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(year);
+            for (int i = 0; i < holidayDates.length; i++) {
+                holidayDates[i] = holidays.get(i).getDate();
+                epochDays[i] = holidayDates[i].toEpochDay();
+                int dayOfYear = (int) (epochDays[i] - firstEpochDay);
+                // Definitions are checked to stay within their year; never let a stray date corrupt the mask
+                if (dayOfYear >= 0 && dayOfYear < mask.length * Long.SIZE) {
+                    mask[dayOfYear >>> 6] |= 1L << dayOfYear;
+                }
+            }
+            this.dates = List.of(holidayDates);
+        }
+
+        /**
+         * Gets the index of the first holiday strictly after an epoch day, or the holiday count if there is none.
+         */
+        private int indexAfter(long epochDay) {
+            int index = 0;
+            while (index < epochDays.length && epochDays[index] <= epochDay) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Gets the index of the last holiday strictly before an epoch day, or {@code -1} if there is none.
+         */
+        private int indexBefore(long epochDay) {
+            int index = epochDays.length - 1;
+            while (index >= 0 && epochDays[index] >= epochDay) {
+                index--;
+            }
+            return index;
+        }
+    }
 }
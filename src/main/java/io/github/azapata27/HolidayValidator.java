@@ -2,8 +2,12 @@ package io.github.azapata27;
 
 import io.github.azapata27.model.Holiday;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,77 @@ public interface HolidayValidator<T extends Holiday> {
      */
     boolean isHoliday(LocalDate date);
 
+    /**
+     * Checks if the local day containing the given instant is a holiday.
+     * The local day is resolved in the zone returned by {@link #getZone()}.
+     *
+     * @param instant the {@link Instant} to check; must not be null
+     * @return {@code true} if the local day of the instant is a holiday, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code instant} is null
+     */
+    default boolean isHolidayAt(Instant instant) {
+        if (instant == null) {
+            throw new IllegalArgumentException("The instant must not be null");
+        }
+        return isHoliday(LocalDate.ofInstant(instant, getZone()));
+    }
+
+    /**
+     * Checks if the local day containing the given UTC epoch-millis timestamp is a holiday.
+     * The local day is resolved in the zone returned by {@link #getZone()}.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @return {@code true} if the local day of the timestamp is a holiday, {@code false} otherwise
+     */
+    default boolean isHolidayEpochMillis(long epochMillis) {
+        return isHolidayAt(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * Checks if the given epoch day (days since 1970-01-01) is a holiday.
+     *
+     * @param epochDay the epoch day to check
+     * @return {@code true} if the epoch day is a holiday, {@code false} otherwise
+     */
+    default boolean isHolidayEpochDay(long epochDay) {
+        return isHoliday(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Checks if a given date is a business day, that is a Monday to Friday that is not a holiday.
+     *
+     * @param date the {@link LocalDate} to check; must not be null
+     * @return {@code true} if the date is a business day, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code date} is null
+     */
+    default boolean isBusinessDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY && !isHoliday(date);
+    }
+
+    /**
+     * Gets the zone used to resolve instants and timestamps to local days.
+     * Calendars bound to a country should override this with their civil time zone.
+     *
+     * @return the zone of this calendar, {@link ZoneOffset#UTC} by default
+     */
+    default ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    /**
+     * Gets the version of the holiday definitions. The version changes whenever the definitions change, so
+     * data derived from the calendar can be cached together with the version it was computed from.
+     *
+     * @return the current calendar version, {@code 0} by default for calendars whose definitions never change
+     */
+    default long getCalendarVersion() {
+        return 0;
+    }
+
     /**
      * Retrieves all holiday dates for a specific year.
      *
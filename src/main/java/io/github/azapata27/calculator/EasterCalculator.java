@@ -1,5 +1,8 @@
 package io.github.azapata27.calculator;
 
+import io.github.azapata27.jfr.EasterComputationEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+
 import java.time.LocalDate;
 
 /**
@@ -14,6 +17,7 @@ public class EasterCalculator {
     }
 
     public static LocalDate calculateEasterSunday(int year) {
+        EasterComputationEvent event = HolidayEvents.beginEaster();
         // Calculate Golden Number and century
         int goldenNumber = year % 19;
         int century = year / 100;
@@ -35,6 +39,8 @@ public class EasterCalculator {
         int month = paschalDays / 31;
         int day = (paschalDays % 31) + 1;
 
-        return LocalDate.of(year, month, day);
+        LocalDate easterSunday = LocalDate.of(year, month, day);
+        HolidayEvents.commitEaster(event, year, easterSunday);
+        return easterSunday;
     }
 }
\ No newline at end of file
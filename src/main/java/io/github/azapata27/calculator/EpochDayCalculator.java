@@ -0,0 +1,112 @@
+package io.github.azapata27.calculator;
+
+/**
+ * Primitive arithmetic over ISO epoch days (days since 1970-01-01) for the proleptic Gregorian calendar.
+ * <p>
+ * These operations mirror the conversions performed by {@link java.time.LocalDate} but work on
+ * {@code long} values only, so hot paths can move between instants, days and years without
+ * allocating intermediate date objects.
+ *
+ * @see java.time.LocalDate#toEpochDay()
+ * @see java.time.LocalDate#ofEpochDay(long)
+ */
+public class EpochDayCalculator {
+
+    /** Number of milliseconds in a civil day. */
+    public static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final int DAYS_PER_CYCLE = 146_097;
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private EpochDayCalculator() {
+    }
+
+    /**
+     * Converts a UTC epoch-millis timestamp to the epoch day observed at the given offset.
+     *
+     * @param epochMillis   milliseconds since 1970-01-01T00:00:00Z
+     * @param offsetMillis  total offset from UTC in milliseconds (e.g. {@code -18_000_000} for UTC-5)
+     * @return the local epoch day containing the instant
+     */
+    public static long toEpochDay(long epochMillis, long offsetMillis) {
+        return Math.floorDiv(epochMillis + offsetMillis, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Gets the proleptic Gregorian year that contains the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the year containing {@code epochDay}
+     */
+    public static int yearOf(long epochDay) {
+        // Same computation as LocalDate.ofEpochDay, based on a March-first year
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+
+        // January and February belong to the following calendar year
+        int marchMonth0 = ((int) doyEst * 5 + 2) / 153;
+        return (int) (yearEst + marchMonth0 / 10);
+    }
+
+    /**
+     * Gets the epoch day of the first day of the month that contains the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the epoch day of the first day of the month of {@code epochDay}
+     */
+    public static long firstEpochDayOfMonth(long epochDay) {
+        // Same computation as LocalDate.ofEpochDay, based on a March-first year whose months start every 30.6 days
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchMonth0 = ((int) doyEst * 5 + 2) / 153;
+        return epochDay - (doyEst - (marchMonth0 * 306 + 5) / 10);
+    }
+
+    /**
+     * Gets the epoch day of January 1st of the given year.
+     *
+     * @param year the proleptic Gregorian year
+     * @return the epoch day of the first day of {@code year}
+     */
+    public static long firstEpochDayOfYear(int year) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Gets the ISO day-of-week of the given epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the ISO day-of-week, from 1 (Monday) to 7 (Sunday)
+     */
+    public static int dayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.azapata27.calculator;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+
+/**
+ * Resolves UTC epoch-millis timestamps to the local epoch day observed in a time zone.
+ * <p>
+ * Most civil calendars stopped changing their UTC offset a long time ago. America/Bogota, for example,
+ * has used a fixed UTC-5 offset since the end of the 1992-1993 daylight saving experiment. For every
+ * instant after the last offset transition of a zone without recurring rules, the local day is computed
+ * with pure arithmetic and no allocation. Earlier instants, and zones that still observe daylight
+ * saving time, fall back to {@link ZoneRules#getOffset(Instant)}.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * EpochDayResolver resolver = new EpochDayResolver(ZoneId.of("America/Bogota"));
+ * long epochDay = resolver.toEpochDay(event.getTimestampMillis());
+ * }</pre>
+ *
+ * @see EpochDayCalculator
+ */
+public final class EpochDayResolver {
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final long fixedOffsetMillis;
+    private final long fixedSinceEpochMillis;
+    private final long fixedSinceEpochSecond;
+
+    /**
+     * Creates a resolver for the given zone.
+     *
+     * @param zone the zone whose local days are resolved; must not be null
+     * @throws IllegalArgumentException if {@code zone} is {@code null}
+     */
+    public EpochDayResolver(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("The zone must not be null");
+        }
+        this.zone = zone;
+        this.rules = zone.getRules();
+
+        List<ZoneOffsetTransition> transitions = rules.getTransitions();
+        if (rules.isFixedOffset()) {
+            this.fixedOffsetMillis = rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+            this.fixedSinceEpochMillis = Long.MIN_VALUE;
+            this.fixedSinceEpochSecond = Long.MIN_VALUE;
+        } else if (rules.getTransitionRules().isEmpty() && !transitions.isEmpty()) {
+            ZoneOffsetTransition last = transitions.get(transitions.size() - 1);
+            this.fixedOffsetMillis = last.getOffsetAfter().getTotalSeconds() * 1000L;
+            this.fixedSinceEpochMillis = last.getInstant().toEpochMilli();
+            this.fixedSinceEpochSecond = last.getInstant().getEpochSecond();
+        } else {
+            // Recurring daylight saving rules: the offset is never fixed
+            this.fixedOffsetMillis = 0;
+            this.fixedSinceEpochMillis = Long.MAX_VALUE;
+            this.fixedSinceEpochSecond = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Gets the zone this resolver works on.
+     *
+     * @return the zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Converts a UTC epoch-millis timestamp to the local epoch day in this resolver's zone.
+     * This method does not allocate for instants in the zone's current fixed-offset period.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @return the local epoch day containing the instant
+     */
+    public long toEpochDay(long epochMillis) {
+        if (epochMillis >= fixedSinceEpochMillis) {
+            return EpochDayCalculator.toEpochDay(epochMillis, fixedOffsetMillis);
+        }
+        int offsetSeconds = rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds();
+        return EpochDayCalculator.toEpochDay(epochMillis, offsetSeconds * 1000L);
+    }
+
+    /**
+     * Gets the UTC offset of this resolver's zone at an instant.
+     * This method does not allocate for instants in the zone's current fixed-offset period.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @return the offset in milliseconds to add to the instant to get the local time
+     */
+    public long getOffsetMillis(long epochMillis) {
+        if (epochMillis >= fixedSinceEpochMillis) {
+            return fixedOffsetMillis;
+        }
+        return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * Converts an instant to the local epoch day in this resolver's zone.
+     *
+     * @param instant the instant to convert; must not be null
+     * @return the local epoch day containing the instant
+     * @throws IllegalArgumentException if {@code instant} is {@code null}
+     */
+    public long toEpochDay(Instant instant) {
+        if (instant == null) {
+            throw new IllegalArgumentException("The instant must not be null");
+        }
+        long seconds = instant.getEpochSecond();
+        if (seconds >= fixedSinceEpochSecond) {
+            return Math.floorDiv(seconds + fixedOffsetMillis / 1000L, 86_400L);
+        }
+        int offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+        return Math.floorDiv(seconds + offsetSeconds, 86_400L);
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.azapata27.change;
+
+import io.github.azapata27.model.Holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable change between two versions of a holiday calendar, as a list of per-year deltas sorted by year.
+ * Years without differences have no delta.
+ * <p>
+ * A change built from a function of the year holds the deltas of a range of years, and computes the delta of any
+ * year outside that range when it is asked for, so {@link #getYearDelta(Year)} and {@link #affects(LocalDate)}
+ * are exact for every year.
+ *
+ * @param <T> the type of holiday of the calendar
+ */
+public final class CalendarChange<T extends Holiday> {
+
+    private final long previousVersion;
+    private final long version;
+    private final List<YearDelta<T>> yearDeltas;
+    private final Year firstYear;
+    private final Year lastYear;
+    private final Function<Year, YearDelta<T>> deltaOfYear;
+
+    /**
+     * Creates a change.
+     *
+     * @param previousVersion the calendar version before the change
+     * @param version the calendar version after the change
+     * @param yearDeltas the non-empty deltas of the affected years; must not be null
+     * @throws IllegalArgumentException if {@code yearDeltas} is {@code null} or contains {@code null}
+     */
+    public CalendarChange(long previousVersion, long version, List<YearDelta<T>> yearDeltas) {
+        if (yearDeltas == null || yearDeltas.stream().anyMatch(delta -> delta == null)) {
+            throw new IllegalArgumentException("The year deltas must not be null");
+        }
+        List<YearDelta<T>> sorted = new ArrayList<>(yearDeltas);
+        sorted.sort((a, b) -> a.getYear().compareTo(b.getYear()));
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.yearDeltas = List.copyOf(sorted);
+        this.firstYear = null;
+        this.lastYear = null;
+        this.deltaOfYear = null;
+    }
+
+    /**
+     * Creates a change from the delta of each year. The deltas of {@code [firstYear, lastYear]} are computed now
+     * and reported by {@link #getYearDeltas()}; those of any other year when {@link #getYearDelta(Year)} is called.
+     *
+     * @param previousVersion the calendar version before the change
+     * @param version the calendar version after the change
+     * @param firstYear the first year of the reported deltas, inclusive; must not be null
+     * @param lastYear the last year of the reported deltas, inclusive; must not be null
+     * @param deltaOfYear the delta of a year, possibly empty; must not be null nor return null
+     * @throws IllegalArgumentException if an argument is {@code null}, {@code lastYear} is before
+     *                                  {@code firstYear}, or {@code deltaOfYear} returns {@code null}
+     */
+    public CalendarChange(long previousVersion, long version, Year firstYear, Year lastYear,
+                          Function<Year, YearDelta<T>> deltaOfYear) {
+        if (firstYear == null || lastYear == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (lastYear.isBefore(firstYear)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (deltaOfYear == null) {
+            throw new IllegalArgumentException("The delta function must not be null");
+        }
+        List<YearDelta<T>> deltas = new ArrayList<>();
+        for (Year year = firstYear; !year.isAfter(lastYear); year = year.plusYears(1)) {
+            YearDelta<T> delta = checkDelta(deltaOfYear.apply(year));
+            if (!delta.isEmpty()) {
+                deltas.add(delta);
+            }
+        }
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.yearDeltas = List.copyOf(deltas);
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.deltaOfYear = deltaOfYear;
+    }
+
+    public long getPreviousVersion() {
+        return previousVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<YearDelta<T>> getYearDeltas() {
+        return yearDeltas;
+    }
+
+    /**
+     * Checks if the change has no effect on any of the reported years.
+     *
+     * @return {@code true} if there are no year deltas, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return yearDeltas.isEmpty();
+    }
+
+    /**
+     * Gets the years with at least one added, removed or re-typed holiday.
+     *
+     * @return the affected years in ascending order
+     */
+    public List<Year> getAffectedYears() {
+        List<Year> years = new ArrayList<>(yearDeltas.size());
+        for (YearDelta<T> delta : yearDeltas) {
+            years.add(delta.getYear());
+        }
+        return years;
+    }
+
+    /**
+     * Gets the delta of a year.
+     *
+     * @param year the year; must not be null
+     * @return the delta of the year, or empty if the year is not affected
+     * @throws IllegalArgumentException if {@code year} is null
+     */
+    public Optional<YearDelta<T>> getYearDelta(Year year) {
+        if (year == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (deltaOfYear != null && (year.isBefore(firstYear) || year.isAfter(lastYear))) {
+            YearDelta<T> delta = checkDelta(deltaOfYear.apply(year));
+            return delta.isEmpty() ? Optional.empty() : Optional.of(delta);
+        }
+        int low = 0;
+        int high = yearDeltas.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            YearDelta<T> delta = yearDeltas.get(middle);
+            int comparison = delta.getYear().compareTo(year);
+            if (comparison == 0) {
+                return Optional.of(delta);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a date is affected by the change, that is a holiday was added, removed or re-typed on it.
+     *
+     * @param date the date to check; must not be null
+     * @return {@code true} if cached data for the date must be invalidated, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code date} is null
+     */
+    public boolean affects(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        return getYearDelta(Year.of(date.getYear()))
+                .map(delta -> delta.getAffectedDates().contains(date))
+                .orElse(false);
+    }
+
+    private static <T extends Holiday> YearDelta<T> checkDelta(YearDelta<T> delta) {
+        if (delta == null) {
+            throw new IllegalArgumentException("The year delta must not be null");
+        }
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        if (yearDeltas.isEmpty()) {
+            return "CalendarChange{" + previousVersion + " -> " + version + ", years=[]}";
+        }
+        return "CalendarChange{" + previousVersion + " -> " + version + ", years=" + yearDeltas.size() + " in ["
+                + yearDeltas.get(0).getYear() + ", " + yearDeltas.get(yearDeltas.size() - 1).getYear() + "]}";
+    }
+}
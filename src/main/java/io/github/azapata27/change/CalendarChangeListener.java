@@ -0,0 +1,20 @@
+package io.github.azapata27.change;
+
+import io.github.azapata27.model.Holiday;
+
+/**
+ * Listener notified when the holiday definitions of a calendar change, so that caches of derived data such as
+ * due dates or business-day counts can invalidate only the affected years and dates.
+ *
+ * @param <T> the type of holiday of the calendar
+ */
+@FunctionalInterface
+public interface CalendarChangeListener<T extends Holiday> {
+
+    /**
+     * Called after the new definitions are published; queries made from the listener already see them.
+     *
+     * @param change the change between the previous and the current calendar version
+     */
+    void onCalendarChange(CalendarChange<T> change);
+}
@@ -0,0 +1,165 @@
+package io.github.azapata27.change;
+
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable differences between the holidays of one year in two versions of a calendar.
+ * <ul>
+ *   <li><b>added</b> - holidays on dates that were not holidays before</li>
+ *   <li><b>removed</b> - holidays on dates that are no longer holidays</li>
+ *   <li><b>retyped</b> - holidays on dates that stay holidays but whose name or type changed, as they are now</li>
+ * </ul>
+ * Since {@link Holiday#equals(Object)} only compares dates, re-typing is detected by comparing the name, the type
+ * and, for {@link ColombianHoliday}, the Colombian type of the holidays on each date.
+ *
+ * @param <T> the type of holiday of the calendar
+ */
+public final class YearDelta<T extends Holiday> {
+
+    private final Year year;
+    private final List<T> added;
+    private final List<T> removed;
+    private final List<T> retyped;
+
+    private YearDelta(Year year, List<T> added, List<T> removed, List<T> retyped) {
+        this.year = year;
+        this.added = List.copyOf(added);
+        this.removed = List.copyOf(removed);
+        this.retyped = List.copyOf(retyped);
+    }
+
+    /**
+     * Computes the delta between the holidays of a year before and after a change.
+     *
+     * @param year the year; must not be null
+     * @param before the holidays of the year before the change; must not be null
+     * @param after the holidays of the year after the change; must not be null
+     * @param <T> the type of holiday
+     * @return the delta, empty if both lists define the same holidays
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public static <T extends Holiday> YearDelta<T> between(Year year, List<T> before, List<T> after) {
+        if (year == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (before == null || after == null) {
+            throw new IllegalArgumentException("The holidays must not be null");
+        }
+        Map<LocalDate, List<T>> beforeByDate = groupByDate(before);
+        Map<LocalDate, List<T>> afterByDate = groupByDate(after);
+
+        List<T> added = new ArrayList<>();
+        List<T> retyped = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<T>> entry : afterByDate.entrySet()) {
+            List<T> previous = beforeByDate.get(entry.getKey());
+            if (previous == null) {
+                added.addAll(entry.getValue());
+            } else if (!sameDefinitions(previous, entry.getValue())) {
+                retyped.addAll(entry.getValue());
+            }
+        }
+        List<T> removed = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<T>> entry : beforeByDate.entrySet()) {
+            if (!afterByDate.containsKey(entry.getKey())) {
+                removed.addAll(entry.getValue());
+            }
+        }
+        return new YearDelta<>(year, added, removed, retyped);
+    }
+
+    public Year getYear() {
+        return year;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getRetyped() {
+        return retyped;
+    }
+
+    /**
+     * Checks if the year has no differences.
+     *
+     * @return {@code true} if nothing was added, removed or re-typed, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && retyped.isEmpty();
+    }
+
+    /**
+     * Gets every date with an added, removed or re-typed holiday.
+     *
+     * @return the affected dates in ascending order, without duplicates
+     */
+    public List<LocalDate> getAffectedDates() {
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (T holiday : added) {
+            dates.add(holiday.getDate());
+        }
+        for (T holiday : removed) {
+            dates.add(holiday.getDate());
+        }
+        for (T holiday : retyped) {
+            dates.add(holiday.getDate());
+        }
+        return List.copyOf(dates);
+    }
+
+    @Override
+    public String toString() {
+        return "YearDelta{year=" + year + ", added=" + added.size() + ", removed=" + removed.size()
+                + ", retyped=" + retyped.size() + "}";
+    }
+
+    private static <T extends Holiday> Map<LocalDate, List<T>> groupByDate(List<T> holidays) {
+        Map<LocalDate, List<T>> byDate = new TreeMap<>();
+        for (T holiday : holidays) {
+            byDate.computeIfAbsent(holiday.getDate(), date -> new ArrayList<>()).add(holiday);
+        }
+        return byDate;
+    }
+
+    private static <T extends Holiday> boolean sameDefinitions(List<T> before, List<T> after) {
+        if (before.size() != after.size()) {
+            return false;
+        }
+        List<T> unmatched = new ArrayList<>(after);
+        for (T holiday : before) {
+            int match = 0;
+            while (match < unmatched.size() && !sameDefinition(holiday, unmatched.get(match))) {
+                match++;
+            }
+            if (match == unmatched.size()) {
+                return false;
+            }
+            unmatched.remove(match);
+        }
+        return true;
+    }
+
+    private static boolean sameDefinition(Holiday a, Holiday b) {
+        if (!Objects.equals(a.getName(), b.getName()) || a.getType() != b.getType()) {
+            return false;
+        }
+        if (a instanceof ColombianHoliday && b instanceof ColombianHoliday) {
+            return ((ColombianHoliday) a).getColombianType() == ((ColombianHoliday) b).getColombianType();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.azapata27.clock;
+
+import io.github.azapata27.HolidayValidator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Answers "today" questions against a {@link HolidayValidator}, caching the answers for the current local day.
+ * <p>
+ * The status of today, the next holiday and the next business day are computed once per local day and kept
+ * in an immutable snapshot. Every query reads the snapshot through a single volatile read and compares the
+ * current {@link Clock#millis()} against the day boundaries; the validator is only consulted again when the
+ * clock crosses into another day (in either direction), or when the
+ * {@link HolidayValidator#getCalendarVersion() calendar version} changes, at which point a new snapshot replaces
+ * the old one.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayClock holidayClock = new HolidayClock(new ColombianHolidayValidator());
+ *
+ * if (holidayClock.isBusinessDayToday()) {
+ *     // ...
+ * }
+ * LocalDate nextHoliday = holidayClock.getNextHolidayDate();
+ * }</pre>
+ *
+ * @see HolidayValidator
+ */
+public final class HolidayClock {
+
+    private static final int NEXT_HOLIDAY_SEARCH_YEARS = 10;
+
+    private final HolidayValidator<?> validator;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a holiday clock that follows the system clock in the validator's zone.
+     *
+     * @param validator the validator to query; must not be null
+     * @throws IllegalArgumentException if {@code validator} is {@code null}
+     */
+    public HolidayClock(HolidayValidator<?> validator) {
+        this(validator, validator == null ? null : Clock.system(validator.getZone()));
+    }
+
+    /**
+     * Creates a holiday clock that follows the given clock. Local days are resolved in the clock's zone.
+     *
+     * @param validator the validator to query; must not be null
+     * @param clock the clock providing the current instant and zone; must not be null
+     * @throws IllegalArgumentException if {@code validator} or {@code clock} is {@code null}
+     */
+    public HolidayClock(HolidayValidator<?> validator, Clock clock) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("The clock must not be null");
+        }
+        this.validator = validator;
+        this.clock = clock;
+        this.snapshot = computeSnapshot(clock.millis());
+    }
+
+    /**
+     * Gets the current local date.
+     *
+     * @return today's date in the clock's zone
+     */
+    public LocalDate today() {
+        return current().today;
+    }
+
+    /**
+     * Checks if today is a holiday.
+     *
+     * @return {@code true} if today is a holiday, {@code false} otherwise
+     */
+    public boolean isHolidayToday() {
+        return current().holiday;
+    }
+
+    /**
+     * Checks if today is a business day.
+     *
+     * @return {@code true} if today is a business day, {@code false} otherwise
+     * @see HolidayValidator#isBusinessDay(LocalDate)
+     */
+    public boolean isBusinessDayToday() {
+        return current().businessDay;
+    }
+
+    /**
+     * Gets the first holiday strictly after today, looking into the following years if needed.
+     *
+     * @return the date of the next holiday, or {@code null} if the calendar defines none in the next ten years
+     */
+    public LocalDate getNextHolidayDate() {
+        return current().nextHoliday;
+    }
+
+    /**
+     * Gets the first business day strictly after today.
+     *
+     * @return the date of the next business day
+     */
+    public LocalDate getNextBusinessDay() {
+        return current().nextBusinessDay;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        long now = clock.millis();
+        if (now >= current.startMillis && now < current.endMillis
+                && current.calendarVersion == validator.getCalendarVersion()) {
+            return current;
+        }
+        Snapshot refreshed = computeSnapshot(now);
+        snapshot = refreshed;
+        return refreshed;
+    }
+
+    private Snapshot computeSnapshot(long nowMillis) {
+        long calendarVersion = validator.getCalendarVersion();
+        ZoneId zone = clock.getZone();
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(nowMillis), zone);
+        long startMillis = today.atStartOfDay(zone).toInstant().toEpochMilli();
+        long endMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        LocalDate nextBusinessDay = today.plusDays(1);
+        while (!validator.isBusinessDay(nextBusinessDay)) {
+            nextBusinessDay = nextBusinessDay.plusDays(1);
+        }
+
+        return new Snapshot(today, startMillis, endMillis, calendarVersion,
+                validator.isHoliday(today),
+                validator.isBusinessDay(today),
+                findNextHolidayDate(today),
+                nextBusinessDay);
+    }
+
+    private LocalDate findNextHolidayDate(LocalDate today) {
+        return validator.getNextHolidayDate(today).orElseGet(() -> {
+            // Holiday lookups stop at the end of the year, continue with the first holiday of the next ones
+            for (int year = today.getYear() + 1; year <= today.getYear() + NEXT_HOLIDAY_SEARCH_YEARS; year++) {
+                List<LocalDate> holidays = validator.getHolidayDatesForYear(Year.of(year));
+                if (!holidays.isEmpty()) {
+                    return holidays.get(0);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Immutable answers for one local day, valid for instants in {@code [startMillis, endMillis)}
+     * while the calendar version of the validator stays the same.
+     */
+    private static final class Snapshot {
+        private final LocalDate today;
+        private final long startMillis;
+        private final long endMillis;
+        private final long calendarVersion;
+        private final boolean holiday;
+        private final boolean businessDay;
+        private final LocalDate nextHoliday;
+        private final LocalDate nextBusinessDay;
+
+        private Snapshot(LocalDate today, long startMillis, long endMillis, long calendarVersion, boolean holiday,
+                         boolean businessDay, LocalDate nextHoliday, LocalDate nextBusinessDay) {
+            this.today = today;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.calendarVersion = calendarVersion;
+            this.holiday = holiday;
+            this.businessDay = businessDay;
+            this.nextHoliday = nextHoliday;
+            this.nextBusinessDay = nextBusinessDay;
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package io.github.azapata27.codec;
+
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.enums.HolidayType;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, versioned binary format for holidays and holiday lists, meant for shipping computed calendars between
+ * nodes, for example through a distributed cache.
+ * <p>
+ * A document holds a list of holidays, typically one or more years of a calendar:
+ * <pre>
+ * byte     magic 'H'
+ * byte     format version, currently {@value #FORMAT_VERSION}
+ * varint   number of distinct names, followed by each name as a varint UTF-8 length and its bytes
+ * varint   number of holidays, followed by each holiday:
+ *   varint   header: bit 0 set when the holiday has a date, then (colombianType + 1) * 8 + (type + 1),
+ *            where types are enum ordinals and 0 stands for null
+ *   zigzag   epoch day minus the epoch day of the previous dated holiday (0 for the first), if dated
+ *   varint   index of the name in the dictionary, 1-based, or 0 for null
+ *   varint   definition month, 1 to 12, or 0 for null
+ *   zigzag   definition day of month
+ *   zigzag   Easter offset
+ * </pre>
+ * Varints are unsigned LEB128 and zigzag values are signed varints as in Protocol Buffers. Dates of a sorted list
+ * differ by a few days, so a holiday usually takes seven bytes and each name is stored once per document, which
+ * makes a multi-year calendar more than ten times smaller than its JSON form.
+ * <p>
+ * Encoding writes straight into the caller's buffer, without intermediate arrays or streams. Decoding creates only
+ * the holidays, their dates and one string per distinct name, shared by all holidays with that name. Since
+ * {@link Holiday} is abstract, holidays are decoded as {@link ColombianHoliday}; holidays of other types keep their
+ * name, dates and base type, with no Colombian type.
+ * <p>
+ * Enum ordinals are part of the format: new enum constants must be appended, and any other change to the layout
+ * must increment {@link #FORMAT_VERSION}. Documents of an unknown version are rejected.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * List<ColombianHoliday> holidays = validator.getHolidaysForYear(Year.of(2024));
+ * ByteBuffer buffer = ByteBuffer.allocate(HolidayBinaryCodec.encodedSize(holidays));
+ * HolidayBinaryCodec.encode(holidays, buffer);
+ *
+ * buffer.flip();
+ * List<ColombianHoliday> decoded = HolidayBinaryCodec.decode(buffer);
+ * }</pre>
+ *
+ * @see HolidayJsonEncoder
+ */
+public final class HolidayBinaryCodec {
+
+    /** Version of the binary layout written by this codec. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte MAGIC = 'H';
+    /** Radix of the base type in the header, leaving room for up to seven holiday types. */
+    private static final int TYPE_RADIX = 8;
+    private static final HolidayType[] HOLIDAY_TYPES = HolidayType.values();
+    private static final ColombianHolidayType[] COLOMBIAN_TYPES = ColombianHolidayType.values();
+
+    private HolidayBinaryCodec() {
+    }
+
+    /**
+     * Encodes a single holiday as a document of one holiday.
+     *
+     * @param holiday the holiday to encode; must not be null
+     * @return the encoded document
+     * @throws IllegalArgumentException if the holiday is {@code null}
+     */
+    public static byte[] encode(Holiday holiday) {
+        if (holiday == null) {
+            throw new IllegalArgumentException("The holiday must not be null");
+        }
+        return encode(List.of(holiday));
+    }
+
+    /**
+     * Encodes a list of holidays, keeping the order of the list.
+     *
+     * @param holidays the holidays to encode; must not be null nor contain null elements
+     * @return the encoded document
+     * @throws IllegalArgumentException if the list or one of its elements is {@code null}
+     */
+    public static byte[] encode(List<? extends Holiday> holidays) {
+        String[] names = dictionaryOf(holidays);
+        ByteBuffer buffer = ByteBuffer.allocate(write(holidays, names, null));
+        write(holidays, names, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Encodes a list of holidays into a buffer, starting at its position, keeping the order of the list.
+     *
+     * @param holidays the holidays to encode; must not be null nor contain null elements
+     * @param target the buffer to write to; must not be null
+     * @return the number of bytes written, the buffer position being advanced by as much
+     * @throws IllegalArgumentException if an argument or an element of the list is {@code null}
+     * @throws BufferOverflowException if the buffer has fewer than {@link #encodedSize(List)} bytes remaining,
+     *                                 in which case nothing is written
+     */
+    public static int encode(List<? extends Holiday> holidays, ByteBuffer target) {
+        if (target == null) {
+            throw new IllegalArgumentException("The buffer must not be null");
+        }
+        String[] names = dictionaryOf(holidays);
+        int size = write(holidays, names, null);
+        if (target.remaining() < size) {
+            throw new BufferOverflowException();
+        }
+        write(holidays, names, target);
+        return size;
+    }
+
+    /**
+     * Gets the exact size of the encoded document of a list of holidays.
+     *
+     * @param holidays the holidays to encode; must not be null nor contain null elements
+     * @return the size of the document in bytes
+     * @throws IllegalArgumentException if the list or one of its elements is {@code null}
+     */
+    public static int encodedSize(List<? extends Holiday> holidays) {
+        return write(holidays, dictionaryOf(holidays), null);
+    }
+
+    /**
+     * Decodes a document from a buffer, starting at its position.
+     *
+     * @param source the buffer to read from; must not be null
+     * @return the decoded holidays, in their encoded order
+     * @throws IllegalArgumentException if the buffer is {@code null}, the document is malformed or truncated,
+     *                                  or its version is not supported; the buffer position is then unchanged
+     */
+    public static List<ColombianHoliday> decode(ByteBuffer source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The buffer must not be null");
+        }
+        int start = source.position();
+        try {
+            return read(source);
+        } catch (IllegalArgumentException e) {
+            source.position(start);
+            throw e;
+        } catch (BufferUnderflowException e) {
+            source.position(start);
+            throw new IllegalArgumentException("The holiday document is truncated", e);
+        } catch (DateTimeException e) {
+            source.position(start);
+            throw new IllegalArgumentException("Invalid date in holiday document", e);
+        }
+    }
+
+    /**
+     * Decodes a document holding a single holiday.
+     *
+     * @param source the buffer to read from; must not be null
+     * @return the decoded holiday
+     * @throws IllegalArgumentException if the buffer is {@code null}, the document is malformed or does not hold
+     *                                  exactly one holiday
+     */
+    public static ColombianHoliday decodeHoliday(ByteBuffer source) {
+        List<ColombianHoliday> holidays = decode(source);
+        if (holidays.size() != 1) {
+            throw new IllegalArgumentException("The holiday document must hold exactly one holiday");
+        }
+        return holidays.get(0);
+    }
+
+    private static String[] dictionaryOf(List<? extends Holiday> holidays) {
+        if (holidays == null) {
+            throw new IllegalArgumentException("The holidays must not be null");
+        }
+        String[] names = new String[Math.min(holidays.size(), 16)];
+        int count = 0;
+        for (Holiday holiday : holidays) {
+            if (holiday == null) {
+                throw new IllegalArgumentException("The holidays must not contain null elements");
+            }
+            String name = holiday.getName();
+            if (name != null && indexOf(names, count, name) == 0) {
+                if (count == names.length) {
+                    names = Arrays.copyOf(names, count * 2);
+                }
+                names[count++] = name;
+            }
+        }
+        return Arrays.copyOf(names, count);
+    }
+
+    /**
+     * Gets the 1-based index of a name in the first {@code count} dictionary entries, or 0 if it is absent.
+     */
+    private static int indexOf(String[] names, int count, String name) {
+        if (name == null) {
+            return 0;
+        }
+        int hash = name.hashCode();
+        for (int i = 0; i < count; i++) {
+            String candidate = names[i];
+            if (candidate == name || (candidate.hashCode() == hash && candidate.equals(name))) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Writes a document to {@code out}, or only measures it when {@code out} is null.
+     *
+     * @return the size of the document in bytes
+     */
+    private static int write(List<? extends Holiday> holidays, String[] names, ByteBuffer out) {
+        int size = putByte(out, MAGIC) + putByte(out, FORMAT_VERSION);
+        size += putVarint(out, names.length);
+        for (String name : names) {
+            size += putString(out, name);
+        }
+        size += putVarint(out, holidays.size());
+        long previousEpochDay = 0;
+        for (Holiday holiday : holidays) {
+            LocalDate date = holiday.getDate();
+            HolidayType type = holiday.getType();
+            ColombianHolidayType colombianType = null;
+            int easterOffset = 0;
+            if (holiday instanceof ColombianHoliday) {
+                colombianType = ((ColombianHoliday) holiday).getColombianType();
+                easterOffset = ((ColombianHoliday) holiday).getEasterOffset();
+            }
+            long typeCode = (colombianType == null ? 0 : colombianType.ordinal() + 1L) * TYPE_RADIX
+                    + (type == null ? 0 : type.ordinal() + 1);
+            size += putVarint(out, typeCode << 1 | (date == null ? 0 : 1));
+            if (date != null) {
+                long epochDay = date.toEpochDay();
+                size += putZigzag(out, epochDay - previousEpochDay);
+                previousEpochDay = epochDay;
+            }
+            size += putVarint(out, indexOf(names, names.length, holiday.getName()));
+            size += putVarint(out, holiday.getMonth() == null ? 0 : holiday.getMonth().getValue());
+            size += putZigzag(out, holiday.getDay());
+            size += putZigzag(out, easterOffset);
+        }
+        return size;
+    }
+
+    private static List<ColombianHoliday> read(ByteBuffer in) {
+        if (in.get() != MAGIC) {
+            throw new IllegalArgumentException("The buffer does not hold a holiday document");
+        }
+        int version = in.get() & 0xFF;
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported holiday document version: " + version);
+        }
+        String[] names = new String[count(in)];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = getString(in);
+        }
+        int count = count(in);
+        List<ColombianHoliday> holidays = new ArrayList<>(count);
+        long previousEpochDay = 0;
+        for (int i = 0; i < count; i++) {
+            long header = getVarint(in);
+            long typeCode = header >>> 1;
+            int typeOrdinal = (int) (typeCode % TYPE_RADIX);
+            long colombianOrdinal = typeCode / TYPE_RADIX;
+            if (typeOrdinal > HOLIDAY_TYPES.length || colombianOrdinal > COLOMBIAN_TYPES.length) {
+                throw new IllegalArgumentException("Unknown holiday type in holiday document");
+            }
+            ColombianHoliday.Builder builder = new ColombianHoliday.Builder();
+            if ((header & 1) != 0) {
+                previousEpochDay += getZigzag(in);
+                builder.date(LocalDate.ofEpochDay(previousEpochDay));
+            }
+            long nameIndex = getVarint(in);
+            if (nameIndex > names.length) {
+                throw new IllegalArgumentException("Unknown name in holiday document");
+            }
+            long month = getVarint(in);
+            if (month > 12) {
+                throw new IllegalArgumentException("Invalid month in holiday document");
+            }
+            int day = (int) getZigzag(in);
+            int easterOffset = (int) getZigzag(in);
+
+            if (colombianOrdinal > 0) {
+                builder.type(COLOMBIAN_TYPES[(int) colombianOrdinal - 1]);
+            }
+            // The base type is set last, as setting the Colombian type also sets its default base type
+            builder.type(typeOrdinal == 0 ? null : HOLIDAY_TYPES[typeOrdinal - 1]);
+            holidays.add(builder
+                    .name(nameIndex == 0 ? null : names[(int) nameIndex - 1])
+                    .date(month == 0 ? null : Month.of((int) month), day)
+                    .easterOffset(easterOffset)
+                    .build());
+        }
+        return holidays;
+    }
+
+    private static int putByte(ByteBuffer out, int value) {
+        if (out != null) {
+            out.put((byte) value);
+        }
+        return 1;
+    }
+
+    private static int putVarint(ByteBuffer out, long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            putByte(out, (int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+            size++;
+        }
+        putByte(out, (int) value);
+        return size;
+    }
+
+    private static int putZigzag(ByteBuffer out, long value) {
+        return putVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static int putString(ByteBuffer out, String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        int size = putVarint(out, length) + length;
+        if (out == null) {
+            return size;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: replaced like String.getBytes(UTF_8) does
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+        return size;
+    }
+
+    private static long getVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid varint in holiday document");
+    }
+
+    private static long getZigzag(ByteBuffer in) {
+        long value = getVarint(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a count, which can not exceed the remaining bytes since every element takes at least one byte.
+     */
+    private static int count(ByteBuffer in) {
+        long count = getVarint(in);
+        if (count > in.remaining()) {
+            throw new IllegalArgumentException("Invalid count in holiday document");
+        }
+        return (int) count;
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = count(in);
+        String text;
+        if (in.hasArray()) {
+            text = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            text = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+}
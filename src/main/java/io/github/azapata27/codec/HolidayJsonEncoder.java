@@ -0,0 +1,404 @@
+package io.github.azapata27.codec;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Encodes holidays as UTF-8 JSON without any dependency, and keeps the encoded document of each year so repeated
+ * requests are served as a plain buffer write.
+ * <p>
+ * A holiday is encoded as an object with its ISO date, name and {@link io.github.azapata27.enums.HolidayType};
+ * a {@link ColombianHoliday} also carries its {@link io.github.azapata27.enums.ColombianHolidayType}:
+ * <pre>{@code
+ * {"date":"2024-03-25","name":"Día de San José","type":"TRANSFERABLE","colombianType":"TRANSFERABLE_RELIGIOUS"}
+ * }</pre>
+ * The year document wraps the holidays of a year: {@code {"year":2024,"holidays":[...]}}. Names are written as
+ * UTF-8 directly from their characters, escaping quotes, backslashes and control characters.
+ * <p>
+ * The year documents of years 1583 to 4099 are encoded once and cached; other years are encoded on every call.
+ * Each document is kept as an {@link EncodedYear} together with a strong entity tag computed when it is encoded,
+ * so HTTP servers can answer conditional requests without hashing or copying the document.
+ * The cache is dropped when the {@link HolidayValidator#getCalendarVersion() calendar version} of the validator
+ * changes, so updated holiday definitions are served from the next call on.
+ * Instances are thread-safe when the validator is.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayJsonEncoder encoder = new HolidayJsonEncoder(ColombianHolidayValidator.getDefault());
+ * encoder.writeYear(Year.of(2024), response.getOutputStream());
+ * }</pre>
+ */
+public final class HolidayJsonEncoder {
+
+    private static final int MIN_CACHED_YEAR = 1583;
+    private static final int MAX_CACHED_YEAR = 4099;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final HolidayValidator<? extends Holiday> validator;
+    private volatile EncodedYears encodedYears;
+
+    /**
+     * Creates an encoder for the holidays of a validator.
+     *
+     * @param validator the validator giving the holidays of each year; must not be null
+     * @throws IllegalArgumentException if the validator is {@code null}
+     */
+    public HolidayJsonEncoder(HolidayValidator<? extends Holiday> validator) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        this.validator = validator;
+        this.encodedYears = new EncodedYears(validator.getCalendarVersion());
+    }
+
+    /**
+     * Encodes a single holiday as a JSON object.
+     *
+     * @param holiday the holiday to encode; must not be null
+     * @return the UTF-8 bytes of the JSON object
+     * @throws IllegalArgumentException if the holiday is {@code null}
+     */
+    public static byte[] encode(Holiday holiday) {
+        if (holiday == null) {
+            throw new IllegalArgumentException("The holiday must not be null");
+        }
+        Utf8Buffer buffer = new Utf8Buffer(128);
+        buffer.writeHoliday(holiday);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Encodes a list of holidays as a JSON array, keeping the order of the list.
+     *
+     * @param holidays the holidays to encode; must not be null nor contain null elements
+     * @return the UTF-8 bytes of the JSON array
+     * @throws IllegalArgumentException if the list or one of its elements is {@code null}
+     */
+    public static byte[] encode(List<? extends Holiday> holidays) {
+        if (holidays == null) {
+            throw new IllegalArgumentException("The holidays must not be null");
+        }
+        Utf8Buffer buffer = new Utf8Buffer(holidays.size() * 112 + 2);
+        buffer.writeHolidays(holidays);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Gets the encoded year document as a read-only buffer positioned at its start.
+     * The returned buffer is independent of other callers, so it can be consumed freely.
+     *
+     * @param year the year to encode; must not be null
+     * @return a read-only buffer with the UTF-8 JSON document of the year
+     * @throws IllegalArgumentException if the year is {@code null}
+     */
+    public ByteBuffer getYear(Year year) {
+        return getEncodedYear(year).buffer.duplicate();
+    }
+
+    /**
+     * Gets a copy of the encoded year document.
+     *
+     * @param year the year to encode; must not be null
+     * @return the UTF-8 bytes of the JSON document of the year
+     * @throws IllegalArgumentException if the year is {@code null}
+     */
+    public byte[] getYearBytes(Year year) {
+        byte[] bytes = getEncodedYear(year).bytes;
+        return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    /**
+     * Gets the encoded year document together with its entity tag. The document is shared with other callers and
+     * is never copied.
+     *
+     * @param year the year to encode; must not be null
+     * @return the encoded document of the year
+     * @throws IllegalArgumentException if the year is {@code null}
+     */
+    public EncodedYear getEncodedYear(Year year) {
+        if (year == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        int value = year.getValue();
+        if (value < MIN_CACHED_YEAR || value > MAX_CACHED_YEAR) {
+            return encodeYear(year);
+        }
+        // Reading the version first means a document is never older than the cache it is published to
+        long version = validator.getCalendarVersion();
+        EncodedYears current = encodedYears;
+        if (current.version != version) {
+            current = new EncodedYears(version);
+            encodedYears = current;
+        }
+        int index = value - MIN_CACHED_YEAR;
+        EncodedYear encoded = current.years.get(index);
+        if (encoded == null) {
+            // Racing threads encode identical documents, so publishing any of them is safe
+            encoded = encodeYear(year);
+            current.years.lazySet(index, encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * Writes the encoded year document to a stream.
+     *
+     * @param year the year to write; must not be null
+     * @param out the stream to write to, left open; must not be null
+     * @return the number of bytes written
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public int writeYear(Year year, OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("The output stream must not be null");
+        }
+        return getEncodedYear(year).writeTo(out);
+    }
+
+    /**
+     * Writes the encoded year document to a channel.
+     *
+     * @param year the year to write; must not be null
+     * @param channel the channel to write to, left open; must not be null
+     * @return the number of bytes written
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public int writeYear(Year year, WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("The channel must not be null");
+        }
+        ByteBuffer buffer = getYear(year);
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    private EncodedYear encodeYear(Year year) {
+        List<? extends Holiday> holidays = validator.getHolidaysForYear(year);
+        Utf8Buffer buffer = new Utf8Buffer(holidays.size() * 112 + 32);
+        buffer.writeAscii("{\"year\":").writeAscii(Integer.toString(year.getValue())).writeAscii(",\"holidays\":");
+        buffer.writeHolidays(holidays);
+        buffer.writeByte('}');
+        return new EncodedYear(buffer.toByteArray());
+    }
+
+    /**
+     * Encoded year documents of one calendar version.
+     */
+    private static final class EncodedYears {
+        private final long version;
+        private final AtomicReferenceArray<EncodedYear> years =
+                new AtomicReferenceArray<>(MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1);
+
+        private EncodedYears(long version) {
+            this.version = version;
+        }
+    }
+
+    /**
+     * The immutable UTF-8 JSON document of a year and its strong entity tag.
+     */
+    public static final class EncodedYear {
+        private final byte[] bytes;
+        private final ByteBuffer buffer;
+        private final String eTag;
+
+        private EncodedYear(byte[] bytes) {
+            this.bytes = bytes;
+            this.buffer = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+            // 64-bit FNV-1a over the exact document bytes
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : bytes) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            this.eTag = '"' + Long.toHexString(hash) + '"';
+        }
+
+        /**
+         * Gets the strong entity tag of the document, quoted as sent in an {@code ETag} header. Documents with the
+         * same bytes have the same tag.
+         *
+         * @return the quoted entity tag
+         */
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * Gets the length of the document.
+         *
+         * @return the number of UTF-8 bytes of the document
+         */
+        public int getLength() {
+            return bytes.length;
+        }
+
+        /**
+         * Writes the document to a stream.
+         *
+         * @param out the stream to write to, left open; must not be null
+         * @return the number of bytes written
+         * @throws IOException if writing fails
+         * @throws IllegalArgumentException if the stream is {@code null}
+         */
+        public int writeTo(OutputStream out) throws IOException {
+            if (out == null) {
+                throw new IllegalArgumentException("The output stream must not be null");
+            }
+            out.write(bytes);
+            return bytes.length;
+        }
+    }
+
+    /**
+     * Growable byte array encoding strings to UTF-8 directly from their UTF-16 characters.
+     */
+    private static final class Utf8Buffer {
+        private byte[] bytes;
+        private int size;
+
+        private Utf8Buffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void writeHolidays(List<? extends Holiday> holidays) {
+            writeByte('[');
+            for (int i = 0; i < holidays.size(); i++) {
+                if (i > 0) {
+                    writeByte(',');
+                }
+                Holiday holiday = holidays.get(i);
+                if (holiday == null) {
+                    throw new IllegalArgumentException("The holidays must not contain null elements");
+                }
+                writeHoliday(holiday);
+            }
+            writeByte(']');
+        }
+
+        private void writeHoliday(Holiday holiday) {
+            writeAscii("{\"date\":");
+            writeDate(holiday.getDate());
+            writeAscii(",\"name\":");
+            writeString(holiday.getName());
+            writeAscii(",\"type\":");
+            writeString(holiday.getType() == null ? null : holiday.getType().name());
+            if (holiday instanceof ColombianHoliday) {
+                ColombianHoliday colombianHoliday = (ColombianHoliday) holiday;
+                writeAscii(",\"colombianType\":");
+                writeString(colombianHoliday.getColombianType() == null ? null : colombianHoliday.getColombianType().name());
+            }
+            writeByte('}');
+        }
+
+        private void writeDate(LocalDate date) {
+            if (date == null) {
+                writeAscii("null");
+                return;
+            }
+            int year = date.getYear();
+            if (year < 0 || year > 9999) {
+                writeByte('"').writeAscii(date.toString()).writeByte('"');
+                return;
+            }
+            ensureCapacity(12);
+            bytes[size++] = '"';
+            bytes[size++] = (byte) ('0' + year / 1000);
+            bytes[size++] = (byte) ('0' + year / 100 % 10);
+            bytes[size++] = (byte) ('0' + year / 10 % 10);
+            bytes[size++] = (byte) ('0' + year % 10);
+            bytes[size++] = '-';
+            bytes[size++] = (byte) ('0' + date.getMonthValue() / 10);
+            bytes[size++] = (byte) ('0' + date.getMonthValue() % 10);
+            bytes[size++] = '-';
+            bytes[size++] = (byte) ('0' + date.getDayOfMonth() / 10);
+            bytes[size++] = (byte) ('0' + date.getDayOfMonth() % 10);
+            bytes[size++] = '"';
+        }
+
+        private void writeString(String text) {
+            if (text == null) {
+                writeAscii("null");
+                return;
+            }
+            // Worst case: six bytes per character for \\u escapes, plus the quotes
+            ensureCapacity(text.length() * 6 + 2);
+            bytes[size++] = '"';
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '"' || c == '\\') {
+                    bytes[size++] = '\\';
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x20) {
+                    bytes[size++] = '\\';
+                    bytes[size++] = 'u';
+                    bytes[size++] = '0';
+                    bytes[size++] = '0';
+                    bytes[size++] = HEX[c >> 4];
+                    bytes[size++] = HEX[c & 0xF];
+                } else if (c < 0x80) {
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | c >> 6);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                    bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate: replaced like String.getBytes(UTF_8) does
+                    bytes[size++] = '?';
+                } else {
+                    bytes[size++] = (byte) (0xE0 | c >> 12);
+                    bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            bytes[size++] = '"';
+        }
+
+        private Utf8Buffer writeAscii(String text) {
+            ensureCapacity(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                bytes[size++] = (byte) text.charAt(i);
+            }
+            return this;
+        }
+
+        private Utf8Buffer writeByte(char c) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) c;
+            return this;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.azapata27.delivery;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.WorkWeek;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quotes delivery dates of shipments as "N working days of transit" for carriers with different work weeks,
+ * excluding holidays.
+ * <p>
+ * Each carrier is registered with a {@link WorkWeek}, such as Monday to Saturday or a week with Sunday service.
+ * The holidays are loaded once into a {@link BusinessDayTable}, from which one rank table is derived per distinct
+ * work week and shared by the carriers that have it. A quote is then two array lookups in that table, however
+ * long the transit, instead of a day-by-day loop over {@link HolidayValidator#isHoliday}.
+ * <p>
+ * The delivery date of a shipment with {@code N} days of transit is the {@code N}-th working day of its carrier
+ * after the shipping day; with no transit it is the shipping day itself when it is a working day, otherwise the
+ * next working day. Shipping days must be within the range of the engine, and delivery dates may fall in the year
+ * after it. Carriers can be addressed by index in the bulk {@link #quote(int[], long[], int[], long[])}, which
+ * allocates nothing. Instances are immutable and safe to share between threads.
+ * <p>
+ * Quotes use the holidays of the validator as they were when the engine was built. Rebuild the engine when
+ * {@link HolidayValidator#getCalendarVersion()} changes, or from a
+ * {@link io.github.azapata27.change.CalendarChangeListener}, for quotes to follow updated definitions.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * Map<String, WorkWeek> carriers = new LinkedHashMap<>();
+ * carriers.put("national", WorkWeek.MONDAY_TO_SATURDAY);
+ * carriers.put("express", WorkWeek.EVERY_DAY);
+ * DeliveryEtaEngine engine = DeliveryEtaEngine.of(ColombianHolidayValidator.getDefault(),
+ *         Year.of(2024), Year.of(2026), carriers);
+ *
+ * LocalDate eta = engine.quote("national", LocalDate.of(2024, 12, 23), 3);
+ * }</pre>
+ *
+ * @see WorkWeek
+ */
+public final class DeliveryEtaEngine {
+
+    private final Map<String, Integer> indexes;
+    private final List<String> carriers;
+    private final BusinessDayTable[] tables;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+
+    private DeliveryEtaEngine(Map<String, Integer> indexes, List<String> carriers, BusinessDayTable[] tables,
+                              Year from, Year to) {
+        this.indexes = indexes;
+        this.carriers = carriers;
+        this.tables = tables;
+        this.firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        this.endEpochDay = EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1);
+    }
+
+    /**
+     * Builds an engine for shipments within the given range of years. The holidays of the year after the range
+     * are also loaded, so deliveries can arrive after its end.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param from the first year of the shipping days, inclusive; must not be null
+     * @param to the last year of the shipping days, inclusive; must not be null
+     * @param carriers the work week of each carrier, in iteration order; must not be null nor empty, and carriers
+     *                 and work weeks must not be null
+     * @return the delivery engine for {@code [from, to]}
+     * @throws IllegalArgumentException if an argument is {@code null} or invalid, or {@code to} is before
+     *                                  {@code from}
+     */
+    public static DeliveryEtaEngine of(HolidayValidator<?> validator, Year from, Year to,
+                                       Map<String, WorkWeek> carriers) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (carriers == null || carriers.isEmpty()) {
+            throw new IllegalArgumentException("The carriers must not be null nor empty");
+        }
+
+        BusinessDayTable holidays = BusinessDayTable.of(validator, from, to.plusYears(1));
+        Map<WorkWeek, BusinessDayTable> byWorkWeek = new HashMap<>();
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>();
+        BusinessDayTable[] tables = new BusinessDayTable[carriers.size()];
+        for (Map.Entry<String, WorkWeek> carrier : carriers.entrySet()) {
+            if (carrier.getKey() == null) {
+                throw new IllegalArgumentException("The carrier must not be null");
+            }
+            if (carrier.getValue() == null) {
+                throw new IllegalArgumentException("The work week must not be null");
+            }
+            tables[names.size()] = byWorkWeek.computeIfAbsent(carrier.getValue(), holidays::withWorkWeek);
+            indexes.put(carrier.getKey(), names.size());
+            names.add(carrier.getKey());
+        }
+        return new DeliveryEtaEngine(Collections.unmodifiableMap(indexes), Collections.unmodifiableList(names),
+                tables, from, to);
+    }
+
+    /**
+     * Gets the registered carriers. The position of a carrier in the list is its index.
+     *
+     * @return the carriers, in registration order
+     */
+    public List<String> getCarriers() {
+        return carriers;
+    }
+
+    /**
+     * Gets the index of a carrier, for the index-based quotes.
+     *
+     * @param carrier the carrier; must be registered
+     * @return the index of the carrier
+     * @throws IllegalArgumentException if the carrier is {@code null} or unknown
+     */
+    public int getCarrierIndex(String carrier) {
+        Integer index = carrier == null ? null : indexes.get(carrier);
+        if (index == null) {
+            throw new IllegalArgumentException("The carrier is unknown: " + carrier);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the work week of a carrier.
+     *
+     * @param carrier the carrier; must be registered
+     * @return the days of the week the carrier works
+     * @throws IllegalArgumentException if the carrier is {@code null} or unknown
+     */
+    public WorkWeek getWorkWeek(String carrier) {
+        return tables[getCarrierIndex(carrier)].getWorkWeek();
+    }
+
+    /**
+     * Quotes the delivery date of one shipment.
+     *
+     * @param carrier the carrier; must be registered
+     * @param shipDate the shipping day; must not be null and within the engine range
+     * @param transitDays the working days of transit; must not be negative
+     * @return the delivery date
+     * @throws IllegalArgumentException if an argument is {@code null} or invalid, or the shipping day is outside
+     *                                  the engine range
+     */
+    public LocalDate quote(String carrier, LocalDate shipDate, int transitDays) {
+        if (shipDate == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        return LocalDate.ofEpochDay(quote(getCarrierIndex(carrier), shipDate.toEpochDay(), transitDays));
+    }
+
+    /**
+     * Quotes the delivery date of one shipment given as epoch days.
+     *
+     * @param carrierIndex the index of the carrier, see {@link #getCarrierIndex(String)}
+     * @param shipEpochDay the shipping day; must be within the engine range
+     * @param transitDays the working days of transit; must not be negative
+     * @return the epoch day of the delivery
+     * @throws IllegalArgumentException if an argument is invalid or the shipping day is outside the engine range
+     */
+    public long quote(int carrierIndex, long shipEpochDay, int transitDays) {
+        if (carrierIndex < 0 || carrierIndex >= tables.length) {
+            throw new IllegalArgumentException("The carrier index is unknown: " + carrierIndex);
+        }
+        if (transitDays < 0) {
+            throw new IllegalArgumentException("The transit days must not be negative");
+        }
+        if (shipEpochDay < firstEpochDay || shipEpochDay >= endEpochDay) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        return tables[carrierIndex].addBusinessDays(shipEpochDay, transitDays);
+    }
+
+    /**
+     * Quotes the delivery dates of a batch of shipments, without allocating.
+     *
+     * @param carrierIndexes the index of the carrier of each shipment; must not be null
+     * @param shipEpochDays the shipping day of each shipment; must not be null
+     * @param transitDays the working days of transit of each shipment; must not be null
+     * @param etaEpochDays receives the epoch day of each delivery; must not be null
+     * @throws IllegalArgumentException if an array is {@code null}, the sizes differ, or a shipment is invalid or
+     *                                  outside the engine range
+     */
+    public void quote(int[] carrierIndexes, long[] shipEpochDays, int[] transitDays, long[] etaEpochDays) {
+        if (carrierIndexes == null || shipEpochDays == null || transitDays == null || etaEpochDays == null) {
+            throw new IllegalArgumentException("The shipment columns must not be null");
+        }
+        int rows = shipEpochDays.length;
+        if (carrierIndexes.length != rows || transitDays.length != rows || etaEpochDays.length != rows) {
+            throw new IllegalArgumentException("The shipment columns must have the same size");
+        }
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        for (int row = 0; row < rows; row++) {
+            etaEpochDays[row] = quote(carrierIndexes[row], shipEpochDays[row], transitDays[row]);
+        }
+        HolidayEvents.commitBatch(event, "DeliveryEtaEngine.quote", rows);
+    }
+}
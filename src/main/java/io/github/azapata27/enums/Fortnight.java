@@ -0,0 +1,41 @@
+package io.github.azapata27.enums;
+
+/**
+ * Halves of a month as used by Colombian payroll ("quincenas").
+ * <ul>
+ *   <li>{@link #FIRST} - Days 1 to 15 of the month</li>
+ *   <li>{@link #SECOND} - Day 16 to the last day of the month</li>
+ * </ul>
+ */
+public enum Fortnight {
+
+    /**
+     * First half of the month, days 1 to 15.
+     */
+    FIRST(1),
+
+    /**
+     * Second half of the month, day 16 to the end of the month.
+     */
+    SECOND(16);
+
+    private final int firstDay;
+
+    /**
+     * Constructs a fortnight.
+     *
+     * @param firstDay the first day-of-month of the fortnight
+     */
+    Fortnight(int firstDay) {
+        this.firstDay = firstDay;
+    }
+
+    /**
+     * Gets the first day-of-month of this fortnight.
+     *
+     * @return the first day-of-month, 1 or 16
+     */
+    public int getFirstDay() {
+        return firstDay;
+    }
+}
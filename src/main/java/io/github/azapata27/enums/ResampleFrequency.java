@@ -0,0 +1,27 @@
+package io.github.azapata27.enums;
+
+/**
+ * Bucket sizes of a business-day resampling.
+ * <ul>
+ *   <li>{@link #BUSINESS_DAY} - One bucket per business day</li>
+ *   <li>{@link #BUSINESS_WEEK} - One bucket per ISO week, Monday to Sunday</li>
+ *   <li>{@link #BUSINESS_MONTH} - One bucket per calendar month</li>
+ * </ul>
+ */
+public enum ResampleFrequency {
+
+    /**
+     * Business day, starting on the day itself.
+     */
+    BUSINESS_DAY,
+
+    /**
+     * ISO week, starting on Monday.
+     */
+    BUSINESS_WEEK,
+
+    /**
+     * Calendar month, starting on its first day.
+     */
+    BUSINESS_MONTH
+}
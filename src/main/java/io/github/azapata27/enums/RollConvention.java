@@ -0,0 +1,36 @@
+package io.github.azapata27.enums;
+
+/**
+ * Conventions for moving a date that is not a business day to a business day, as used to adjust payment and
+ * settlement dates.
+ * <ul>
+ *   <li>{@link #FOLLOWING} - The next business day</li>
+ *   <li>{@link #MODIFIED_FOLLOWING} - The next business day, unless it is in the next month</li>
+ *   <li>{@link #PRECEDING} - The previous business day</li>
+ *   <li>{@link #MODIFIED_PRECEDING} - The previous business day, unless it is in the previous month</li>
+ * </ul>
+ */
+public enum RollConvention {
+
+    /**
+     * Rolls forward to the next business day.
+     */
+    FOLLOWING,
+
+    /**
+     * Rolls forward to the next business day, or backward to the previous one when rolling forward would
+     * change the month.
+     */
+    MODIFIED_FOLLOWING,
+
+    /**
+     * Rolls backward to the previous business day.
+     */
+    PRECEDING,
+
+    /**
+     * Rolls backward to the previous business day, or forward to the next one when rolling backward would
+     * change the month.
+     */
+    MODIFIED_PRECEDING
+}
@@ -0,0 +1,65 @@
+package io.github.azapata27.enums;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Calendar periods in which a recurring job fires on the nth business day.
+ * <ul>
+ *   <li>{@link #MONTH} - Each calendar month</li>
+ *   <li>{@link #QUARTER} - January-March, April-June, July-September and October-December</li>
+ *   <li>{@link #YEAR} - Each calendar year</li>
+ * </ul>
+ */
+public enum SchedulePeriod {
+
+    /**
+     * Calendar month.
+     */
+    MONTH(1),
+
+    /**
+     * Calendar quarter, starting in January, April, July or October.
+     */
+    QUARTER(3),
+
+    /**
+     * Calendar year.
+     */
+    YEAR(12);
+
+    private final int months;
+
+    /**
+     * Constructs a schedule period.
+     *
+     * @param months the length of the period in months
+     */
+    SchedulePeriod(int months) {
+        this.months = months;
+    }
+
+    /**
+     * Gets the length of this period in months.
+     *
+     * @return the number of months, 1, 3 or 12
+     */
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * Gets the first month of the period containing a date.
+     *
+     * @param date the date; must not be null
+     * @return the month the period starts with
+     * @throws IllegalArgumentException if {@code date} is null
+     */
+    public YearMonth startOf(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        int month = (date.getMonthValue() - 1) / months * months + 1;
+        return YearMonth.of(date.getYear(), month);
+    }
+}
@@ -0,0 +1,336 @@
+package io.github.azapata27.export;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Generates a calendar date dimension for data warehouse loads, one row per day.
+ * <p>
+ * Each row carries the following columns:
+ * <ul>
+ *   <li>{@code date} - ISO-8601 date</li>
+ *   <li>{@code is_holiday} - whether the day is a holiday</li>
+ *   <li>{@code holiday_name} - name of the holiday, empty when the day is not a holiday</li>
+ *   <li>{@code holiday_type} - {@link io.github.azapata27.enums.ColombianHolidayType} name for Colombian holidays,
+ *       {@link io.github.azapata27.enums.HolidayType} name otherwise</li>
+ *   <li>{@code is_business_day} - Monday to Friday and not a holiday</li>
+ *   <li>{@code business_day_of_month} - one-based position among the business days of the month, 0 otherwise</li>
+ *   <li>{@code is_long_weekend} - same answer as {@link HolidayValidator#isLongWeekend(LocalDate)}</li>
+ *   <li>{@code days_to_next_holiday} - days until the next holiday strictly after the day</li>
+ * </ul>
+ * When several holidays fall on the same day, the name and type of the first one in the validator's list are used.
+ * <p>
+ * Every column of a year is computed in a single pass from the holidays of that year and the next one. Years are
+ * rendered in parallel on an {@link Executor}, a bounded number of them ahead of the writer, and their encoded
+ * chunks are written to the channel in calendar order.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * CalendarDimensionGenerator generator = new CalendarDimensionGenerator(new ColombianHolidayValidator());
+ * generator.write(Year.of(1900), Year.of(2100), Path.of("dim_date.csv"), CalendarDimensionGenerator.Format.CSV);
+ * }</pre>
+ */
+public final class CalendarDimensionGenerator {
+
+    /**
+     * Output formats supported by the generator.
+     */
+    public enum Format {
+        /** Comma separated values with a header row (RFC 4180 quoting). */
+        CSV,
+        /** One JSON object per line. */
+        JSON_LINES
+    }
+
+    private static final String CSV_HEADER = "date,is_holiday,holiday_name,holiday_type,is_business_day,"
+            + "business_day_of_month,is_long_weekend,days_to_next_holiday\n";
+    private static final int NO_NEXT_HOLIDAY = -1;
+
+    private final HolidayValidator<? extends Holiday> validator;
+    private final Executor executor;
+    private final int maxPendingYears;
+
+    /**
+     * Creates a generator that renders years on the common fork-join pool.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @throws IllegalArgumentException if {@code validator} is {@code null}
+     */
+    public CalendarDimensionGenerator(HolidayValidator<? extends Holiday> validator) {
+        this(validator, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() * 2);
+    }
+
+    /**
+     * Creates a generator that renders years on the given executor.
+     *
+     * @param validator the validator providing the holidays; must be safe for concurrent use and not null
+     * @param executor the executor rendering the yearly chunks; must not be null
+     * @param maxPendingYears the maximum number of years rendered ahead of the writer; must be positive
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code maxPendingYears} is not positive
+     */
+    public CalendarDimensionGenerator(HolidayValidator<? extends Holiday> validator, Executor executor,
+                                      int maxPendingYears) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        if (maxPendingYears < 1) {
+            throw new IllegalArgumentException("The maximum of pending years must be positive");
+        }
+        this.validator = validator;
+        this.executor = executor;
+        this.maxPendingYears = maxPendingYears;
+    }
+
+    /**
+     * Writes the dimension rows of {@code [from, to]} to a file, replacing its content.
+     *
+     * @param from the first year, inclusive; must not be null
+     * @param to the last year, inclusive; must not be null
+     * @param file the target file; must not be null
+     * @param format the output format; must not be null
+     * @return the number of rows written, excluding the CSV header
+     * @throws IOException if writing to the file fails
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code to} is before {@code from}
+     */
+    public long write(Year from, Year to, Path file, Format format) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("The file must not be null");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return write(from, to, channel, format);
+        }
+    }
+
+    /**
+     * Writes the dimension rows of {@code [from, to]} to a channel. The channel is not closed.
+     *
+     * @param from the first year, inclusive; must not be null
+     * @param to the last year, inclusive; must not be null
+     * @param channel the target channel; must not be null
+     * @param format the output format; must not be null
+     * @return the number of rows written, excluding the CSV header
+     * @throws IOException if writing to the channel fails
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code to} is before {@code from}
+     */
+    public long write(Year from, Year to, WritableByteChannel channel, Format format) throws IOException {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("The channel must not be null");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("The format must not be null");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        if (format == Format.CSV) {
+            writeFully(channel, ByteBuffer.wrap(CSV_HEADER.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        ArrayDeque<CompletableFuture<ByteBuffer>> pending = new ArrayDeque<>();
+        int nextYear = from.getValue();
+        try {
+            while (nextYear <= to.getValue() || !pending.isEmpty()) {
+                while (nextYear <= to.getValue() && pending.size() < maxPendingYears) {
+                    int year = nextYear++;
+                    pending.add(CompletableFuture.supplyAsync(() -> renderYear(year, format), executor));
+                }
+                writeFully(channel, pending.poll().join());
+            }
+        } catch (CompletionException e) {
+            pending.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            pending.forEach(future -> future.cancel(false));
+            throw e;
+        }
+
+        long rows = EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1)
+                - EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        HolidayEvents.commitBatch(event, "CalendarDimensionGenerator.write", rows);
+        return rows;
+    }
+
+    private ByteBuffer renderYear(int year, Format format) {
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(year);
+        int dayCount = Year.isLeap(year) ? 366 : 365;
+
+        Holiday[] holidayByDay = new Holiday[dayCount];
+        for (Holiday holiday : validator.getHolidaysForYear(Year.of(year))) {
+            int offset = (int) (holiday.getDate().toEpochDay() - firstEpochDay);
+            if (offset >= 0 && offset < dayCount && holidayByDay[offset] == null) {
+                holidayByDay[offset] = holiday;
+            }
+        }
+        List<LocalDate> followingYear = validator.getHolidayDatesForYear(Year.of(year + 1));
+        long[] followingHolidays = new long[followingYear.size()];
+        for (int i = 0; i < followingHolidays.length; i++) {
+            followingHolidays[i] = followingYear.get(i).toEpochDay();
+        }
+        Arrays.sort(followingHolidays);
+
+        // Backward pass: distance to the next holiday strictly after each day
+        int[] daysToNextHoliday = new int[dayCount];
+        long nextHoliday = followingHolidays.length > 0 ? followingHolidays[0] : Long.MIN_VALUE;
+        for (int offset = dayCount - 1; offset >= 0; offset--) {
+            long epochDay = firstEpochDay + offset;
+            daysToNextHoliday[offset] = nextHoliday == Long.MIN_VALUE ? NO_NEXT_HOLIDAY : (int) (nextHoliday - epochDay);
+            if (holidayByDay[offset] != null) {
+                nextHoliday = epochDay;
+            }
+        }
+
+        StringBuilder rows = new StringBuilder(dayCount * 160);
+        int businessDayOfMonth = 0;
+        int month = 0;
+        for (int offset = 0; offset < dayCount; offset++) {
+            long epochDay = firstEpochDay + offset;
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            if (date.getMonthValue() != month) {
+                month = date.getMonthValue();
+                businessDayOfMonth = 0;
+            }
+
+            int dayOfWeek = EpochDayCalculator.dayOfWeek(epochDay);
+            Holiday holiday = holidayByDay[offset];
+            boolean businessDay = dayOfWeek <= 5 && holiday == null;
+            if (businessDay) {
+                businessDayOfMonth++;
+            }
+            long nextMonday = epochDay + 8 - dayOfWeek;
+            int mondayOffset = (int) (nextMonday - firstEpochDay);
+            boolean longWeekend = mondayOffset < dayCount
+                    ? holidayByDay[mondayOffset] != null
+                    : Arrays.binarySearch(followingHolidays, nextMonday) >= 0;
+
+            appendRow(rows, format, date, holiday, businessDay, businessDay ? businessDayOfMonth : 0,
+                    longWeekend, daysToNextHoliday[offset]);
+        }
+        return ByteBuffer.wrap(rows.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendRow(StringBuilder rows, Format format, LocalDate date, Holiday holiday,
+                                  boolean businessDay, int businessDayOfMonth, boolean longWeekend,
+                                  int daysToNextHoliday) {
+        String name = holiday == null ? null : holiday.getName();
+        String type = holiday == null ? null : typeOf(holiday);
+
+        if (format == Format.CSV) {
+            rows.append(date).append(',')
+                    .append(holiday != null).append(',');
+            appendCsvText(rows, name);
+            rows.append(',');
+            appendCsvText(rows, type);
+            rows.append(',').append(businessDay)
+                    .append(',').append(businessDayOfMonth)
+                    .append(',').append(longWeekend)
+                    .append(',');
+            if (daysToNextHoliday != NO_NEXT_HOLIDAY) {
+                rows.append(daysToNextHoliday);
+            }
+            rows.append('\n');
+        } else {
+            rows.append("{\"date\":\"").append(date)
+                    .append("\",\"is_holiday\":").append(holiday != null)
+                    .append(",\"holiday_name\":");
+            appendJsonText(rows, name);
+            rows.append(",\"holiday_type\":");
+            appendJsonText(rows, type);
+            rows.append(",\"is_business_day\":").append(businessDay)
+                    .append(",\"business_day_of_month\":").append(businessDayOfMonth)
+                    .append(",\"is_long_weekend\":").append(longWeekend)
+                    .append(",\"days_to_next_holiday\":");
+            if (daysToNextHoliday != NO_NEXT_HOLIDAY) {
+                rows.append(daysToNextHoliday);
+            } else {
+                rows.append("null");
+            }
+            rows.append("}\n");
+        }
+    }
+
+    private static String typeOf(Holiday holiday) {
+        if (holiday instanceof ColombianHoliday && ((ColombianHoliday) holiday).getColombianType() != null) {
+            return ((ColombianHoliday) holiday).getColombianType().name();
+        }
+        return holiday.getType() == null ? null : holiday.getType().name();
+    }
+
+    private static void appendCsvText(StringBuilder rows, String text) {
+        if (text == null) {
+            return;
+        }
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            rows.append(text);
+            return;
+        }
+        rows.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                rows.append('"');
+            }
+            rows.append(c);
+        }
+        rows.append('"');
+    }
+
+    private static void appendJsonText(StringBuilder rows, String text) {
+        if (text == null) {
+            rows.append("null");
+            return;
+        }
+        rows.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                rows.append('\\').append(c);
+            } else if (c < 0x20) {
+                rows.append(String.format("\\u%04x", (int) c));
+            } else {
+                rows.append(c);
+            }
+        }
+        rows.append('"');
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package io.github.azapata27.export;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Streams holidays as an iCalendar (RFC 5545) feed with one all-day {@code VEVENT} per holiday.
+ * <p>
+ * Holidays are requested from the validator one year at a time and encoded straight into a fixed-size
+ * buffer that is flushed to the target as it fills, so memory use does not depend on the length of the
+ * range. Text values are escaped as required by RFC 5545 section 3.3.11 and content lines are folded at
+ * 75 octets without splitting UTF-8 sequences, so names such as "Día de la Diversidad Étnica y Cultural"
+ * are written correctly.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * ICalendarWriter writer = new ICalendarWriter(new ColombianHolidayValidator());
+ * try (OutputStream out = Files.newOutputStream(Path.of("festivos.ics"))) {
+ *     writer.write(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31), out);
+ * }
+ * }</pre>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc5545">RFC 5545 - Internet Calendaring and Scheduling Core Object Specification</a>
+ */
+public final class ICalendarWriter {
+
+    private static final String PRODUCT_ID = "-//io.github.azapata27//Colombian Holiday Toolkit//ES";
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000};
+
+    private final HolidayValidator<? extends Holiday> validator;
+    private final Clock clock;
+
+    /**
+     * Creates a writer for the holidays of a validator, stamping events with the current UTC time.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @throws IllegalArgumentException if {@code validator} is {@code null}
+     */
+    public ICalendarWriter(HolidayValidator<? extends Holiday> validator) {
+        this(validator, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a writer for the holidays of a validator, stamping events with the time of the given clock.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param clock the clock used for the {@code DTSTAMP} property; must not be null
+     * @throws IllegalArgumentException if {@code validator} or {@code clock} is {@code null}
+     */
+    public ICalendarWriter(HolidayValidator<? extends Holiday> validator, Clock clock) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("The clock must not be null");
+        }
+        this.validator = validator;
+        this.clock = clock;
+    }
+
+    /**
+     * Writes the holidays in {@code [from, to]} as an iCalendar object to an output stream.
+     * The stream is flushed but not closed.
+     *
+     * @param from the first date of the range, inclusive; must not be null
+     * @param to the last date of the range, inclusive; must not be null
+     * @param out the target stream; must not be null
+     * @return the number of events written
+     * @throws IOException if writing to the stream fails
+     * @throws IllegalArgumentException if an argument is {@code null}, {@code to} is before {@code from}
+     *         or a date is outside years 0000 to 9998
+     */
+    public long write(LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("The output stream must not be null");
+        }
+        long events = write(from, to, Channels.newChannel(out));
+        out.flush();
+        return events;
+    }
+
+    /**
+     * Writes the holidays in {@code [from, to]} as an iCalendar object to a channel.
+     * The channel is not closed.
+     *
+     * @param from the first date of the range, inclusive; must not be null
+     * @param to the last date of the range, inclusive; must not be null
+     * @param channel the target channel; must not be null
+     * @return the number of events written
+     * @throws IOException if writing to the channel fails
+     * @throws IllegalArgumentException if an argument is {@code null}, {@code to} is before {@code from}
+     *         or a date is outside years 0000 to 9998
+     */
+    public long write(LocalDate from, LocalDate to, WritableByteChannel channel) throws IOException {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last date must not be before the first date");
+        }
+        if (from.getYear() < 0 || to.getYear() > 9998) {
+            throw new IllegalArgumentException("The dates must be between years 0000 and 9998");
+        }
+        if (channel == null) {
+            throw new IllegalArgumentException("The channel must not be null");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        ContentWriter writer = new ContentWriter(channel);
+        LocalDateTime stamp = LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+
+        writer.line("BEGIN:VCALENDAR");
+        writer.line("VERSION:2.0");
+        writer.line("PRODID:" + PRODUCT_ID);
+        writer.line("CALSCALE:GREGORIAN");
+        writer.line("METHOD:PUBLISH");
+
+        long events = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            List<? extends Holiday> holidays = validator.getHolidaysForYear(Year.of(year));
+            for (int index = 0; index < holidays.size(); index++) {
+                Holiday holiday = holidays.get(index);
+                LocalDate date = holiday.getDate();
+                if (date.isBefore(from) || date.isAfter(to)) {
+                    continue;
+                }
+                writeEvent(writer, holiday, index, stamp);
+                events++;
+            }
+        }
+
+        writer.line("END:VCALENDAR");
+        writer.flush();
+        HolidayEvents.commitBatch(event, "ICalendarWriter.write", events);
+        return events;
+    }
+
+    private void writeEvent(ContentWriter writer, Holiday holiday, int index, LocalDateTime stamp) throws IOException {
+        LocalDate date = holiday.getDate();
+
+        writer.line("BEGIN:VEVENT");
+
+        writer.text("UID:");
+        writer.date(date);
+        writer.text("-");
+        writer.number(index, 2);
+        writer.text("@colombian-holiday-toolkit");
+        writer.endLine();
+
+        writer.text("DTSTAMP:");
+        writer.date(stamp.toLocalDate());
+        writer.text("T");
+        writer.number(stamp.getHour(), 2);
+        writer.number(stamp.getMinute(), 2);
+        writer.number(stamp.getSecond(), 2);
+        writer.text("Z");
+        writer.endLine();
+
+        writer.text("DTSTART;VALUE=DATE:");
+        writer.date(date);
+        writer.endLine();
+
+        writer.text("DTEND;VALUE=DATE:");
+        writer.date(date.plusDays(1));
+        writer.endLine();
+
+        writer.text("SUMMARY:");
+        writer.escapedText(holiday.getName());
+        writer.endLine();
+
+        if (holiday instanceof ColombianHoliday && ((ColombianHoliday) holiday).getColombianType() != null) {
+            writer.text("CATEGORIES:");
+            writer.escapedText(((ColombianHoliday) holiday).getColombianType().getDescription());
+            writer.endLine();
+        }
+
+        writer.line("TRANSP:TRANSPARENT");
+        writer.line("END:VEVENT");
+    }
+
+    /**
+     * Encodes content lines into a reusable buffer, folding them at {@value #MAX_LINE_OCTETS} octets.
+     */
+    private static final class ContentWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private int lineOctets;
+
+        private ContentWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        private void line(String text) throws IOException {
+            text(text);
+            endLine();
+        }
+
+        private void endLine() throws IOException {
+            ensureCapacity(2);
+            buffer.put((byte) '\r').put((byte) '\n');
+            lineOctets = 0;
+        }
+
+        private void text(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                ascii(text.charAt(i));
+            }
+        }
+
+        private void escapedText(String text) throws IOException {
+            if (text == null) {
+                return;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\':
+                    case ';':
+                    case ',':
+                        ascii('\\');
+                        ascii(c);
+                        break;
+                    case '\n':
+                        ascii('\\');
+                        ascii('n');
+                        break;
+                    case '\r':
+                        break;
+                    default:
+                        character(c, text, i);
+                        if (Character.isHighSurrogate(c) && i + 1 < text.length()) {
+                            i++;
+                        }
+                }
+            }
+        }
+
+        private void date(LocalDate date) throws IOException {
+            number(date.getYear(), 4);
+            number(date.getMonthValue(), 2);
+            number(date.getDayOfMonth(), 2);
+        }
+
+        private void number(int value, int digits) throws IOException {
+            for (int position = digits - 1; position >= 0; position--) {
+                ascii((char) ('0' + (value / POWERS_OF_TEN[position]) % 10));
+            }
+        }
+
+        private void ascii(char c) throws IOException {
+            fold(1);
+            buffer.put((byte) c);
+            lineOctets++;
+        }
+
+        private void character(char c, String text, int index) throws IOException {
+            if (c < 0x80) {
+                ascii(c);
+            } else if (c < 0x800) {
+                fold(2);
+                buffer.put((byte) (0xC0 | (c >> 6)))
+                        .put((byte) (0x80 | (c & 0x3F)));
+                lineOctets += 2;
+            } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+                fold(4);
+                buffer.put((byte) (0xF0 | (codePoint >> 18)))
+                        .put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                        .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                        .put((byte) (0x80 | (codePoint & 0x3F)));
+                lineOctets += 4;
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced, like String.getBytes(UTF_8) does
+                ascii('?');
+            } else {
+                fold(3);
+                buffer.put((byte) (0xE0 | (c >> 12)))
+                        .put((byte) (0x80 | ((c >> 6) & 0x3F)))
+                        .put((byte) (0x80 | (c & 0x3F)));
+                lineOctets += 3;
+            }
+        }
+
+        private void fold(int octets) throws IOException {
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                ensureCapacity(3 + octets);
+                buffer.put((byte) '\r').put((byte) '\n').put((byte) ' ');
+                lineOctets = 1;
+            } else {
+                ensureCapacity(octets);
+            }
+        }
+
+        private void ensureCapacity(int octets) throws IOException {
+            if (buffer.remaining() < octets) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.azapata27.feature;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.model.Holiday;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.MonthlyBusinessDayTable;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fills {@link HolidayFeatures} columns for arrays of epoch days, for forecasting models trained on hundreds of
+ * millions of rows.
+ * <p>
+ * The holidays of the range, and of the years around it, are flattened once into a sorted array of distinct
+ * epoch days. Rows are then merged against it with a cursor that only moves forward while the rows are ascending,
+ * so a sorted batch is processed in a single linear pass; a row earlier than the previous one repositions the cursor
+ * with a binary search. The other features are lookups in a {@link MonthlyBusinessDayTable} and in the Easter
+ * Sunday of each year, so no row calls {@link HolidayValidator#getNextHolidayDate} or allocates.
+ * <p>
+ * {@link #generateParallel(long[], HolidayFeatures)} splits a batch into chunks generated concurrently, each with
+ * its own cursor. When several holidays fall on the same day, the type of the first one in the validator's list is
+ * used. Instances are immutable and safe to share between threads.
+ * <p>
+ * The holidays are a snapshot taken when the generator is built. Features generated after the validator's
+ * definitions are updated still use the old holidays, so rebuild the generator when
+ * {@link HolidayValidator#getCalendarVersion()} changes.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayFeatureGenerator generator = HolidayFeatureGenerator.of(new ColombianHolidayValidator(),
+ *         Year.of(2015), Year.of(2030));
+ * HolidayFeatures features = HolidayFeatures.allocate(epochDays.length);
+ * generator.generateParallel(epochDays, features);
+ * int[] daysToNextHoliday = features.getDaysToNextHoliday();
+ * }</pre>
+ *
+ * @see HolidayFeatures
+ */
+public final class HolidayFeatureGenerator {
+
+    /** Default number of rows generated by each parallel task. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int DAYS_FROM_PALM_SUNDAY_TO_EASTER = 7;
+
+    private final int fromYear;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+    private final long[] holidays;
+    private final byte[] holidayTypes;
+    private final long[] easterSundays;
+    private final BusinessDayTable businessDays;
+    private final MonthlyBusinessDayTable monthlyBusinessDays;
+
+    private HolidayFeatureGenerator(int fromYear, int toYear, long[] holidays, byte[] holidayTypes,
+                                    long[] easterSundays, MonthlyBusinessDayTable monthlyBusinessDays) {
+        this.fromYear = fromYear;
+        this.firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(fromYear);
+        this.endEpochDay = EpochDayCalculator.firstEpochDayOfYear(toYear + 1);
+        this.holidays = holidays;
+        this.holidayTypes = holidayTypes;
+        this.easterSundays = easterSundays;
+        this.businessDays = monthlyBusinessDays.getBusinessDayTable();
+        this.monthlyBusinessDays = monthlyBusinessDays;
+    }
+
+    /**
+     * Builds a generator for rows within the given range of years. The holidays of the year before and the year
+     * after the range are also loaded, so rows near the edges get their previous and next holidays.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param from the first year of the rows, inclusive; must not be null
+     * @param to the last year of the rows, inclusive; must not be null
+     * @return the feature generator for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static HolidayFeatureGenerator of(HolidayValidator<? extends Holiday> validator, Year from, Year to) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+
+        Year first = from.minusYears(1);
+        Year last = to.plusYears(1);
+        List<Holiday> all = new ArrayList<>();
+        for (int year = first.getValue(); year <= last.getValue(); year++) {
+            all.addAll(validator.getHolidaysForYear(Year.of(year)));
+        }
+        // Stable sort: the first holiday of the validator's list gives the type of a day
+        all.sort(Comparator.comparing(Holiday::getDate));
+        long[] holidays = new long[all.size()];
+        byte[] holidayTypes = new byte[all.size()];
+        int count = 0;
+        for (Holiday holiday : all) {
+            long epochDay = holiday.getDate().toEpochDay();
+            if (count == 0 || holidays[count - 1] != epochDay) {
+                holidays[count] = epochDay;
+                holidayTypes[count] = typeOf(holiday);
+                count++;
+            }
+        }
+
+        long[] easterSundays = new long[to.getValue() - from.getValue() + 1];
+        for (int i = 0; i < easterSundays.length; i++) {
+            easterSundays[i] = EasterCalculator.calculateEasterSunday(from.getValue() + i).toEpochDay();
+        }
+
+        MonthlyBusinessDayTable monthly = MonthlyBusinessDayTable.of(BusinessDayTable.of(validator, first, last));
+        return new HolidayFeatureGenerator(from.getValue(), to.getValue(), Arrays.copyOf(holidays, count),
+                Arrays.copyOf(holidayTypes, count), easterSundays, monthly);
+    }
+
+    /**
+     * Fills the features of every row, on the calling thread.
+     *
+     * @param epochDays the rows, as epoch days within the generator range; must not be null
+     * @param features the columns to fill, with as many rows as {@code epochDays}; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a row is outside the
+     *                                  range of the generator
+     */
+    public void generate(long[] epochDays, HolidayFeatures features) {
+        checkBatch(epochDays, features);
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        generate(epochDays, features, 0, epochDays.length);
+        HolidayEvents.commitBatch(event, "HolidayFeatureGenerator.generate", epochDays.length);
+    }
+
+    /**
+     * Fills the features of every row in chunks of {@link #DEFAULT_CHUNK_SIZE} rows on the common fork-join pool.
+     *
+     * @param epochDays the rows, as epoch days within the generator range; must not be null
+     * @param features the columns to fill, with as many rows as {@code epochDays}; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a row is outside the
+     *                                  range of the generator
+     */
+    public void generateParallel(long[] epochDays, HolidayFeatures features) {
+        generateParallel(epochDays, features, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Fills the features of every row in chunks generated concurrently on an executor, and waits for all of them.
+     *
+     * @param epochDays the rows, as epoch days within the generator range; must not be null
+     * @param features the columns to fill, with as many rows as {@code epochDays}; must not be null
+     * @param executor the executor generating the chunks; must not be null
+     * @param chunkSize the number of rows of each chunk; must be positive
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, {@code chunkSize} is not
+     *                                  positive, or a row is outside the range of the generator
+     */
+    public void generateParallel(long[] epochDays, HolidayFeatures features, Executor executor, int chunkSize) {
+        checkBatch(epochDays, features);
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        int chunks = (int) ((epochDays.length + (long) chunkSize - 1) / chunkSize);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = Math.min(epochDays.length, start + chunkSize);
+            futures[chunk] = CompletableFuture.runAsync(() -> generate(epochDays, features, start, end), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        HolidayEvents.commitBatch(event, "HolidayFeatureGenerator.generateParallel", epochDays.length);
+    }
+
+    private void generate(long[] epochDays, HolidayFeatures features, int start, int end) {
+        int[] daysToNextHoliday = features.getDaysToNextHoliday();
+        int[] daysSincePreviousHoliday = features.getDaysSincePreviousHoliday();
+        boolean[] bridgeDay = features.getBridgeDay();
+        byte[] holidayType = features.getHolidayType();
+        int[] businessDayOfMonth = features.getBusinessDayOfMonth();
+        boolean[] holyWeek = features.getHolyWeek();
+
+        // Index of the first holiday strictly after the previous row
+        int next = 0;
+        long previousRow = Long.MIN_VALUE;
+        for (int row = start; row < end; row++) {
+            long epochDay = epochDays[row];
+            if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+                throw new IllegalArgumentException("The date is outside the table range");
+            }
+            if (epochDay < previousRow || row == start) {
+                next = firstHolidayAfter(epochDay);
+            } else {
+                while (next < holidays.length && holidays[next] <= epochDay) {
+                    next++;
+                }
+            }
+            previousRow = epochDay;
+
+            boolean holiday = next > 0 && holidays[next - 1] == epochDay;
+            int previous = holiday ? next - 2 : next - 1;
+            daysToNextHoliday[row] = next < holidays.length
+                    ? (int) (holidays[next] - epochDay) : HolidayFeatures.UNKNOWN;
+            daysSincePreviousHoliday[row] = previous >= 0
+                    ? (int) (epochDay - holidays[previous]) : HolidayFeatures.UNKNOWN;
+            holidayType[row] = holiday ? holidayTypes[next - 1] : HolidayFeatures.NO_HOLIDAY_TYPE;
+            bridgeDay[row] = isBridgeDay(epochDay);
+            businessDayOfMonth[row] = monthlyBusinessDays.getBusinessDayOfMonth(epochDay);
+            holyWeek[row] = isHolyWeek(epochDay);
+        }
+    }
+
+    /**
+     * Checks if a business day sits between two days off, one of them a holiday.
+     */
+    private boolean isBridgeDay(long epochDay) {
+        return businessDays.isBusinessDay(epochDay)
+                && !businessDays.isBusinessDay(epochDay - 1)
+                && !businessDays.isBusinessDay(epochDay + 1)
+                && (businessDays.isHoliday(epochDay - 1) || businessDays.isHoliday(epochDay + 1));
+    }
+
+    private boolean isHolyWeek(long epochDay) {
+        long easter = easterSundays[EpochDayCalculator.yearOf(epochDay) - fromYear];
+        return epochDay >= easter - DAYS_FROM_PALM_SUNDAY_TO_EASTER && epochDay <= easter;
+    }
+
+    private int firstHolidayAfter(long epochDay) {
+        int index = Arrays.binarySearch(holidays, epochDay);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static byte typeOf(Holiday holiday) {
+        if (holiday instanceof ColombianHoliday && ((ColombianHoliday) holiday).getColombianType() != null) {
+            return (byte) ((ColombianHoliday) holiday).getColombianType().ordinal();
+        }
+        return HolidayFeatures.NO_HOLIDAY_TYPE;
+    }
+
+    private static void checkBatch(long[] epochDays, HolidayFeatures features) {
+        if (epochDays == null) {
+            throw new IllegalArgumentException("The epoch days must not be null");
+        }
+        if (features == null) {
+            throw new IllegalArgumentException("The features must not be null");
+        }
+        if (features.size() != epochDays.length) {
+            throw new IllegalArgumentException("The features must have as many rows as the epoch days");
+        }
+    }
+}
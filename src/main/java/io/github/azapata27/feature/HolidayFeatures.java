@@ -0,0 +1,91 @@
+package io.github.azapata27.feature;
+
+/**
+ * Columnar holiday features of a batch of rows, filled by {@link HolidayFeatureGenerator}.
+ * <p>
+ * Each feature is a primitive array indexed like the epoch-day array it was generated from, so the columns can be
+ * handed to a model or a columnar format without boxing. Instances are mutable and meant to be reused across
+ * batches of the same size; they are not thread-safe, but distinct rows may be filled concurrently.
+ * <ul>
+ *   <li>{@code daysToNextHoliday} - days until the next holiday strictly after the row, or {@link #UNKNOWN}</li>
+ *   <li>{@code daysSincePreviousHoliday} - days since the previous holiday strictly before the row,
+ *       or {@link #UNKNOWN}</li>
+ *   <li>{@code bridgeDay} - a business day between a holiday and another day off, such as the Friday after a
+ *       holiday Thursday</li>
+ *   <li>{@code holidayType} - {@link io.github.azapata27.enums.ColombianHolidayType} ordinal of the holiday on the
+ *       row, or {@link #NO_HOLIDAY_TYPE} when the row is not a Colombian holiday</li>
+ *   <li>{@code businessDayOfMonth} - one-based position among the business days of the month, 0 otherwise</li>
+ *   <li>{@code holyWeek} - the row falls between Palm Sunday and Easter Sunday, both inclusive</li>
+ * </ul>
+ */
+public final class HolidayFeatures {
+
+    /** Distance reported when there is no holiday within the generator's range in that direction. */
+    public static final int UNKNOWN = -1;
+
+    /** Holiday type reported for days that are not Colombian holidays. */
+    public static final byte NO_HOLIDAY_TYPE = -1;
+
+    private final int[] daysToNextHoliday;
+    private final int[] daysSincePreviousHoliday;
+    private final boolean[] bridgeDay;
+    private final byte[] holidayType;
+    private final int[] businessDayOfMonth;
+    private final boolean[] holyWeek;
+
+    private HolidayFeatures(int rows) {
+        this.daysToNextHoliday = new int[rows];
+        this.daysSincePreviousHoliday = new int[rows];
+        this.bridgeDay = new boolean[rows];
+        this.holidayType = new byte[rows];
+        this.businessDayOfMonth = new int[rows];
+        this.holyWeek = new boolean[rows];
+    }
+
+    /**
+     * Allocates the feature columns of a batch.
+     *
+     * @param rows the number of rows; must not be negative
+     * @return empty feature columns of the given size
+     * @throws IllegalArgumentException if {@code rows} is negative
+     */
+    public static HolidayFeatures allocate(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("The number of rows must not be negative");
+        }
+        return new HolidayFeatures(rows);
+    }
+
+    /**
+     * Gets the number of rows of the columns.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return daysToNextHoliday.length;
+    }
+
+    public int[] getDaysToNextHoliday() {
+        return daysToNextHoliday;
+    }
+
+    public int[] getDaysSincePreviousHoliday() {
+        return daysSincePreviousHoliday;
+    }
+
+    public boolean[] getBridgeDay() {
+        return bridgeDay;
+    }
+
+    public byte[] getHolidayType() {
+        return holidayType;
+    }
+
+    public int[] getBusinessDayOfMonth() {
+        return businessDayOfMonth;
+    }
+
+    public boolean[] getHolyWeek() {
+        return holyWeek;
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.azapata27.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for each Easter Sunday computation.
+ * <p>
+ * Disabled by default, since callers may compute Easter in tight loops; enable it with
+ * {@code io.github.azapata27.EasterComputation#enabled=true} when investigating year materialization.
+ */
+@Name(EasterComputationEvent.NAME)
+@Label("Easter Computation")
+@Description("Computation of Easter Sunday with the Meeus/Jones/Butcher algorithm")
+@Category({"Colombian Holidays"})
+@StackTrace(false)
+@Enabled(false)
+@Threshold("0 ms")
+public final class EasterComputationEvent extends jdk.jfr.Event {
+
+    /** Name of the event in recordings and settings. */
+    public static final String NAME = "io.github.azapata27.EasterComputation";
+
+    @Label("Year")
+    public int year;
+
+    @Label("Easter Sunday")
+    @Description("ISO date of Easter Sunday")
+    public String easterSunday;
+}
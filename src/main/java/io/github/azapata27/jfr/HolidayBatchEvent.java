@@ -0,0 +1,29 @@
+package io.github.azapata27.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for bulk operations over many days or events that take longer than the
+ * threshold, 1 ms by default: table construction, stream enrichment batches and exports.
+ */
+@Name(HolidayBatchEvent.NAME)
+@Label("Holiday Batch Operation")
+@Description("Bulk holiday operation slower than the threshold")
+@Category({"Colombian Holidays"})
+@Threshold("1 ms")
+public final class HolidayBatchEvent extends jdk.jfr.Event {
+
+    /** Name of the event in recordings and settings. */
+    public static final String NAME = "io.github.azapata27.HolidayBatch";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Item Count")
+    @Description("Number of days, events or rows processed")
+    public long itemCount;
+}
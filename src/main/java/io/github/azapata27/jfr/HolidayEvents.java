@@ -0,0 +1,182 @@
+package io.github.azapata27.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.time.LocalDate;
+
+/**
+ * Emission hooks for the Flight Recorder events of the toolkit, used by the validator, tables and exporters.
+ * <p>
+ * Each {@code begin} method returns {@code null} unless a recording is running, and each {@code commit} method
+ * ignores {@code null}. When nothing is recording, an instrumented operation costs a couple of static reads and
+ * allocates nothing, which keeps the query paths within their allocation budgets. Recording state is tracked with a
+ * {@link FlightRecorderListener} registered once Flight Recorder is initialized. While recording, per-event
+ * enablement and thresholds are applied by {@link jdk.jfr.Event#shouldCommit()}.
+ */
+public final class HolidayEvents {
+
+    private static volatile boolean listening;
+    private static volatile boolean recording;
+
+    private HolidayEvents() {
+    }
+
+    /**
+     * Checks if a Flight Recorder recording is running in this JVM.
+     *
+     * @return true if events may be recorded, false otherwise
+     */
+    public static boolean isRecording() {
+        if (!FlightRecorder.isInitialized()) {
+            return false;
+        }
+        if (!listening) {
+            startListening();
+        }
+        return recording;
+    }
+
+    private static synchronized void startListening() {
+        if (listening) {
+            return;
+        }
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                recording = hasRunningRecording();
+            }
+        });
+        recording = hasRunningRecording();
+        listening = true;
+    }
+
+    private static boolean hasRunningRecording() {
+        for (Recording running : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (running.getState() == RecordingState.RUNNING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts timing a year materialization.
+     *
+     * @return the started event, or {@code null} when nothing is recording
+     */
+    public static HolidayYearEvent beginYear() {
+        if (!isRecording()) {
+            return null;
+        }
+        HolidayYearEvent event = new HolidayYearEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a year materialization event if it is enabled and above its threshold.
+     *
+     * @param event the event returned by {@link #beginYear()}, may be null
+     * @param year the computed year
+     * @param holidayCount the number of holidays of the year
+     * @param cached whether the year is kept in the validator cache
+     */
+    public static void commitYear(HolidayYearEvent event, int year, int holidayCount, boolean cached) {
+        if (event != null && event.shouldCommit()) {
+            event.year = year;
+            event.holidayCount = holidayCount;
+            event.cached = cached;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing an Easter computation.
+     *
+     * @return the started event, or {@code null} when nothing is recording
+     */
+    public static EasterComputationEvent beginEaster() {
+        if (!isRecording()) {
+            return null;
+        }
+        EasterComputationEvent event = new EasterComputationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits an Easter computation event if it is enabled and above its threshold.
+     *
+     * @param event the event returned by {@link #beginEaster()}, may be null
+     * @param year the year
+     * @param easterSunday the computed Easter Sunday
+     */
+    public static void commitEaster(EasterComputationEvent event, int year, LocalDate easterSunday) {
+        if (event != null && event.shouldCommit()) {
+            event.year = year;
+            event.easterSunday = easterSunday.toString();
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a holiday lookup.
+     *
+     * @return the started event, or {@code null} when nothing is recording
+     */
+    public static HolidayQueryEvent beginQuery() {
+        if (!isRecording()) {
+            return null;
+        }
+        HolidayQueryEvent event = new HolidayQueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a query event if it is enabled and the lookup was slower than its threshold.
+     *
+     * @param event the event returned by {@link #beginQuery()}, may be null
+     * @param operation the name of the lookup method
+     * @param year the year queried
+     */
+    public static void commitQuery(HolidayQueryEvent event, String operation, int year) {
+        if (event != null && event.shouldCommit()) {
+            event.operation = operation;
+            event.year = year;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts timing a bulk operation.
+     *
+     * @return the started event, or {@code null} when nothing is recording
+     */
+    public static HolidayBatchEvent beginBatch() {
+        if (!isRecording()) {
+            return null;
+        }
+        HolidayBatchEvent event = new HolidayBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits a batch event if it is enabled and the operation was slower than its threshold.
+     *
+     * @param event the event returned by {@link #beginBatch()}, may be null
+     * @param operation the name of the bulk operation
+     * @param itemCount the number of days, events or rows processed
+     */
+    public static void commitBatch(HolidayBatchEvent event, String operation, long itemCount) {
+        if (event != null && event.shouldCommit()) {
+            event.operation = operation;
+            event.itemCount = itemCount;
+            event.commit();
+        }
+    }
+}
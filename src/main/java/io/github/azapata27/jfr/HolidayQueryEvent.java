@@ -0,0 +1,30 @@
+package io.github.azapata27.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for holiday lookups that take longer than the threshold, 1 ms by default.
+ * <p>
+ * Lookups normally complete in nanoseconds from the year cache; a slow lookup usually means the year had to be
+ * computed, or the thread was descheduled. The stack trace is recorded to locate the caller.
+ */
+@Name(HolidayQueryEvent.NAME)
+@Label("Slow Holiday Query")
+@Description("Holiday lookup slower than the threshold")
+@Category({"Colombian Holidays"})
+@Threshold("1 ms")
+public final class HolidayQueryEvent extends jdk.jfr.Event {
+
+    /** Name of the event in recordings and settings. */
+    public static final String NAME = "io.github.azapata27.HolidayQuery";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Year")
+    public int year;
+}
@@ -0,0 +1,36 @@
+package io.github.azapata27.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted when the holidays of a year are computed and cached.
+ * <p>
+ * Every cached year is computed once per validator, so the event is enabled by default with no threshold.
+ * Years outside the cached range are computed on every query and emit one event each time.
+ */
+@Name(HolidayYearEvent.NAME)
+@Label("Holiday Year Materialization")
+@Description("Computation of the holidays of a year")
+@Category({"Colombian Holidays"})
+@StackTrace(false)
+@Threshold("0 ms")
+public final class HolidayYearEvent extends jdk.jfr.Event {
+
+    /** Name of the event in recordings and settings. */
+    public static final String NAME = "io.github.azapata27.HolidayYear";
+
+    @Label("Year")
+    public int year;
+
+    @Label("Holiday Count")
+    public int holidayCount;
+
+    @Label("Cached")
+    @Description("Whether the year is kept in the validator cache")
+    public boolean cached;
+}
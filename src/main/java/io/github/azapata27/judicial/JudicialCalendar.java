@@ -0,0 +1,237 @@
+package io.github.azapata27.judicial;
+
+import io.github.azapata27.ColombianHolidayValidator;
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.table.BusinessDayTable;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+
+/**
+ * Colombian judicial-term calendar ("términos judiciales") over a contiguous range of years.
+ * <p>
+ * Judicial terms only run on judicial days: Monday to Friday, excluding national holidays and the vacancy periods
+ * of the judicial branch (Law 270 of 1996, article 146):
+ * <ul>
+ *   <li>The collective vacancy from {@link #VACANCY_START December 20} to {@link #VACANCY_END January 10}, both
+ *       inclusive.</li>
+ *   <li>Holy Week, from Palm Sunday to Easter Sunday, derived from {@link EasterCalculator}.</li>
+ * </ul>
+ * Holidays and vacancies are merged once into a {@link BusinessDayTable}, so adding and counting judicial days are
+ * array lookups regardless of the length of the term.
+ * <p>
+ * Instances are immutable and safe to share between threads. Holidays are read once, when the calendar is built,
+ * so a calendar must be rebuilt when the {@link HolidayValidator#getCalendarVersion() calendar version} of its
+ * validator changes, for example from a {@link io.github.azapata27.change.CalendarChangeListener}.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * JudicialCalendar calendar = JudicialCalendar.of(Year.of(2000), Year.of(2100));
+ *
+ * // Ten-day term starting the day after notification
+ * LocalDate deadline = calendar.addJudicialDays(notificationDate, 10);
+ * }</pre>
+ *
+ * @see BusinessDayTable
+ */
+public final class JudicialCalendar {
+
+    /** First day of the collective judicial vacancy. */
+    public static final MonthDay VACANCY_START = MonthDay.of(12, 20);
+
+    /** Last day of the collective judicial vacancy, in the following year. */
+    public static final MonthDay VACANCY_END = MonthDay.of(1, 10);
+
+    private static final int DAYS_FROM_PALM_SUNDAY_TO_EASTER = 7;
+
+    private final long firstEpochDay;
+    private final long[] vacancyBits;
+    private final BusinessDayTable table;
+
+    private JudicialCalendar(long firstEpochDay, long[] vacancyBits, BusinessDayTable table) {
+        this.firstEpochDay = firstEpochDay;
+        this.vacancyBits = vacancyBits;
+        this.table = table;
+    }
+
+    /**
+     * Builds a judicial calendar for the given range of years from the default Colombian holidays.
+     *
+     * @param from the first year of the calendar, inclusive; must not be null
+     * @param to the last year of the calendar, inclusive; must not be null
+     * @return the judicial calendar for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static JudicialCalendar of(Year from, Year to) {
+        return of(ColombianHolidayValidator.getDefault(), from, to);
+    }
+
+    /**
+     * Builds a judicial calendar for the given range of years from the holidays of a validator.
+     *
+     * @param validator the validator providing the national holidays; must not be null
+     * @param from the first year of the calendar, inclusive; must not be null
+     * @param to the last year of the calendar, inclusive; must not be null
+     * @return the judicial calendar for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static JudicialCalendar of(HolidayValidator<?> validator, Year from, Year to) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        int dayCount = (int) (EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1) - firstEpochDay);
+        long[] vacancyBits = new long[(dayCount + 63) >>> 6];
+        for (int year = from.getValue(); year <= to.getValue(); year++) {
+            // January 1-10 closes the vacancy that started the previous December
+            setRange(vacancyBits, firstEpochDay, dayCount,
+                    LocalDate.of(year, 1, 1), VACANCY_END.atYear(year));
+            setRange(vacancyBits, firstEpochDay, dayCount,
+                    VACANCY_START.atYear(year), LocalDate.of(year, 12, 31));
+            LocalDate easter = EasterCalculator.calculateEasterSunday(year);
+            setRange(vacancyBits, firstEpochDay, dayCount,
+                    easter.minusDays(DAYS_FROM_PALM_SUNDAY_TO_EASTER), easter);
+        }
+
+        BusinessDayTable table = BusinessDayTable.of(validator, from, to,
+                epochDay -> isSet(vacancyBits, (int) (epochDay - firstEpochDay)));
+        return new JudicialCalendar(firstEpochDay, vacancyBits, table);
+    }
+
+    /**
+     * Gets the underlying table, whose business days are the judicial days of this calendar.
+     *
+     * @return the judicial-day table
+     */
+    public BusinessDayTable getBusinessDayTable() {
+        return table;
+    }
+
+    /**
+     * Checks if an epoch day is a judicial day, when terms run.
+     *
+     * @param epochDay the epoch day to check; must be within the calendar range
+     * @return {@code true} if the day is a judicial day, {@code false} otherwise
+     * @throws IllegalArgumentException if the day is outside the calendar range
+     */
+    public boolean isJudicialDay(long epochDay) {
+        return table.isBusinessDay(epochDay);
+    }
+
+    /**
+     * Checks if a date is a judicial day, when terms run.
+     *
+     * @param date the date to check; must not be null and must be within the calendar range
+     * @return {@code true} if the date is a judicial day, {@code false} otherwise
+     * @throws IllegalArgumentException if the date is {@code null} or outside the calendar range
+     */
+    public boolean isJudicialDay(LocalDate date) {
+        return table.isBusinessDay(date);
+    }
+
+    /**
+     * Checks if a date falls in the collective vacancy or in Holy Week.
+     *
+     * @param date the date to check; must not be null and must be within the calendar range
+     * @return {@code true} if the courts are in vacancy on that date, {@code false} otherwise
+     * @throws IllegalArgumentException if the date is {@code null} or outside the calendar range
+     */
+    public boolean isVacancy(LocalDate date) {
+        long epochDay = toEpochDay(date);
+        if (!table.contains(epochDay)) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        return isSet(vacancyBits, (int) (epochDay - firstEpochDay));
+    }
+
+    /**
+     * Adds judicial days to an epoch day. Terms start on the day after {@code epochDay}, so a positive amount
+     * returns the {@code amount}-th judicial day after it, and a negative amount moves backward.
+     *
+     * @param epochDay the starting epoch day, typically the notification day
+     * @param amount the number of judicial days to add, may be negative
+     * @return the resulting epoch day
+     * @throws IllegalArgumentException if the start or the result is outside the calendar range
+     * @see BusinessDayTable#addBusinessDays(long, int)
+     */
+    public long addJudicialDays(long epochDay, int amount) {
+        return table.addBusinessDays(epochDay, amount);
+    }
+
+    /**
+     * Adds judicial days to a date.
+     *
+     * @param date the starting date, typically the notification date; must not be null
+     * @param amount the number of judicial days to add, may be negative
+     * @return the resulting date
+     * @throws IllegalArgumentException if the date is {@code null} or the start or result is outside the calendar range
+     * @see #addJudicialDays(long, int)
+     */
+    public LocalDate addJudicialDays(LocalDate date, int amount) {
+        return table.addBusinessDays(date, amount);
+    }
+
+    /**
+     * Counts the judicial days in {@code [fromInclusive, toExclusive)}.
+     *
+     * @param fromInclusive the first epoch day of the interval
+     * @param toExclusive the epoch day following the interval
+     * @return the number of judicial days, negative if {@code toExclusive < fromInclusive}
+     * @throws IllegalArgumentException if a bound is outside the calendar range
+     */
+    public int judicialDaysBetween(long fromInclusive, long toExclusive) {
+        return table.businessDaysBetween(fromInclusive, toExclusive);
+    }
+
+    /**
+     * Counts the judicial days in {@code [fromInclusive, toExclusive)}.
+     *
+     * @param fromInclusive the first date of the interval; must not be null
+     * @param toExclusive the date following the interval; must not be null
+     * @return the number of judicial days, negative if {@code toExclusive} is before {@code fromInclusive}
+     * @throws IllegalArgumentException if a date is {@code null} or outside the calendar range
+     */
+    public int judicialDaysBetween(LocalDate fromInclusive, LocalDate toExclusive) {
+        return table.businessDaysBetween(fromInclusive, toExclusive);
+    }
+
+    /**
+     * Gets the first judicial day strictly after a date.
+     *
+     * @param date the date; must not be null
+     * @return the next judicial day
+     * @throws IllegalArgumentException if the date is {@code null} or the date or result is outside the calendar range
+     */
+    public LocalDate nextJudicialDay(LocalDate date) {
+        return table.addBusinessDays(date, 1);
+    }
+
+    private static void setRange(long[] bits, long firstEpochDay, int dayCount, LocalDate from, LocalDate to) {
+        int start = (int) Math.max(0, from.toEpochDay() - firstEpochDay);
+        int end = (int) Math.min(dayCount - 1, to.toEpochDay() - firstEpochDay);
+        for (int offset = start; offset <= end; offset++) {
+            bits[offset >>> 6] |= 1L << offset;
+        }
+    }
+
+    private static long toEpochDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        return date.toEpochDay();
+    }
+
+    private static boolean isSet(long[] bits, int offset) {
+        return (bits[offset >>> 6] & (1L << offset)) != 0;
+    }
+}
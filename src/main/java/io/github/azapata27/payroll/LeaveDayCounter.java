@@ -0,0 +1,231 @@
+package io.github.azapata27.payroll;
+
+import io.github.azapata27.ColombianHolidayValidator;
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.WorkWeek;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Counts the business days, holidays and weekend days of leave intervals, for vacation accounting where holidays
+ * inside a leave do not consume vacation days. The working days default to Monday to Friday; another
+ * {@link WorkWeek}, such as {@link WorkWeek#MONDAY_TO_SATURDAY} for employers that work on Saturdays, can be given,
+ * in which case the weekend days are the days outside it.
+ * <p>
+ * The calendar of a range of years is turned once into two prefix sums: the business-day ranks of a
+ * {@link BusinessDayTable} and the number of holidays on working days before each day. The counts of an interval
+ * are then differences of those sums, and the weekend days what is left of its length, so each interval costs
+ * {@code O(1)} whatever its length. Intervals include both their first and their last day.
+ * <p>
+ * {@link #count(long[], long[], LeaveDaysBatch)} fills reusable columns without allocating, and
+ * {@link #countParallel(long[], long[], LeaveDaysBatch)} splits a batch into chunks counted concurrently.
+ * Instances are immutable and safe to share between threads. The prefix sums are computed once from the holidays of
+ * the validator, so a counter built before the definitions change keeps counting with the old holidays; rebuild it
+ * when {@link HolidayValidator#getCalendarVersion()} changes.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * LeaveDayCounter counter = LeaveDayCounter.of(ColombianHolidayValidator.getDefault(), Year.of(2000), Year.of(2026));
+ *
+ * LeaveDaysBatch days = LeaveDaysBatch.allocate(firstDays.length);
+ * counter.countParallel(firstDays, lastDays, days);
+ * int[] vacationDaysUsed = days.getBusinessDays();
+ * }</pre>
+ *
+ * @see LeaveDays
+ */
+public final class LeaveDayCounter {
+
+    /** Default number of intervals counted by each parallel task. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final BusinessDayTable businessDays;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+    private final int[] workingDayHolidaysBefore;
+
+    private LeaveDayCounter(BusinessDayTable businessDays, int[] workingDayHolidaysBefore) {
+        this.businessDays = businessDays;
+        this.firstEpochDay = businessDays.getFirstEpochDay();
+        this.endEpochDay = businessDays.getEndEpochDay();
+        this.workingDayHolidaysBefore = workingDayHolidaysBefore;
+    }
+
+    /**
+     * Builds a counter for intervals within the given range of years, working Monday to Friday.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param from the first year of the intervals, inclusive; must not be null
+     * @param to the last year of the intervals, inclusive; must not be null
+     * @return the counter for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     * @see ColombianHolidayValidator#getDefault()
+     */
+    public static LeaveDayCounter of(HolidayValidator<?> validator, Year from, Year to) {
+        return of(validator, from, to, WorkWeek.MONDAY_TO_FRIDAY);
+    }
+
+    /**
+     * Builds a counter for intervals within the given range of years, with the given working days. Holidays are
+     * counted apart only when they fall on a working day.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param from the first year of the intervals, inclusive; must not be null
+     * @param to the last year of the intervals, inclusive; must not be null
+     * @param workWeek the days of the week that are worked; must not be null
+     * @return the counter for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static LeaveDayCounter of(HolidayValidator<?> validator, Year from, Year to, WorkWeek workWeek) {
+        if (workWeek == null) {
+            throw new IllegalArgumentException("The work week must not be null");
+        }
+        BusinessDayTable businessDays = BusinessDayTable.of(validator, from, to).withWorkWeek(workWeek);
+        long firstEpochDay = businessDays.getFirstEpochDay();
+        int dayCount = (int) (businessDays.getEndEpochDay() - firstEpochDay);
+        int[] workingDayHolidaysBefore = new int[dayCount + 1];
+        for (int offset = 0; offset < dayCount; offset++) {
+            long epochDay = firstEpochDay + offset;
+            boolean workingDayHoliday = workWeek.isWorkingDay(EpochDayCalculator.dayOfWeek(epochDay))
+                    && businessDays.isHoliday(epochDay);
+            workingDayHolidaysBefore[offset + 1] = workingDayHolidaysBefore[offset] + (workingDayHoliday ? 1 : 0);
+        }
+        return new LeaveDayCounter(businessDays, workingDayHolidaysBefore);
+    }
+
+    /**
+     * Counts the days of one interval.
+     *
+     * @param first the first day of the leave; must not be null and within the counter range
+     * @param last the last day of the leave, inclusive; must not be null, before {@code first} nor outside the
+     *             counter range
+     * @return the days of each kind
+     * @throws IllegalArgumentException if a date is {@code null} or outside the counter range, or {@code last} is
+     *                                  before {@code first}
+     */
+    public LeaveDays count(LocalDate first, LocalDate last) {
+        if (first == null || last == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        LeaveDaysBatch days = LeaveDaysBatch.allocate(1);
+        count(first.toEpochDay(), last.toEpochDay(), days, 0);
+        return new LeaveDays(days.getBusinessDays()[0], days.getHolidays()[0], days.getWeekendDays()[0]);
+    }
+
+    /**
+     * Counts the days of every interval, on the calling thread.
+     *
+     * @param firstEpochDays the first day of each leave; must not be null
+     * @param lastEpochDays the last day of each leave, inclusive, with as many elements as {@code firstEpochDays};
+     *                      must not be null
+     * @param days the columns receiving the counts, with as many rows as the intervals; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or an interval ends before
+     *                                  it starts or is outside the counter range
+     */
+    public void count(long[] firstEpochDays, long[] lastEpochDays, LeaveDaysBatch days) {
+        checkBatch(firstEpochDays, lastEpochDays, days);
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        count(firstEpochDays, lastEpochDays, days, 0, firstEpochDays.length);
+        HolidayEvents.commitBatch(event, "LeaveDayCounter.count", firstEpochDays.length);
+    }
+
+    /**
+     * Counts the days of every interval in chunks of {@link #DEFAULT_CHUNK_SIZE} intervals on the common
+     * fork-join pool.
+     *
+     * @param firstEpochDays the first day of each leave; must not be null
+     * @param lastEpochDays the last day of each leave, inclusive, with as many elements as {@code firstEpochDays};
+     *                      must not be null
+     * @param days the columns receiving the counts, with as many rows as the intervals; must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or an interval ends before
+     *                                  it starts or is outside the counter range
+     */
+    public void countParallel(long[] firstEpochDays, long[] lastEpochDays, LeaveDaysBatch days) {
+        countParallel(firstEpochDays, lastEpochDays, days, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Counts the days of every interval in chunks counted concurrently on an executor, and waits for all of them.
+     *
+     * @param firstEpochDays the first day of each leave; must not be null
+     * @param lastEpochDays the last day of each leave, inclusive, with as many elements as {@code firstEpochDays};
+     *                      must not be null
+     * @param days the columns receiving the counts, with as many rows as the intervals; must not be null
+     * @param executor the executor counting the chunks; must not be null
+     * @param chunkSize the number of intervals of each chunk; must be positive
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, {@code chunkSize} is not
+     *                                  positive, or an interval ends before it starts or is outside the counter
+     *                                  range
+     */
+    public void countParallel(long[] firstEpochDays, long[] lastEpochDays, LeaveDaysBatch days, Executor executor,
+                              int chunkSize) {
+        checkBatch(firstEpochDays, lastEpochDays, days);
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        int chunks = (int) ((firstEpochDays.length + (long) chunkSize - 1) / chunkSize);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = Math.min(firstEpochDays.length, start + chunkSize);
+            futures[chunk] = CompletableFuture.runAsync(
+                    () -> count(firstEpochDays, lastEpochDays, days, start, end), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        HolidayEvents.commitBatch(event, "LeaveDayCounter.countParallel", firstEpochDays.length);
+    }
+
+    private void count(long[] firstEpochDays, long[] lastEpochDays, LeaveDaysBatch days, int start, int end) {
+        for (int row = start; row < end; row++) {
+            count(firstEpochDays[row], lastEpochDays[row], days, row);
+        }
+    }
+
+    private void count(long first, long last, LeaveDaysBatch days, int row) {
+        if (last < first) {
+            throw new IllegalArgumentException("The leave must not end before it starts");
+        }
+        if (first < firstEpochDay || last >= endEpochDay) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        int business = businessDays.businessDaysBetween(first, last + 1);
+        int holidays = workingDayHolidaysBefore[(int) (last + 1 - firstEpochDay)]
+                - workingDayHolidaysBefore[(int) (first - firstEpochDay)];
+        days.getBusinessDays()[row] = business;
+        days.getHolidays()[row] = holidays;
+        days.getWeekendDays()[row] = (int) (last - first + 1) - business - holidays;
+    }
+
+    private static void checkBatch(long[] firstEpochDays, long[] lastEpochDays, LeaveDaysBatch days) {
+        if (firstEpochDays == null || lastEpochDays == null) {
+            throw new IllegalArgumentException("The leave days must not be null");
+        }
+        if (days == null) {
+            throw new IllegalArgumentException("The days must not be null");
+        }
+        if (lastEpochDays.length != firstEpochDays.length || days.size() != firstEpochDays.length) {
+            throw new IllegalArgumentException("The leave days and the counts must have the same size");
+        }
+    }
+}
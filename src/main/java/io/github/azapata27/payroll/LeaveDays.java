@@ -0,0 +1,53 @@
+package io.github.azapata27.payroll;
+
+/**
+ * Immutable split of one leave interval into the days of each kind. The kinds do not overlap, so their sum is the
+ * length of the interval. The working days are those of the counter's
+ * {@link io.github.azapata27.table.WorkWeek}, Monday to Friday by default.
+ * <ul>
+ *   <li><b>business days</b> - working days that are not holidays, the days a vacation consumes</li>
+ *   <li><b>holidays</b> - holidays falling on a working day</li>
+ *   <li><b>weekend days</b> - days that are not worked, holidays or not</li>
+ * </ul>
+ *
+ * @see LeaveDayCounter
+ */
+public final class LeaveDays {
+
+    private final int businessDays;
+    private final int holidays;
+    private final int weekendDays;
+
+    LeaveDays(int businessDays, int holidays, int weekendDays) {
+        this.businessDays = businessDays;
+        this.holidays = holidays;
+        this.weekendDays = weekendDays;
+    }
+
+    public int getBusinessDays() {
+        return businessDays;
+    }
+
+    public int getHolidays() {
+        return holidays;
+    }
+
+    public int getWeekendDays() {
+        return weekendDays;
+    }
+
+    /**
+     * Gets the length of the interval.
+     *
+     * @return the sum of the days of every kind
+     */
+    public int getTotal() {
+        return businessDays + holidays + weekendDays;
+    }
+
+    @Override
+    public String toString() {
+        return "LeaveDays{businessDays=" + businessDays + ", holidays=" + holidays + ", weekendDays=" + weekendDays
+                + "}";
+    }
+}
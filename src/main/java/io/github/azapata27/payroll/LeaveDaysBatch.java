@@ -0,0 +1,57 @@
+package io.github.azapata27.payroll;
+
+/**
+ * Columnar day counts of a batch of leave intervals, filled by
+ * {@link LeaveDayCounter#count(long[], long[], LeaveDaysBatch)}.
+ * <p>
+ * Each kind is an {@code int} array indexed like the interval arrays, with the meaning described in
+ * {@link LeaveDays}. Instances are mutable and meant to be reused across batches of the same size; distinct rows
+ * may be filled concurrently.
+ */
+public final class LeaveDaysBatch {
+
+    private final int[] businessDays;
+    private final int[] holidays;
+    private final int[] weekendDays;
+
+    private LeaveDaysBatch(int rows) {
+        this.businessDays = new int[rows];
+        this.holidays = new int[rows];
+        this.weekendDays = new int[rows];
+    }
+
+    /**
+     * Allocates the columns of a batch.
+     *
+     * @param rows the number of intervals; must not be negative
+     * @return empty columns of the given size
+     * @throws IllegalArgumentException if {@code rows} is negative
+     */
+    public static LeaveDaysBatch allocate(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("The number of rows must not be negative");
+        }
+        return new LeaveDaysBatch(rows);
+    }
+
+    /**
+     * Gets the number of intervals of the columns.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return businessDays.length;
+    }
+
+    public int[] getBusinessDays() {
+        return businessDays;
+    }
+
+    public int[] getHolidays() {
+        return holidays;
+    }
+
+    public int[] getWeekendDays() {
+        return weekendDays;
+    }
+}
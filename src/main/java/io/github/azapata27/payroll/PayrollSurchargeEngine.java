@@ -0,0 +1,310 @@
+package io.github.azapata27.payroll;
+
+import io.github.azapata27.ColombianHolidayValidator;
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.calculator.EpochDayResolver;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+
+/**
+ * Splits work shifts into the minute categories of the Colombian surcharges: ordinary, night ("recargo nocturno"),
+ * Sunday and holiday ("recargo dominical y festivo") and night on a Sunday or holiday.
+ * <p>
+ * Night work runs by default from {@link #DEFAULT_NIGHT_START 19:00} to {@link #DEFAULT_NIGHT_END 06:00}, as set by
+ * article 160 of the Labour Code as amended by Law 2466 of 2025. The amendment applies from
+ * {@link #NIGHT_REFORM_DATE 2025-12-25}; on earlier days the default window starts at
+ * {@link #FORMER_NIGHT_START 21:00}, so shifts are split by the rule in force on each day. A fixed window can be given
+ * instead when another rule applies. Minutes are classified by the local day they fall on, so an overnight shift that starts on a working day and ends on a holiday is
+ * surcharged only from midnight, and the reverse for a shift leaving a holiday.
+ * <p>
+ * Whether each day is a Sunday or a holiday is computed once for a range of years and kept as a bitset. A shift is
+ * then split by walking its boundaries (midnight, the start and the end of the night window), at most three
+ * segments per day, so the cost does not depend on the length of the shift in minutes. Timestamps are UTC epoch
+ * milliseconds, truncated to the minute and resolved to local time with the offset of the validator's zone at the
+ * start of the shift. {@link #split(long[], long[], ShiftMinutesBatch)} allocates nothing for zones with a fixed
+ * offset, such as America/Bogota. Instances are immutable and safe to share between threads.
+ * <p>
+ * Sundays and holidays are loaded when the engine is built and are not refreshed afterwards; after a change of the
+ * holiday definitions, signalled by {@link HolidayValidator#getCalendarVersion()} or a
+ * {@link io.github.azapata27.change.CalendarChangeListener}, build a new engine.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * PayrollSurchargeEngine engine = PayrollSurchargeEngine.of(ColombianHolidayValidator.getDefault(),
+ *         Year.of(2024), Year.of(2026));
+ *
+ * ShiftMinutesBatch minutes = ShiftMinutesBatch.allocate(punchIn.length);
+ * engine.split(punchIn, punchOut, minutes);
+ * int[] holidayMinutes = minutes.getHoliday();
+ * }</pre>
+ *
+ * @see ShiftMinutes
+ */
+public final class PayrollSurchargeEngine {
+
+    /** Default start of night work, from {@link #NIGHT_REFORM_DATE} on. */
+    public static final LocalTime DEFAULT_NIGHT_START = LocalTime.of(19, 0);
+
+    /** Default start of night work before {@link #NIGHT_REFORM_DATE}. */
+    public static final LocalTime FORMER_NIGHT_START = LocalTime.of(21, 0);
+
+    /** First day night work starts at {@link #DEFAULT_NIGHT_START} under Law 2466 of 2025. */
+    public static final LocalDate NIGHT_REFORM_DATE = LocalDate.of(2025, 12, 25);
+
+    /** Default end of night work, on the following morning. */
+    public static final LocalTime DEFAULT_NIGHT_END = LocalTime.of(6, 0);
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private final EpochDayResolver resolver;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+    private final long[] surchargeDays;
+    private final long reformEpochDay;
+    private final int formerNightStart;
+    private final int nightStart;
+    private final int nightEnd;
+
+    private PayrollSurchargeEngine(EpochDayResolver resolver, long firstEpochDay, long endEpochDay,
+                                   long[] surchargeDays, long reformEpochDay, int formerNightStart, int nightStart,
+                                   int nightEnd) {
+        this.resolver = resolver;
+        this.firstEpochDay = firstEpochDay;
+        this.endEpochDay = endEpochDay;
+        this.surchargeDays = surchargeDays;
+        this.reformEpochDay = reformEpochDay;
+        this.formerNightStart = formerNightStart;
+        this.nightStart = nightStart;
+        this.nightEnd = nightEnd;
+    }
+
+    /**
+     * Builds an engine for shifts within the given range of years, with the default night window: from
+     * {@link #FORMER_NIGHT_START} to {@link #DEFAULT_NIGHT_END} on days before {@link #NIGHT_REFORM_DATE}, and from
+     * {@link #DEFAULT_NIGHT_START} to {@link #DEFAULT_NIGHT_END} from then on.
+     *
+     * @param validator the validator providing the holidays and the local zone; must not be null
+     * @param from the first year of the shifts, inclusive; must not be null
+     * @param to the last year of the shifts, inclusive; must not be null
+     * @return the surcharge engine for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     * @see ColombianHolidayValidator#getDefault()
+     */
+    public static PayrollSurchargeEngine of(HolidayValidator<?> validator, Year from, Year to) {
+        return of(validator, from, to, NIGHT_REFORM_DATE.toEpochDay(), FORMER_NIGHT_START, DEFAULT_NIGHT_START,
+                DEFAULT_NIGHT_END);
+    }
+
+    /**
+     * Builds an engine for shifts within the given range of years, with the given night window on every day. A
+     * window whose start is after its end spans midnight.
+     *
+     * @param validator the validator providing the holidays and the local zone; must not be null
+     * @param from the first year of the shifts, inclusive; must not be null
+     * @param to the last year of the shifts, inclusive; must not be null
+     * @param nightStart the local time night work starts; must not be null
+     * @param nightEnd the local time night work ends; must not be null nor equal to {@code nightStart}
+     * @return the surcharge engine for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null}, {@code to} is before {@code from}, or the
+     *                                  night window is empty
+     */
+    public static PayrollSurchargeEngine of(HolidayValidator<?> validator, Year from, Year to,
+                                            LocalTime nightStart, LocalTime nightEnd) {
+        return of(validator, from, to, Long.MIN_VALUE, nightStart, nightStart, nightEnd);
+    }
+
+    private static PayrollSurchargeEngine of(HolidayValidator<?> validator, Year from, Year to, long reformEpochDay,
+                                             LocalTime formerNightStart, LocalTime nightStart, LocalTime nightEnd) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (nightStart == null || nightEnd == null) {
+            throw new IllegalArgumentException("The night window must not be null");
+        }
+        int formerStart = formerNightStart.getHour() * 60 + formerNightStart.getMinute();
+        int start = nightStart.getHour() * 60 + nightStart.getMinute();
+        int end = nightEnd.getHour() * 60 + nightEnd.getMinute();
+        if (start == end || formerStart == end) {
+            throw new IllegalArgumentException("The night window must not be empty");
+        }
+
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        long endEpochDay = EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1);
+        int dayCount = (int) (endEpochDay - firstEpochDay);
+        long[] surchargeDays = new long[(dayCount + 63) >>> 6];
+        for (int offset = 0; offset < dayCount; offset++) {
+            if (EpochDayCalculator.dayOfWeek(firstEpochDay + offset) == 7) {
+                surchargeDays[offset >>> 6] |= 1L << offset;
+            }
+        }
+        for (int year = from.getValue(); year <= to.getValue(); year++) {
+            for (LocalDate holiday : validator.getHolidayDatesForYear(Year.of(year))) {
+                int offset = (int) (holiday.toEpochDay() - firstEpochDay);
+                if (offset >= 0 && offset < dayCount) {
+                    surchargeDays[offset >>> 6] |= 1L << offset;
+                }
+            }
+        }
+        return new PayrollSurchargeEngine(new EpochDayResolver(validator.getZone()), firstEpochDay, endEpochDay,
+                surchargeDays, reformEpochDay, formerStart, start, end);
+    }
+
+    /**
+     * Checks if a local day is paid with the Sunday and holiday surcharge.
+     *
+     * @param date the date to check; must not be null and within the engine range
+     * @return {@code true} if the date is a Sunday or a holiday, {@code false} otherwise
+     * @throws IllegalArgumentException if the date is {@code null} or outside the engine range
+     */
+    public boolean isSurchargeDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        long epochDay = date.toEpochDay();
+        if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        return isSurchargeDay(epochDay);
+    }
+
+    /**
+     * Splits one shift.
+     *
+     * @param start the start of the shift; must not be null
+     * @param end the end of the shift, exclusive; must not be null nor before {@code start}
+     * @return the minutes of each category
+     * @throws IllegalArgumentException if an argument is {@code null}, the shift ends before it starts, or it is
+     *                                  outside the engine range
+     */
+    public ShiftMinutes split(Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("The shift bounds must not be null");
+        }
+        return split(start.toEpochMilli(), end.toEpochMilli());
+    }
+
+    /**
+     * Splits one shift given as UTC epoch milliseconds.
+     *
+     * @param startMillis the start of the shift
+     * @param endMillis the end of the shift, exclusive; must not be before {@code startMillis}
+     * @return the minutes of each category
+     * @throws IllegalArgumentException if the shift ends before it starts or is outside the engine range
+     */
+    public ShiftMinutes split(long startMillis, long endMillis) {
+        ShiftMinutesBatch minutes = ShiftMinutesBatch.allocate(1);
+        split(startMillis, endMillis, minutes, 0);
+        return new ShiftMinutes(minutes.getOrdinary()[0], minutes.getNight()[0], minutes.getHoliday()[0],
+                minutes.getNightHoliday()[0]);
+    }
+
+    /**
+     * Splits a batch of shifts given as UTC epoch milliseconds, without allocating.
+     *
+     * @param startMillis the start of each shift; must not be null
+     * @param endMillis the exclusive end of each shift, with as many elements as {@code startMillis}; must not be
+     *                  null
+     * @param minutes the columns receiving the minutes of each shift, with as many rows as the shifts; must not be
+     *                null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a shift ends before it
+     *                                  starts or is outside the engine range
+     */
+    public void split(long[] startMillis, long[] endMillis, ShiftMinutesBatch minutes) {
+        if (startMillis == null || endMillis == null) {
+            throw new IllegalArgumentException("The shift bounds must not be null");
+        }
+        if (minutes == null) {
+            throw new IllegalArgumentException("The minutes must not be null");
+        }
+        if (endMillis.length != startMillis.length || minutes.size() != startMillis.length) {
+            throw new IllegalArgumentException("The shift bounds and the minutes must have the same size");
+        }
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        for (int row = 0; row < startMillis.length; row++) {
+            split(startMillis[row], endMillis[row], minutes, row);
+        }
+        HolidayEvents.commitBatch(event, "PayrollSurchargeEngine.split", startMillis.length);
+    }
+
+    private void split(long startMillis, long endMillis, ShiftMinutesBatch minutes, int row) {
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("The shift must not end before it starts");
+        }
+        long offsetMillis = resolver.getOffsetMillis(startMillis);
+        long start = Math.floorDiv(startMillis + offsetMillis, MILLIS_PER_MINUTE);
+        long end = Math.floorDiv(endMillis + offsetMillis, MILLIS_PER_MINUTE);
+        if (Math.floorDiv(start, MINUTES_PER_DAY) < firstEpochDay
+                || Math.floorDiv(end - 1, MINUTES_PER_DAY) >= endEpochDay) {
+            throw new IllegalArgumentException("The shift is outside the table range");
+        }
+
+        int ordinary = 0;
+        int night = 0;
+        int holiday = 0;
+        int nightHoliday = 0;
+        long cursor = start;
+        while (cursor < end) {
+            long epochDay = Math.floorDiv(cursor, MINUTES_PER_DAY);
+            long dayStart = epochDay * MINUTES_PER_DAY;
+            int minuteOfDay = (int) (cursor - dayStart);
+            int dayNightStart = epochDay < reformEpochDay ? formerNightStart : nightStart;
+            int boundary = nextBoundary(minuteOfDay, dayNightStart);
+            int length = (int) (Math.min(end, dayStart + boundary) - cursor);
+            boolean nightMinute = isNight(minuteOfDay, dayNightStart);
+            if (isSurchargeDay(epochDay)) {
+                if (nightMinute) {
+                    nightHoliday += length;
+                } else {
+                    holiday += length;
+                }
+            } else if (nightMinute) {
+                night += length;
+            } else {
+                ordinary += length;
+            }
+            cursor += length;
+        }
+        minutes.getOrdinary()[row] = ordinary;
+        minutes.getNight()[row] = night;
+        minutes.getHoliday()[row] = holiday;
+        minutes.getNightHoliday()[row] = nightHoliday;
+    }
+
+    /**
+     * Gets the first minute of the day after {@code minuteOfDay} where the night window starts or ends, or midnight.
+     */
+    private int nextBoundary(int minuteOfDay, int nightStart) {
+        int boundary = MINUTES_PER_DAY;
+        if (nightStart > minuteOfDay) {
+            boundary = nightStart;
+        }
+        if (nightEnd > minuteOfDay && nightEnd < boundary) {
+            boundary = nightEnd;
+        }
+        return boundary;
+    }
+
+    private boolean isNight(int minuteOfDay, int nightStart) {
+        return nightStart > nightEnd
+                ? minuteOfDay >= nightStart || minuteOfDay < nightEnd
+                : minuteOfDay >= nightStart && minuteOfDay < nightEnd;
+    }
+
+    private boolean isSurchargeDay(long epochDay) {
+        int offset = (int) (epochDay - firstEpochDay);
+        return (surchargeDays[offset >>> 6] & (1L << offset)) != 0;
+    }
+}
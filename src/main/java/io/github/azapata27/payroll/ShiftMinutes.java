@@ -0,0 +1,58 @@
+package io.github.azapata27.payroll;
+
+/**
+ * Immutable split of one shift into the minutes of each surcharge category.
+ * <ul>
+ *   <li><b>ordinary</b> - daytime minutes on a working day</li>
+ *   <li><b>night</b> - night minutes on a working day</li>
+ *   <li><b>holiday</b> - daytime minutes on a Sunday or holiday</li>
+ *   <li><b>night holiday</b> - night minutes on a Sunday or holiday</li>
+ * </ul>
+ *
+ * @see PayrollSurchargeEngine
+ */
+public final class ShiftMinutes {
+
+    private final int ordinary;
+    private final int night;
+    private final int holiday;
+    private final int nightHoliday;
+
+    ShiftMinutes(int ordinary, int night, int holiday, int nightHoliday) {
+        this.ordinary = ordinary;
+        this.night = night;
+        this.holiday = holiday;
+        this.nightHoliday = nightHoliday;
+    }
+
+    public int getOrdinary() {
+        return ordinary;
+    }
+
+    public int getNight() {
+        return night;
+    }
+
+    public int getHoliday() {
+        return holiday;
+    }
+
+    public int getNightHoliday() {
+        return nightHoliday;
+    }
+
+    /**
+     * Gets the length of the shift.
+     *
+     * @return the sum of the minutes of every category
+     */
+    public int getTotal() {
+        return ordinary + night + holiday + nightHoliday;
+    }
+
+    @Override
+    public String toString() {
+        return "ShiftMinutes{ordinary=" + ordinary + ", night=" + night + ", holiday=" + holiday
+                + ", nightHoliday=" + nightHoliday + "}";
+    }
+}
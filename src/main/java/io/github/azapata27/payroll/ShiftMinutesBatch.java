@@ -0,0 +1,62 @@
+package io.github.azapata27.payroll;
+
+/**
+ * Columnar surcharge minutes of a batch of shifts, filled by
+ * {@link PayrollSurchargeEngine#split(long[], long[], ShiftMinutesBatch)}.
+ * <p>
+ * Each category is an {@code int} array indexed like the shift arrays, with the meaning described in
+ * {@link ShiftMinutes}. Instances are mutable and meant to be reused across batches of the same size.
+ */
+public final class ShiftMinutesBatch {
+
+    private final int[] ordinary;
+    private final int[] night;
+    private final int[] holiday;
+    private final int[] nightHoliday;
+
+    private ShiftMinutesBatch(int rows) {
+        this.ordinary = new int[rows];
+        this.night = new int[rows];
+        this.holiday = new int[rows];
+        this.nightHoliday = new int[rows];
+    }
+
+    /**
+     * Allocates the columns of a batch.
+     *
+     * @param rows the number of shifts; must not be negative
+     * @return empty columns of the given size
+     * @throws IllegalArgumentException if {@code rows} is negative
+     */
+    public static ShiftMinutesBatch allocate(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("The number of rows must not be negative");
+        }
+        return new ShiftMinutesBatch(rows);
+    }
+
+    /**
+     * Gets the number of shifts of the columns.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return ordinary.length;
+    }
+
+    public int[] getOrdinary() {
+        return ordinary;
+    }
+
+    public int[] getNight() {
+        return night;
+    }
+
+    public int[] getHoliday() {
+        return holiday;
+    }
+
+    public int[] getNightHoliday() {
+        return nightHoliday;
+    }
+}
@@ -0,0 +1,297 @@
+package io.github.azapata27.schedule;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.enums.SchedulePeriod;
+import io.github.azapata27.table.BusinessDayTable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Computes the fire times of {@link ScheduleExpression}s over a range of years and runs recurring jobs on a
+ * {@link ScheduledExecutorService}.
+ * <p>
+ * Fire days are found by rank arithmetic on a {@link BusinessDayTable}: the nth business day of a period is the
+ * business day whose rank is the rank of the period start plus {@code n - 1}, and the next business day is the one
+ * with the following rank. No computation walks the calendar day by day, so the next {@code N} fire times cost
+ * {@code O(N)} lookups whatever the gaps between them. Fire times are the expression's local time on the fire day,
+ * in the zone of the validator; fire days after the last year of the scheduler are not reported.
+ * <p>
+ * The table is rebuilt when the {@link HolidayValidator#getCalendarVersion() calendar version} of the validator
+ * changes, so jobs follow updated holiday definitions. Instances are thread-safe.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * BusinessDayScheduler scheduler = BusinessDayScheduler.of(ColombianHolidayValidator.getDefault(),
+ *         Year.of(2024), Year.of(2035));
+ *
+ * ScheduleExpression payroll = ScheduleExpression.nthBusinessDayOfMonth(3).at(LocalTime.of(8, 0));
+ * List<ZonedDateTime> nextRuns = scheduler.nextFireTimes(payroll, Instant.now(), 12);
+ * ScheduledJob job = scheduler.schedule(executor, payroll, this::runPayroll);
+ * }</pre>
+ *
+ * @see ScheduleExpression
+ * @see ScheduledJob
+ */
+public final class BusinessDayScheduler {
+
+    /** Minimum distance in days from a business day to the next one for the days between to be a long weekend. */
+    private static final int LONG_WEEKEND_GAP = 4;
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final HolidayValidator<?> validator;
+    private final Year from;
+    private final Year to;
+    private final Clock clock;
+    private volatile VersionedTable table;
+
+    private BusinessDayScheduler(HolidayValidator<?> validator, Year from, Year to, Clock clock) {
+        this.validator = validator;
+        this.from = from;
+        this.to = to;
+        this.clock = clock;
+        this.table = buildTable();
+    }
+
+    /**
+     * Creates a scheduler for the given range of years that follows the system clock.
+     *
+     * @param validator the validator providing the holidays and the zone of fire times; must not be null
+     * @param from the first year of the scheduler, inclusive; must not be null
+     * @param to the last year of the scheduler, inclusive; must not be null
+     * @return the scheduler
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static BusinessDayScheduler of(HolidayValidator<?> validator, Year from, Year to) {
+        return of(validator, from, to, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a scheduler for the given range of years that measures delays with the given clock.
+     *
+     * @param validator the validator providing the holidays and the zone of fire times; must not be null
+     * @param from the first year of the scheduler, inclusive; must not be null
+     * @param to the last year of the scheduler, inclusive; must not be null
+     * @param clock the clock giving the current instant when jobs are scheduled; must not be null
+     * @return the scheduler
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static BusinessDayScheduler of(HolidayValidator<?> validator, Year from, Year to, Clock clock) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("The clock must not be null");
+        }
+        return new BusinessDayScheduler(validator, from, to, clock);
+    }
+
+    /**
+     * Gets the zone in which fire times are expressed.
+     *
+     * @return the zone of the validator
+     */
+    public ZoneId getZone() {
+        return validator.getZone();
+    }
+
+    /**
+     * Gets the first fire time strictly after an instant.
+     *
+     * @param expression the schedule; must not be null
+     * @param after the instant to search from, exclusive; must not be null and not before the first year
+     * @return the next fire time, or empty if there is none until the end of the last year
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code after} is before the first year
+     */
+    public Optional<ZonedDateTime> nextFireTime(ScheduleExpression expression, Instant after) {
+        List<ZonedDateTime> fireTimes = nextFireTimes(expression, after, 1);
+        return fireTimes.isEmpty() ? Optional.empty() : Optional.of(fireTimes.get(0));
+    }
+
+    /**
+     * Gets the next fire times strictly after an instant.
+     *
+     * @param expression the schedule; must not be null
+     * @param after the instant to search from, exclusive; must not be null and not before the first year
+     * @param count the maximum number of fire times, must not be negative
+     * @return up to {@code count} fire times in ascending order, fewer if the last year is reached
+     * @throws IllegalArgumentException if an argument is {@code null}, {@code count} is negative or {@code after}
+     *                                  is before the first year
+     */
+    public List<ZonedDateTime> nextFireTimes(ScheduleExpression expression, Instant after, int count) {
+        if (expression == null) {
+            throw new IllegalArgumentException("The schedule expression must not be null");
+        }
+        if (after == null) {
+            throw new IllegalArgumentException("The instant must not be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("The count must not be negative");
+        }
+        long[] fireDays = new long[count];
+        int found = nextFireDays(expression, startDayAfter(expression, after), fireDays);
+        List<ZonedDateTime> fireTimes = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            fireTimes.add(atFireTime(expression, fireDays[i]));
+        }
+        return fireTimes;
+    }
+
+    /**
+     * Fills an array with the next fire days on or after an epoch day, ignoring the time of day.
+     * This is the bulk primitive behind the other queries.
+     *
+     * @param expression the schedule; must not be null
+     * @param fromEpochDay the first candidate epoch day, inclusive; must not be before the first year
+     * @param fireDays the array receiving the epoch days of the fire days; must not be null
+     * @return the number of fire days written, less than the array length if the last year is reached
+     * @throws IllegalArgumentException if an argument is {@code null} or the day is before the first year
+     */
+    public int nextFireDays(ScheduleExpression expression, long fromEpochDay, long[] fireDays) {
+        if (expression == null) {
+            throw new IllegalArgumentException("The schedule expression must not be null");
+        }
+        if (fireDays == null) {
+            throw new IllegalArgumentException("The fire day array must not be null");
+        }
+        BusinessDayTable current = currentTable();
+        if (fromEpochDay < current.getFirstEpochDay()) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        long startDay = fromEpochDay;
+        for (int i = 0; i < fireDays.length; i++) {
+            long fireDay = firstFireDay(expression, current, startDay);
+            if (fireDay == NONE) {
+                return i;
+            }
+            fireDays[i] = fireDay;
+            startDay = fireDay + 1;
+        }
+        return fireDays.length;
+    }
+
+    /**
+     * Runs a task at every fire time of an expression on an executor, starting after the current instant of the
+     * scheduler clock. Each execution schedules the next one once the task returns, so executions never overlap.
+     *
+     * @param executor the executor running the task; must not be null
+     * @param expression the schedule; must not be null
+     * @param task the task to run; must not be null
+     * @return the handle of the recurring job
+     * @throws IllegalArgumentException if an argument is {@code null}
+     * @throws java.util.concurrent.RejectedExecutionException if the executor does not accept the first execution
+     */
+    public ScheduledJob schedule(ScheduledExecutorService executor, ScheduleExpression expression, Runnable task) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        if (expression == null) {
+            throw new IllegalArgumentException("The schedule expression must not be null");
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("The task must not be null");
+        }
+        ScheduledJob job = new ScheduledJob(this, executor, expression, task, clock);
+        job.scheduleAfter(clock.instant());
+        return job;
+    }
+
+    private long startDayAfter(ScheduleExpression expression, Instant after) {
+        ZonedDateTime local = after.atZone(getZone());
+        long startDay = local.toLocalDate().toEpochDay();
+        return local.toLocalTime().isBefore(expression.getTime()) ? startDay : startDay + 1;
+    }
+
+    private ZonedDateTime atFireTime(ScheduleExpression expression, long fireDay) {
+        return LocalDate.ofEpochDay(fireDay).atTime(expression.getTime()).atZone(getZone());
+    }
+
+    private static long firstFireDay(ScheduleExpression expression, BusinessDayTable table, long startDay) {
+        if (startDay >= table.getEndEpochDay()) {
+            return NONE;
+        }
+        Optional<SchedulePeriod> period = expression.getPeriod();
+        if (period.isEmpty()) {
+            for (int rank = table.businessDayRank(startDay); rank < table.getBusinessDayCount(); rank++) {
+                if (!expression.isExceptBeforeLongWeekend() || !isBeforeLongWeekend(table, rank)) {
+                    return table.businessDayAt(rank);
+                }
+            }
+            return NONE;
+        }
+
+        int months = period.get().getMonths();
+        int position = expression.getPosition();
+        for (YearMonth start = period.get().startOf(LocalDate.ofEpochDay(startDay)); ; start = start.plusMonths(months)) {
+            long periodStart = start.atDay(1).toEpochDay();
+            if (periodStart >= table.getEndEpochDay()) {
+                return NONE;
+            }
+            int startRank = table.businessDayRank(periodStart);
+            int endRank = table.businessDayRank(start.plusMonths(months).atDay(1).toEpochDay());
+            int rank = position > 0 ? startRank + position - 1 : endRank + position;
+            if (rank >= startRank && rank < endRank) {
+                long fireDay = table.businessDayAt(rank);
+                if (fireDay >= startDay
+                        && (!expression.isExceptBeforeLongWeekend() || !isBeforeLongWeekend(table, rank))) {
+                    return fireDay;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the business day of a rank is followed by a long weekend. The last business day of the table is
+     * treated as such, since the days after it are unknown.
+     */
+    private static boolean isBeforeLongWeekend(BusinessDayTable table, int rank) {
+        if (rank + 1 >= table.getBusinessDayCount()) {
+            return true;
+        }
+        return table.businessDayAt(rank + 1) - table.businessDayAt(rank) >= LONG_WEEKEND_GAP;
+    }
+
+    private BusinessDayTable currentTable() {
+        VersionedTable current = table;
+        if (current.version != validator.getCalendarVersion()) {
+            current = buildTable();
+            table = current;
+        }
+        return current.table;
+    }
+
+    private VersionedTable buildTable() {
+        // Reading the version first means a table is never older than the version it is tagged with
+        long version = validator.getCalendarVersion();
+        return new VersionedTable(version, BusinessDayTable.of(validator, from, to));
+    }
+
+    /**
+     * Business-day table of one calendar version.
+     */
+    private static final class VersionedTable {
+        private final long version;
+        private final BusinessDayTable table;
+
+        private VersionedTable(long version, BusinessDayTable table) {
+            this.version = version;
+            this.table = table;
+        }
+    }
+}
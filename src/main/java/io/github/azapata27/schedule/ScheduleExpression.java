@@ -0,0 +1,195 @@
+package io.github.azapata27.schedule;
+
+import io.github.azapata27.enums.SchedulePeriod;
+
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable description of when a recurring job fires, in business days of a holiday calendar.
+ * <p>
+ * An expression selects fire days in one of two ways, at a local time of day:
+ * <ul>
+ *   <li>{@link #everyBusinessDay()} - every business day</li>
+ *   <li>{@link #nthBusinessDayOf(SchedulePeriod, int)} - the nth business day of each month, quarter or year,
+ *       counted from the start of the period, or from its end for negative positions ({@code -1} is the last)</li>
+ * </ul>
+ * {@link #exceptBeforeLongWeekend()} additionally skips the fire days that are the last business day before three
+ * or more consecutive days off, such as the Friday before a holiday Monday. A period whose selected day is skipped,
+ * or which has fewer business days than the position, does not fire.
+ *
+ * <p><b>Usage examples:</b></p>
+ * <pre>{@code
+ * ScheduleExpression payroll = ScheduleExpression.nthBusinessDayOfMonth(3).at(LocalTime.of(8, 0));
+ * ScheduleExpression sync = ScheduleExpression.everyBusinessDay().exceptBeforeLongWeekend();
+ * ScheduleExpression closing = ScheduleExpression.lastBusinessDayOf(SchedulePeriod.QUARTER);
+ * }</pre>
+ *
+ * @see BusinessDayScheduler
+ */
+public final class ScheduleExpression {
+
+    private final SchedulePeriod period;
+    private final int position;
+    private final LocalTime time;
+    private final boolean exceptBeforeLongWeekend;
+
+    private ScheduleExpression(SchedulePeriod period, int position, LocalTime time, boolean exceptBeforeLongWeekend) {
+        this.period = period;
+        this.position = position;
+        this.time = time;
+        this.exceptBeforeLongWeekend = exceptBeforeLongWeekend;
+    }
+
+    /**
+     * Creates an expression firing on every business day at midnight.
+     *
+     * @return the expression
+     */
+    public static ScheduleExpression everyBusinessDay() {
+        return new ScheduleExpression(null, 0, LocalTime.MIDNIGHT, false);
+    }
+
+    /**
+     * Creates an expression firing on the nth business day of each period at midnight.
+     *
+     * @param period the period; must not be null
+     * @param n the one-based position from the start of the period, or from its end when negative
+     * @return the expression
+     * @throws IllegalArgumentException if {@code period} is null or {@code n} is zero
+     */
+    public static ScheduleExpression nthBusinessDayOf(SchedulePeriod period, int n) {
+        if (period == null) {
+            throw new IllegalArgumentException("The period must not be null");
+        }
+        if (n == 0) {
+            throw new IllegalArgumentException("The business day position must not be zero");
+        }
+        return new ScheduleExpression(period, n, LocalTime.MIDNIGHT, false);
+    }
+
+    /**
+     * Creates an expression firing on the last business day of each period at midnight.
+     *
+     * @param period the period; must not be null
+     * @return the expression
+     * @throws IllegalArgumentException if {@code period} is null
+     */
+    public static ScheduleExpression lastBusinessDayOf(SchedulePeriod period) {
+        return nthBusinessDayOf(period, -1);
+    }
+
+    /**
+     * Creates an expression firing on the nth business day of each month at midnight.
+     *
+     * @param n the one-based position from the start of the month, or from its end when negative
+     * @return the expression
+     * @throws IllegalArgumentException if {@code n} is zero
+     */
+    public static ScheduleExpression nthBusinessDayOfMonth(int n) {
+        return nthBusinessDayOf(SchedulePeriod.MONTH, n);
+    }
+
+    /**
+     * Returns a copy of this expression firing at another local time of day.
+     *
+     * @param time the time of day in the zone of the calendar; must not be null
+     * @return the expression with the given time
+     * @throws IllegalArgumentException if {@code time} is null
+     */
+    public ScheduleExpression at(LocalTime time) {
+        if (time == null) {
+            throw new IllegalArgumentException("The time must not be null");
+        }
+        return new ScheduleExpression(period, position, time, exceptBeforeLongWeekend);
+    }
+
+    /**
+     * Returns a copy of this expression that does not fire on the last business day before a long weekend,
+     * that is a business day followed by three or more consecutive days off.
+     *
+     * @return the expression skipping days before long weekends
+     */
+    public ScheduleExpression exceptBeforeLongWeekend() {
+        return new ScheduleExpression(period, position, time, true);
+    }
+
+    /**
+     * Gets the period of the expression.
+     *
+     * @return the period, or empty when the expression fires every business day
+     */
+    public Optional<SchedulePeriod> getPeriod() {
+        return Optional.ofNullable(period);
+    }
+
+    /**
+     * Gets the position of the fire day within its period.
+     *
+     * @return the one-based position, negative when counted from the end, or {@code 0} for every business day
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public boolean isExceptBeforeLongWeekend() {
+        return exceptBeforeLongWeekend;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ScheduleExpression)) return false;
+        ScheduleExpression other = (ScheduleExpression) obj;
+        return period == other.period && position == other.position && time.equals(other.time)
+                && exceptBeforeLongWeekend == other.exceptBeforeLongWeekend;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(period, position, time, exceptBeforeLongWeekend);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        if (period == null) {
+            text.append("every business day");
+        } else {
+            if (position == -1) {
+                text.append("last");
+            } else if (position < 0) {
+                text.append(ordinal(-position)).append(" to last");
+            } else {
+                text.append(ordinal(position));
+            }
+            text.append(" business day of ").append(period.name().toLowerCase());
+        }
+        if (exceptBeforeLongWeekend) {
+            text.append(" except before a long weekend");
+        }
+        return text.append(" at ").append(time).toString();
+    }
+
+    private static String ordinal(int n) {
+        int lastTwoDigits = n % 100;
+        if (lastTwoDigits >= 11 && lastTwoDigits <= 13) {
+            return n + "th";
+        }
+        switch (n % 10) {
+            case 1:
+                return n + "st";
+            case 2:
+                return n + "nd";
+            case 3:
+                return n + "rd";
+            default:
+                return n + "th";
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.azapata27.schedule;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle of a recurring job created by {@link BusinessDayScheduler#schedule(ScheduledExecutorService,
+ * ScheduleExpression, Runnable)}.
+ * <p>
+ * Only the next execution is submitted to the executor, as a one-shot delayed task. When it runs, the following
+ * fire time is computed after the fire time that just ran, not after the current instant, so an execution that
+ * starts early or late never skips or repeats a fire time. As with
+ * {@link ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long, TimeUnit)}, if an execution throws,
+ * the job stops and later fire times are suppressed. The job also stops once the scheduler has no more fire times
+ * or the executor rejects the next execution.
+ */
+public final class ScheduledJob {
+
+    private final BusinessDayScheduler scheduler;
+    private final ScheduledExecutorService executor;
+    private final ScheduleExpression expression;
+    private final Runnable task;
+    private final Clock clock;
+
+    private ScheduledFuture<?> future;
+    private ZonedDateTime nextFireTime;
+    private boolean cancelled;
+    private boolean done;
+
+    ScheduledJob(BusinessDayScheduler scheduler, ScheduledExecutorService executor, ScheduleExpression expression,
+                 Runnable task, Clock clock) {
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.expression = expression;
+        this.task = task;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the schedule of this job.
+     *
+     * @return the schedule expression
+     */
+    public ScheduleExpression getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the fire time of the pending execution.
+     *
+     * @return the next fire time, or empty if the job is cancelled or done
+     */
+    public synchronized Optional<ZonedDateTime> getNextFireTime() {
+        return Optional.ofNullable(nextFireTime);
+    }
+
+    /**
+     * Cancels the job. A running execution completes, but no further execution starts.
+     *
+     * @return {@code true} if the job was cancelled, {@code false} if it was already cancelled or done
+     */
+    public synchronized boolean cancel() {
+        if (cancelled || done) {
+            return false;
+        }
+        cancelled = true;
+        nextFireTime = null;
+        if (future != null) {
+            future.cancel(false);
+        }
+        return true;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Checks if the job will not run again, because it was cancelled, an execution failed or there are no
+     * more fire times.
+     *
+     * @return {@code true} if no further execution will start, {@code false} otherwise
+     */
+    public synchronized boolean isDone() {
+        return cancelled || done;
+    }
+
+    synchronized void scheduleAfter(Instant after) {
+        if (cancelled) {
+            return;
+        }
+        Optional<ZonedDateTime> next = scheduler.nextFireTime(expression, after);
+        if (next.isEmpty()) {
+            finish();
+            return;
+        }
+        nextFireTime = next.get();
+        long delayMillis = Math.max(0, nextFireTime.toInstant().toEpochMilli() - clock.millis());
+        future = executor.schedule(this::fire, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void fire() {
+        ZonedDateTime fireTime;
+        synchronized (this) {
+            if (cancelled || nextFireTime == null) {
+                return;
+            }
+            fireTime = nextFireTime;
+        }
+        try {
+            task.run();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                finish();
+            }
+            throw e;
+        }
+        try {
+            scheduleAfter(fireTime.toInstant());
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                finish();
+            }
+        }
+    }
+
+    private void finish() {
+        done = true;
+        nextFireTime = null;
+    }
+}
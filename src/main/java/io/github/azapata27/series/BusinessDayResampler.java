@@ -0,0 +1,274 @@
+package io.github.azapata27.series;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.enums.ResampleFrequency;
+import io.github.azapata27.enums.RollConvention;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.table.BusinessDayTable;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Resamples daily metrics into business-day, business-week or business-month buckets.
+ * <p>
+ * Each row is first folded onto a business day with a {@link RollConvention}: {@link RollConvention#FOLLOWING}
+ * folds weekend and holiday volume forward into the next business day, {@link RollConvention#PRECEDING} folds it
+ * back into the previous one, and the modified conventions keep it within its month. The folded day then gives
+ * the bucket, and the values of the rows of a bucket are added up together with the number of business days of
+ * the bucket, so averages per business day come out directly.
+ * <p>
+ * Rows are columns of epoch days and values. {@link #resample(long[], double[])} makes a single pass over a series
+ * in ascending order of days, with folding as lookups in a {@link BusinessDayTable} and month starts computed by
+ * {@link EpochDayCalculator}, so no {@code LocalDate} is created per row. {@link #resampleParallel} splits a long
+ * series into chunks resampled concurrently, whose edge buckets are then joined. Instances are immutable and safe
+ * to share between threads.
+ * <p>
+ * The business days are fixed when the resampler is built; a resampler must be rebuilt to see holidays added or
+ * removed later, which {@link HolidayValidator#getCalendarVersion()} reports.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * BusinessDayResampler resampler = BusinessDayResampler.of(ColombianHolidayValidator.getDefault(),
+ *         Year.of(2020), Year.of(2026), ResampleFrequency.BUSINESS_MONTH, RollConvention.MODIFIED_FOLLOWING);
+ *
+ * ResampledSeries monthly = resampler.resample(epochDays, volumes);
+ * double meanOfFirstMonth = monthly.getMeanPerBusinessDay(0);
+ * }</pre>
+ *
+ * @see ResampledSeries
+ */
+public final class BusinessDayResampler {
+
+    /** Default number of rows resampled by each parallel task. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final BusinessDayTable businessDays;
+    private final long firstEpochDay;
+    private final long endEpochDay;
+    private final ResampleFrequency frequency;
+    private final RollConvention fold;
+
+    private BusinessDayResampler(BusinessDayTable businessDays, Year from, Year to, ResampleFrequency frequency,
+                                 RollConvention fold) {
+        this.businessDays = businessDays;
+        this.firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        this.endEpochDay = EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1);
+        this.frequency = frequency;
+        this.fold = fold;
+    }
+
+    /**
+     * Builds a resampler for rows within the given range of years. The business days of the year before and the
+     * year after the range are also loaded, so rows near the edges can be folded across them.
+     *
+     * @param validator the validator providing the holidays; must not be null
+     * @param from the first year of the rows, inclusive; must not be null
+     * @param to the last year of the rows, inclusive; must not be null
+     * @param frequency the size of the buckets; must not be null
+     * @param fold the convention folding days that are not business days; must not be null
+     * @return the resampler for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static BusinessDayResampler of(HolidayValidator<?> validator, Year from, Year to,
+                                          ResampleFrequency frequency, RollConvention fold) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("The frequency must not be null");
+        }
+        if (fold == null) {
+            throw new IllegalArgumentException("The roll convention must not be null");
+        }
+        BusinessDayTable businessDays = BusinessDayTable.of(validator, from.minusYears(1), to.plusYears(1));
+        return new BusinessDayResampler(businessDays, from, to, frequency, fold);
+    }
+
+    /**
+     * Gets the bucket a day is folded into.
+     *
+     * @param epochDay the epoch day of the row; must be within the resampler range
+     * @return the epoch day the bucket starts on
+     * @throws IllegalArgumentException if the day is outside the resampler range
+     */
+    public long bucketOf(long epochDay) {
+        if (epochDay < firstEpochDay || epochDay >= endEpochDay) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        long folded = businessDays.roll(epochDay, fold);
+        switch (frequency) {
+            case BUSINESS_DAY:
+                return folded;
+            case BUSINESS_WEEK:
+                return folded - EpochDayCalculator.dayOfWeek(folded) + 1;
+            default:
+                return EpochDayCalculator.firstEpochDayOfMonth(folded);
+        }
+    }
+
+    /**
+     * Writes the bucket of every row, in any order of days.
+     *
+     * @param epochDays the rows, as epoch days within the resampler range; must not be null
+     * @param buckets receives the epoch day each row's bucket starts on, with as many rows as {@code epochDays};
+     *                must not be null
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a row is outside the
+     *                                  resampler range
+     */
+    public void assignBuckets(long[] epochDays, long[] buckets) {
+        if (epochDays == null || buckets == null) {
+            throw new IllegalArgumentException("The epoch days and the buckets must not be null");
+        }
+        if (buckets.length != epochDays.length) {
+            throw new IllegalArgumentException("The buckets must have as many rows as the epoch days");
+        }
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        for (int row = 0; row < epochDays.length; row++) {
+            buckets[row] = bucketOf(epochDays[row]);
+        }
+        HolidayEvents.commitBatch(event, "BusinessDayResampler.assignBuckets", epochDays.length);
+    }
+
+    /**
+     * Resamples a series in a single pass on the calling thread.
+     *
+     * @param epochDays the rows, as epoch days within the resampler range in ascending order; must not be null
+     * @param values the value of each row, with as many rows as {@code epochDays}; must not be null
+     * @return the non-empty buckets in ascending order
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a row is outside the
+     *                                  resampler range or before the previous one
+     */
+    public ResampledSeries resample(long[] epochDays, double[] values) {
+        checkSeries(epochDays, values);
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        ResampledSeries series = resample(epochDays, values, 0, epochDays.length);
+        HolidayEvents.commitBatch(event, "BusinessDayResampler.resample", epochDays.length);
+        return series;
+    }
+
+    /**
+     * Resamples a series in chunks of {@link #DEFAULT_CHUNK_SIZE} rows on the common fork-join pool.
+     *
+     * @param epochDays the rows, as epoch days within the resampler range in ascending order; must not be null
+     * @param values the value of each row, with as many rows as {@code epochDays}; must not be null
+     * @return the non-empty buckets in ascending order
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, or a row is outside the
+     *                                  resampler range or before the previous one
+     */
+    public ResampledSeries resampleParallel(long[] epochDays, double[] values) {
+        return resampleParallel(epochDays, values, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Resamples a series in chunks resampled concurrently on an executor, and joins their buckets.
+     *
+     * @param epochDays the rows, as epoch days within the resampler range in ascending order; must not be null
+     * @param values the value of each row, with as many rows as {@code epochDays}; must not be null
+     * @param executor the executor resampling the chunks; must not be null
+     * @param chunkSize the number of rows of each chunk; must be positive
+     * @return the non-empty buckets in ascending order
+     * @throws IllegalArgumentException if an argument is {@code null}, the sizes differ, {@code chunkSize} is not
+     *                                  positive, or a row is outside the resampler range or before the previous one
+     */
+    public ResampledSeries resampleParallel(long[] epochDays, double[] values, Executor executor, int chunkSize) {
+        checkSeries(epochDays, values);
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        int chunks = (int) ((epochDays.length + (long) chunkSize - 1) / chunkSize);
+        List<CompletableFuture<ResampledSeries>> futures = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int start = chunk * chunkSize;
+            int end = Math.min(epochDays.length, start + chunkSize);
+            futures.add(CompletableFuture.supplyAsync(() -> resample(epochDays, values, start, end), executor));
+        }
+        ResampledSeries[] parts = new ResampledSeries[chunks];
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                parts[chunk] = futures.get(chunk).join();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        ResampledSeries series = ResampledSeries.concat(parts);
+        HolidayEvents.commitBatch(event, "BusinessDayResampler.resampleParallel", epochDays.length);
+        return series;
+    }
+
+    private ResampledSeries resample(long[] epochDays, double[] values, int start, int end) {
+        // A series has at most one bucket per row
+        long[] bucketStarts = new long[end - start];
+        double[] sums = new double[end - start];
+        int[] rowCounts = new int[end - start];
+        int[] businessDayCounts = new int[end - start];
+
+        int size = 0;
+        long previousRow = start > 0 ? epochDays[start - 1] : Long.MIN_VALUE;
+        for (int row = start; row < end; row++) {
+            long epochDay = epochDays[row];
+            if (epochDay < previousRow) {
+                throw new IllegalArgumentException("The epoch days must be in ascending order");
+            }
+            previousRow = epochDay;
+            long bucket = bucketOf(epochDay);
+            if (size == 0 || bucketStarts[size - 1] != bucket) {
+                bucketStarts[size] = bucket;
+                businessDayCounts[size] = businessDaysIn(bucket);
+                size++;
+            }
+            sums[size - 1] += values[row];
+            rowCounts[size - 1]++;
+        }
+        return new ResampledSeries(Arrays.copyOf(bucketStarts, size), Arrays.copyOf(sums, size),
+                Arrays.copyOf(rowCounts, size), Arrays.copyOf(businessDayCounts, size));
+    }
+
+    private int businessDaysIn(long bucket) {
+        switch (frequency) {
+            case BUSINESS_DAY:
+                return 1;
+            case BUSINESS_WEEK:
+                return businessDays.businessDaysBetween(bucket, bucket + 7);
+            default:
+                // The first day of a month plus 31 days always falls in the next month
+                return businessDays.businessDaysBetween(bucket,
+                        EpochDayCalculator.firstEpochDayOfMonth(bucket + 31));
+        }
+    }
+
+    private static void checkSeries(long[] epochDays, double[] values) {
+        if (epochDays == null) {
+            throw new IllegalArgumentException("The epoch days must not be null");
+        }
+        if (values == null) {
+            throw new IllegalArgumentException("The values must not be null");
+        }
+        if (values.length != epochDays.length) {
+            throw new IllegalArgumentException("The values must have as many rows as the epoch days");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.azapata27.series;
+
+import java.util.Arrays;
+
+/**
+ * Columnar result of a {@link BusinessDayResampler}, one row per non-empty bucket in ascending order.
+ * <ul>
+ *   <li>{@code bucketStarts} - epoch day the bucket starts on: the business day, the Monday of the week or the
+ *       first day of the month</li>
+ *   <li>{@code sums} - sum of the values folded into the bucket</li>
+ *   <li>{@code rowCounts} - number of input rows folded into the bucket</li>
+ *   <li>{@code businessDayCounts} - number of business days of the bucket, the divisor of
+ *       {@link #getMeanPerBusinessDay(int)}</li>
+ * </ul>
+ */
+public final class ResampledSeries {
+
+    private final long[] bucketStarts;
+    private final double[] sums;
+    private final int[] rowCounts;
+    private final int[] businessDayCounts;
+
+    ResampledSeries(long[] bucketStarts, double[] sums, int[] rowCounts, int[] businessDayCounts) {
+        this.bucketStarts = bucketStarts;
+        this.sums = sums;
+        this.rowCounts = rowCounts;
+        this.businessDayCounts = businessDayCounts;
+    }
+
+    /**
+     * Gets the number of buckets.
+     *
+     * @return the number of rows of the columns
+     */
+    public int size() {
+        return bucketStarts.length;
+    }
+
+    public long[] getBucketStarts() {
+        return bucketStarts;
+    }
+
+    public double[] getSums() {
+        return sums;
+    }
+
+    public int[] getRowCounts() {
+        return rowCounts;
+    }
+
+    public int[] getBusinessDayCounts() {
+        return businessDayCounts;
+    }
+
+    /**
+     * Gets the average of a bucket per business day, such as the daily mean volume of a month counting only the
+     * days the business was open.
+     *
+     * @param bucket the index of the bucket
+     * @return the sum of the bucket divided by its business days, or {@link Double#NaN} if it has none
+     * @throws IndexOutOfBoundsException if the index is not within {@code [0, size())}
+     */
+    public double getMeanPerBusinessDay(int bucket) {
+        return businessDayCounts[bucket] == 0 ? Double.NaN : sums[bucket] / businessDayCounts[bucket];
+    }
+
+    /**
+     * Joins the buckets of consecutive chunks, adding up a bucket that spans the end of one chunk and the
+     * start of the next.
+     */
+    static ResampledSeries concat(ResampledSeries[] chunks) {
+        int total = 0;
+        for (ResampledSeries chunk : chunks) {
+            total += chunk.size();
+        }
+        long[] bucketStarts = new long[total];
+        double[] sums = new double[total];
+        int[] rowCounts = new int[total];
+        int[] businessDayCounts = new int[total];
+        int size = 0;
+        for (ResampledSeries chunk : chunks) {
+            for (int row = 0; row < chunk.size(); row++) {
+                if (size > 0 && bucketStarts[size - 1] == chunk.bucketStarts[row]) {
+                    sums[size - 1] += chunk.sums[row];
+                    rowCounts[size - 1] += chunk.rowCounts[row];
+                } else {
+                    bucketStarts[size] = chunk.bucketStarts[row];
+                    sums[size] = chunk.sums[row];
+                    rowCounts[size] = chunk.rowCounts[row];
+                    businessDayCounts[size] = chunk.businessDayCounts[row];
+                    size++;
+                }
+            }
+        }
+        return new ResampledSeries(Arrays.copyOf(bucketStarts, size), Arrays.copyOf(sums, size),
+                Arrays.copyOf(rowCounts, size), Arrays.copyOf(businessDayCounts, size));
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.azapata27.stream;
+
+/**
+ * An event tagged with the holiday flags of its local day.
+ * <p>
+ * The flags are packed in a single {@code int} using the {@link #HOLIDAY}, {@link #BUSINESS_DAY} and
+ * {@link #LONG_WEEKEND} bits, the same layout written by {@link HolidayEnricher#classify}.
+ *
+ * @param <T> the type of the event
+ */
+public final class EnrichedEvent<T> {
+
+    /** Flag bit set when the day of the event is a holiday. */
+    public static final int HOLIDAY = 1;
+
+    /** Flag bit set when the day of the event is a business day: Monday to Friday and not a holiday. */
+    public static final int BUSINESS_DAY = 1 << 1;
+
+    /** Flag bit set when the day of the event is part of a long weekend. */
+    public static final int LONG_WEEKEND = 1 << 2;
+
+    private final T event;
+    private final int flags;
+
+    EnrichedEvent(T event, int flags) {
+        this.event = event;
+        this.flags = flags;
+    }
+
+    /**
+     * Gets the original event.
+     *
+     * @return the event
+     */
+    public T getEvent() {
+        return event;
+    }
+
+    /**
+     * Gets the packed flags of the event's day.
+     *
+     * @return a combination of {@link #HOLIDAY}, {@link #BUSINESS_DAY} and {@link #LONG_WEEKEND}
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Checks if the event's day is a holiday.
+     *
+     * @return true if it is a holiday, false otherwise
+     */
+    public boolean isHoliday() {
+        return (flags & HOLIDAY) != 0;
+    }
+
+    /**
+     * Checks if the event's day is a business day.
+     *
+     * @return true if it is a business day, false otherwise
+     */
+    public boolean isBusinessDay() {
+        return (flags & BUSINESS_DAY) != 0;
+    }
+
+    /**
+     * Checks if the event's day is part of a long weekend.
+     *
+     * @return true if it is part of a long weekend, false otherwise
+     */
+    public boolean isLongWeekend() {
+        return (flags & LONG_WEEKEND) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrichedEvent{event=" + event + ", holiday=" + isHoliday() + ", businessDay=" + isBusinessDay()
+                + ", longWeekend=" + isLongWeekend() + "}";
+    }
+}
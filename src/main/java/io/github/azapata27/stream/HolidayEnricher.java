@@ -0,0 +1,162 @@
+package io.github.azapata27.stream;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.calculator.EpochDayResolver;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tags batches of events with the holiday, business-day and long-weekend flags of their local day.
+ * <p>
+ * The day of each event comes from a key extractor, either a UTC epoch-millis timestamp resolved in the
+ * validator's zone or a {@link LocalDate}. Event streams are mostly ordered in time, so consecutive events
+ * usually fall on the same day: the flags of the last day seen in a batch are reused, and the validator is
+ * only consulted when the day changes.
+ * <p>
+ * Instances are stateless between calls and thread-safe when the validator and the extractor are.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayEnricher<Event> enricher = HolidayEnricher.ofEpochMillis(ColombianHolidayValidator.getDefault(),
+ *         Event::getTimestampMillis);
+ * List<EnrichedEvent<Event>> tagged = enricher.apply(events);
+ * }</pre>
+ *
+ * @param <T> the type of the events
+ * @see HolidayEnrichmentProcessor
+ */
+public final class HolidayEnricher<T> implements Function<List<T>, List<EnrichedEvent<T>>> {
+
+    private final HolidayValidator<?> validator;
+    private final ToLongFunction<? super T> epochDayExtractor;
+
+    private HolidayEnricher(HolidayValidator<?> validator, ToLongFunction<? super T> epochDayExtractor) {
+        this.validator = validator;
+        this.epochDayExtractor = epochDayExtractor;
+    }
+
+    /**
+     * Creates an enricher for events carrying a UTC epoch-millis timestamp, resolved in the validator's zone.
+     *
+     * @param validator the validator to query; must not be null
+     * @param epochMillisExtractor extracts the timestamp of an event; must not be null
+     * @param <T> the type of the events
+     * @return the enricher
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public static <T> HolidayEnricher<T> ofEpochMillis(HolidayValidator<?> validator,
+                                                       ToLongFunction<? super T> epochMillisExtractor) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (epochMillisExtractor == null) {
+            throw new IllegalArgumentException("The key extractor must not be null");
+        }
+        EpochDayResolver resolver = new EpochDayResolver(validator.getZone());
+        return new HolidayEnricher<>(validator, event -> resolver.toEpochDay(epochMillisExtractor.applyAsLong(event)));
+    }
+
+    /**
+     * Creates an enricher for events carrying a local date.
+     *
+     * @param validator the validator to query; must not be null
+     * @param dateExtractor extracts the date of an event, never returning null; must not be null
+     * @param <T> the type of the events
+     * @return the enricher
+     * @throws IllegalArgumentException if an argument is {@code null}
+     */
+    public static <T> HolidayEnricher<T> ofDate(HolidayValidator<?> validator,
+                                                Function<? super T, LocalDate> dateExtractor) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (dateExtractor == null) {
+            throw new IllegalArgumentException("The key extractor must not be null");
+        }
+        return new HolidayEnricher<>(validator, event -> dateExtractor.apply(event).toEpochDay());
+    }
+
+    /**
+     * Tags a batch of events, keeping their order.
+     *
+     * @param events the events to tag; must not be null
+     * @return a new list with one {@link EnrichedEvent} per event
+     * @throws IllegalArgumentException if {@code events} is {@code null}
+     */
+    @Override
+    public List<EnrichedEvent<T>> apply(List<T> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("The events must not be null");
+        }
+        int[] flags = new int[events.size()];
+        classify(events, flags);
+        List<EnrichedEvent<T>> enriched = new ArrayList<>(events.size());
+        for (int i = 0; i < flags.length; i++) {
+            enriched.add(new EnrichedEvent<>(events.get(i), flags[i]));
+        }
+        return enriched;
+    }
+
+    /**
+     * Writes the packed flags of each event into an array, without allocating when the validator does not.
+     *
+     * @param events the events to classify; must not be null
+     * @param flags receives the flags of {@code events.get(i)} at index {@code i}; must hold at least
+     *              {@code events.size()} elements
+     * @throws IllegalArgumentException if an argument is {@code null} or {@code flags} is too short
+     * @see EnrichedEvent#HOLIDAY
+     * @see EnrichedEvent#BUSINESS_DAY
+     * @see EnrichedEvent#LONG_WEEKEND
+     */
+    public void classify(List<? extends T> events, int[] flags) {
+        if (events == null) {
+            throw new IllegalArgumentException("The events must not be null");
+        }
+        if (flags == null || flags.length < events.size()) {
+            throw new IllegalArgumentException("The flags array must hold one element per event");
+        }
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        long lastEpochDay = Long.MIN_VALUE;
+        int lastFlags = 0;
+        int size = events.size();
+        for (int i = 0; i < size; i++) {
+            long epochDay = epochDayExtractor.applyAsLong(events.get(i));
+            if (epochDay != lastEpochDay) {
+                lastEpochDay = epochDay;
+                lastFlags = flagsOf(epochDay);
+            }
+            flags[i] = lastFlags;
+        }
+        HolidayEvents.commitBatch(event, "HolidayEnricher.classify", size);
+    }
+
+    /**
+     * Gets the packed flags of a single event.
+     *
+     * @param event the event to classify
+     * @return a combination of {@link EnrichedEvent#HOLIDAY}, {@link EnrichedEvent#BUSINESS_DAY} and
+     *         {@link EnrichedEvent#LONG_WEEKEND}
+     */
+    public int classify(T event) {
+        return flagsOf(epochDayExtractor.applyAsLong(event));
+    }
+
+    private int flagsOf(long epochDay) {
+        boolean holiday = validator.isHolidayEpochDay(epochDay);
+        int flags = holiday ? EnrichedEvent.HOLIDAY : 0;
+        if (!holiday && EpochDayCalculator.dayOfWeek(epochDay) <= 5) {
+            flags |= EnrichedEvent.BUSINESS_DAY;
+        }
+        if (validator.isLongWeekend(LocalDate.ofEpochDay(epochDay))) {
+            flags |= EnrichedEvent.LONG_WEEKEND;
+        }
+        return flags;
+    }
+}
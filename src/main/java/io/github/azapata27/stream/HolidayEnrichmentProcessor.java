@@ -0,0 +1,447 @@
+package io.github.azapata27.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Processor} that tags a stream of events with their holiday flags in micro-batches.
+ * <p>
+ * The processor only requests from its upstream publisher as many events as its subscribers can take: the
+ * smallest outstanding demand among them, bounded by the batch size and by the free space of their buffers. With
+ * no subscriber nothing is requested, so the upstream can be subscribed before or after the subscribers. Requests
+ * made by a subscriber are forwarded upstream as they happen, so a slow subscriber slows down the upstream instead
+ * of growing memory, and publishing never blocks the upstream thread.
+ * <p>
+ * Events are classified with a {@link HolidayEnricher} and published downstream as {@link EnrichedEvent}s in
+ * batches. A batch is published when it holds as many events as the subscribers can take, when the upstream
+ * completes, or when its first event has waited longer than the maximum latency and the subscribers have demand,
+ * so a slow upstream does not hold events back indefinitely.
+ * <p>
+ * An upstream error is forwarded to the subscribers right away, dropping the events not yet published, as
+ * {@link SubmissionPublisher#closeExceptionally(Throwable)} does.
+ * <p>
+ * Throughput and lag are exposed through counters that can be read from any thread.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * HolidayEnrichmentProcessor<Event> processor = new HolidayEnrichmentProcessor<>(
+ *         HolidayEnricher.ofEpochMillis(ColombianHolidayValidator.getDefault(), Event::getTimestampMillis));
+ * source.subscribe(processor);
+ * processor.subscribe(sink);
+ * }</pre>
+ *
+ * @param <T> the type of the events
+ * @see HolidayEnricher
+ */
+public final class HolidayEnrichmentProcessor<T> extends SubmissionPublisher<EnrichedEvent<T>>
+        implements Flow.Processor<T, EnrichedEvent<T>> {
+
+    /** Default number of events tagged per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Default time an event may wait for its batch to fill before the batch is published. */
+    public static final Duration DEFAULT_MAX_LATENCY = Duration.ofMillis(50);
+
+    private final HolidayEnricher<T> enricher;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final int[] flags;
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile long firstEventNanos;
+
+    // Guarded by lock; publishing happens outside it, on one draining thread at a time
+    private final Object lock = new Object();
+    private final List<T> batch;
+    private Flow.Subscription subscription;
+    private long requested;
+    private long batchStartNanos;
+    private boolean flushScheduled;
+    private boolean completed;
+    private Throwable error;
+    private boolean terminated;
+
+    /**
+     * Creates a processor with the default batch size and maximum latency, publishing on the common pool with the
+     * default subscriber buffer capacity.
+     *
+     * @param enricher the enricher tagging the events; must not be null
+     * @throws IllegalArgumentException if {@code enricher} is {@code null}
+     */
+    public HolidayEnrichmentProcessor(HolidayEnricher<T> enricher) {
+        this(enricher, DEFAULT_BATCH_SIZE, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a processor with the default maximum latency.
+     *
+     * @param enricher the enricher tagging the events; must not be null
+     * @param batchSize the maximum number of events requested from upstream and tagged at a time; must be positive
+     * @param executor the executor delivering events to subscribers; must not be null
+     * @param maxBufferCapacity the maximum number of events buffered per subscriber; must be positive
+     * @throws IllegalArgumentException if an argument is {@code null} or not positive
+     */
+    public HolidayEnrichmentProcessor(HolidayEnricher<T> enricher, int batchSize, Executor executor,
+                                      int maxBufferCapacity) {
+        this(enricher, batchSize, executor, maxBufferCapacity, DEFAULT_MAX_LATENCY);
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param enricher the enricher tagging the events; must not be null
+     * @param batchSize the maximum number of events requested from upstream and tagged at a time; must be positive
+     * @param executor the executor delivering events to subscribers; must not be null
+     * @param maxBufferCapacity the maximum number of events buffered per subscriber; must be positive
+     * @param maxLatency the time an event may wait for its batch to fill; must not be null nor negative
+     * @throws IllegalArgumentException if an argument is {@code null}, negative or not positive
+     */
+    public HolidayEnrichmentProcessor(HolidayEnricher<T> enricher, int batchSize, Executor executor,
+                                      int maxBufferCapacity, Duration maxLatency) {
+        super(requireExecutor(executor), maxBufferCapacity);
+        if (enricher == null) {
+            throw new IllegalArgumentException("The enricher must not be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        if (maxLatency == null || maxLatency.isNegative()) {
+            throw new IllegalArgumentException("The maximum latency must not be null nor negative");
+        }
+        this.enricher = enricher;
+        this.batchSize = batchSize;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.batch = new ArrayList<>(batchSize);
+        this.flags = new int[batchSize];
+    }
+
+    private static Executor requireExecutor(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The executor must not be null");
+        }
+        return executor;
+    }
+
+    /**
+     * Adds a subscriber, whose requests are forwarded upstream as they are made.
+     *
+     * @param subscriber the subscriber
+     * @throws NullPointerException if {@code subscriber} is {@code null}
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super EnrichedEvent<T>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        super.subscribe(new DemandTrackingSubscriber<>(subscriber, this::drain));
+        drain();
+    }
+
+    @Override
+    public boolean isSubscribed(Flow.Subscriber<? super EnrichedEvent<T>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        return super.isSubscribed(new DemandTrackingSubscriber<>(subscriber, this::drain));
+    }
+
+    @Override
+    public List<Flow.Subscriber<? super EnrichedEvent<T>>> getSubscribers() {
+        List<Flow.Subscriber<? super EnrichedEvent<T>>> subscribers = new ArrayList<>();
+        for (Flow.Subscriber<? super EnrichedEvent<T>> subscriber : super.getSubscribers()) {
+            subscribers.add(DemandTrackingSubscriber.unwrap(subscriber));
+        }
+        return subscribers;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (lock) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(T event) {
+        if (receivedCount.getAndIncrement() == 0) {
+            firstEventNanos = System.nanoTime();
+        }
+        synchronized (lock) {
+            if (batch.isEmpty()) {
+                batchStartNanos = System.nanoTime();
+            }
+            batch.add(event);
+            requested--;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (lock) {
+            error = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (lock) {
+            completed = true;
+        }
+        drain();
+    }
+
+    /**
+     * Gets the number of events received from upstream.
+     *
+     * @return the received event count
+     */
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    /**
+     * Gets the number of tagged events published downstream.
+     *
+     * @return the published event count
+     */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /**
+     * Gets the number of batches tagged so far.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the number of events received but not yet consumed by the slowest subscriber: the events waiting in
+     * the current batch plus the largest subscriber buffer.
+     *
+     * @return the current lag in events
+     */
+    public long getLag() {
+        return receivedCount.get() - publishedCount.get() + estimateMaximumLag();
+    }
+
+    /**
+     * Gets the average number of events published per second since the first event was received.
+     *
+     * @return the throughput in events per second, or 0 before the first event
+     */
+    public double getEventsPerSecond() {
+        long start = firstEventNanos;
+        long elapsed = System.nanoTime() - start;
+        if (receivedCount.get() == 0 || elapsed <= 0) {
+            return 0;
+        }
+        return publishedCount.get() * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * Runs {@link #drainOnce()} until no further drain was asked for while it ran. Only one thread drains at a
+     * time, so batches are published in order, and a drain asked for from within a subscriber, as when it
+     * requests more events, is run by the thread already draining.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            drainOnce();
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    /**
+     * Publishes the events the subscribers can take if the batch is due, then requests from upstream what the
+     * subscribers can still take, and terminates the subscribers once the upstream is done.
+     */
+    private void drainOnce() {
+        List<T> ready = null;
+        Throwable failure;
+        boolean complete = false;
+        long toRequest = 0;
+        Flow.Subscription upstream;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            failure = error;
+            upstream = subscription;
+            if (failure != null) {
+                batch.clear();
+                terminated = true;
+            } else {
+                long capacity = capacity();
+                int size = batch.size();
+                if (size > 0 && capacity > 0 && (size >= capacity || completed
+                        || System.nanoTime() - batchStartNanos >= maxLatencyNanos)) {
+                    int count = (int) Math.min(size, capacity);
+                    List<T> head = batch.subList(0, count);
+                    ready = new ArrayList<>(head);
+                    head.clear();
+                    batchStartNanos = System.nanoTime();
+                    capacity -= count;
+                }
+                if (completed) {
+                    complete = batch.isEmpty();
+                    terminated = complete;
+                } else if (upstream != null && capacity - batch.size() - requested > 0) {
+                    toRequest = capacity - batch.size() - requested;
+                    requested += toRequest;
+                }
+                // An overdue batch without capacity is published by the next drain a subscriber request triggers
+                long delay = batchStartNanos + maxLatencyNanos - System.nanoTime();
+                if (!batch.isEmpty() && !flushScheduled && delay > 0) {
+                    flushScheduled = true;
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, getExecutor())
+                            .execute(this::flushDue);
+                }
+            }
+        }
+
+        if (failure != null) {
+            closeExceptionally(failure);
+            return;
+        }
+        if (ready != null && !publish(ready, upstream)) {
+            return;
+        }
+        if (complete) {
+            close();
+        } else if (toRequest > 0) {
+            upstream.request(toRequest);
+        }
+    }
+
+    private void flushDue() {
+        synchronized (lock) {
+            flushScheduled = false;
+        }
+        drain();
+    }
+
+    /**
+     * Gets the number of events every subscriber can take without exceeding its demand nor its buffer, at most
+     * one batch. It is zero without subscribers.
+     */
+    private long capacity() {
+        long demand = estimateMinimumDemand();
+        long bufferSpace = getMaxBufferCapacity() - (long) estimateMaximumLag();
+        return Math.max(0, Math.min(batchSize, Math.min(demand, bufferSpace)));
+    }
+
+    /**
+     * Tags and publishes a batch. On a tagging failure the upstream is cancelled and the subscribers are closed
+     * with the failure.
+     *
+     * @return true if the batch was published, false if the processor failed
+     */
+    private boolean publish(List<T> events, Flow.Subscription upstream) {
+        try {
+            enricher.classify(events, flags);
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                batch.clear();
+                terminated = true;
+            }
+            if (upstream != null) {
+                upstream.cancel();
+            }
+            closeExceptionally(e);
+            return false;
+        }
+        int size = events.size();
+        for (int i = 0; i < size; i++) {
+            // Does not block: the batch fits the demand and the buffer space of every subscriber
+            submit(new EnrichedEvent<>(events.get(i), flags[i]));
+        }
+        publishedCount.addAndGet(size);
+        batchCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Subscriber wrapper running a drain of the processor on every request of a subscriber, so that its demand
+     * reaches the upstream as soon as it is made. Wrappers are equal when they wrap equal subscribers.
+     *
+     * @param <E> the type of the items
+     */
+    private static final class DemandTrackingSubscriber<E> implements Flow.Subscriber<E> {
+        private final Flow.Subscriber<? super E> delegate;
+        private final Runnable onDemand;
+
+        private DemandTrackingSubscriber(Flow.Subscriber<? super E> delegate, Runnable onDemand) {
+            this.delegate = delegate;
+            this.onDemand = onDemand;
+        }
+
+        private static <E> Flow.Subscriber<? super E> unwrap(Flow.Subscriber<E> subscriber) {
+            return ((DemandTrackingSubscriber<E>) subscriber).delegate;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                    onDemand.run();
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    onDemand.run();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(E item) {
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof DemandTrackingSubscriber<?>
+                    && delegate.equals(((DemandTrackingSubscriber<?>) other).delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package io.github.azapata27.table;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.enums.RollConvention;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.function.LongPredicate;
+
+/**
+ * Precomputed business-day index over a contiguous range of years.
+ * <p>
+ * Every day of the range is classified once, at construction time, using the holidays of a
+ * {@link HolidayValidator}: a day is a business day when it is a Monday to Friday and not a holiday.
+ * Tables for other work weeks, such as carriers delivering on Saturdays, are derived with
+ * {@link #withWorkWeek(WorkWeek)}, which reuses the holidays and excluded days of the table.
+ * The table keeps the classification as bitsets together with a prefix count of business days and the
+ * sorted list of business days, so that counting, ranking and adding business days are array lookups
+ * instead of day-by-day loops over {@link HolidayValidator#isHoliday(LocalDate)}.
+ * <p>
+ * Days are addressed by ISO epoch day (see {@link LocalDate#toEpochDay()}). Instances are immutable and
+ * safe to share between threads.
+ * <p>
+ * A table is a snapshot of the holidays at the time it is built. It does not follow later changes of the
+ * validator's definitions, such as {@link io.github.azapata27.ColombianHolidayValidator#updateDefinitions}; build
+ * a new table when {@link HolidayValidator#getCalendarVersion()} changes or a
+ * {@link io.github.azapata27.change.CalendarChangeListener} is notified.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * BusinessDayTable table = BusinessDayTable.of(new ColombianHolidayValidator(), Year.of(2000), Year.of(2100));
+ *
+ * LocalDate dueDate = table.addBusinessDays(LocalDate.of(2024, 12, 20), 5);
+ * int workingDays = table.businessDaysBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+ * }</pre>
+ *
+ * @see MonthlyBusinessDayTable
+ */
+public final class BusinessDayTable {
+
+    private final int fromYear;
+    private final int toYear;
+    private final WorkWeek workWeek;
+    private final long firstEpochDay;
+    private final int dayCount;
+    private final long[] holidayBits;
+    private final long[] excludedBits;
+    private final long[] businessBits;
+    private final int[] businessDaysBefore;
+    private final int[] businessDayOffsets;
+
+    private BusinessDayTable(int fromYear, int toYear, WorkWeek workWeek, long[] holidayBits, long[] excludedBits,
+                             long[] businessBits) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.workWeek = workWeek;
+        this.firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(fromYear);
+        this.dayCount = (int) (EpochDayCalculator.firstEpochDayOfYear(toYear + 1) - firstEpochDay);
+        this.holidayBits = holidayBits;
+        this.excludedBits = excludedBits;
+        this.businessBits = businessBits;
+
+        this.businessDaysBefore = new int[dayCount + 1];
+        int count = 0;
+        for (int offset = 0; offset < dayCount; offset++) {
+            businessDaysBefore[offset] = count;
+            if (isSet(businessBits, offset)) {
+                count++;
+            }
+        }
+        businessDaysBefore[dayCount] = count;
+
+        this.businessDayOffsets = new int[count];
+        for (int offset = 0, rank = 0; offset < dayCount; offset++) {
+            if (isSet(businessBits, offset)) {
+                businessDayOffsets[rank++] = offset;
+            }
+        }
+    }
+
+    /**
+     * Builds a table for the given range of years from the holidays of a validator.
+     *
+     * @param validator the validator providing the holidays of each year; must not be null
+     * @param from the first year of the table, inclusive; must not be null
+     * @param to the last year of the table, inclusive; must not be null
+     * @return the business-day table for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static BusinessDayTable of(HolidayValidator<?> validator, Year from, Year to) {
+        return of(validator, from, to, epochDay -> false);
+    }
+
+    /**
+     * Builds a table for the given range of years from the holidays of a validator, also treating the days
+     * accepted by {@code excludedDay} as non-business days. Excluded days are not reported as holidays, and
+     * tables derived with {@link #withWorkWeek(WorkWeek)} exclude them as well.
+     * <p>
+     * This is the extension point for calendars with closures beyond public holidays, such as court vacancies.
+     *
+     * @param validator the validator providing the holidays of each year; must not be null
+     * @param from the first year of the table, inclusive; must not be null
+     * @param to the last year of the table, inclusive; must not be null
+     * @param excludedDay accepts the epoch days that are not business days even when they are working weekdays;
+     *                    must not be null
+     * @return the business-day table for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static BusinessDayTable of(HolidayValidator<?> validator, Year from, Year to, LongPredicate excludedDay) {
+        if (validator == null) {
+            throw new IllegalArgumentException("The validator must not be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+        if (excludedDay == null) {
+            throw new IllegalArgumentException("The excluded day predicate must not be null");
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(from.getValue());
+        int dayCount = (int) (EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1) - firstEpochDay);
+        long[] holidayBits = new long[(dayCount + 63) >>> 6];
+
+        for (int year = from.getValue(); year <= to.getValue(); year++) {
+            for (LocalDate holiday : validator.getHolidayDatesForYear(Year.of(year))) {
+                int offset = (int) (holiday.toEpochDay() - firstEpochDay);
+                if (offset >= 0 && offset < dayCount) {
+                    holidayBits[offset >>> 6] |= 1L << offset;
+                }
+            }
+        }
+        BusinessDayTable table = ofHolidayBits(from.getValue(), to.getValue(), holidayBits, WorkWeek.MONDAY_TO_FRIDAY,
+                excludedDay);
+        HolidayEvents.commitBatch(event, "BusinessDayTable.of", dayCount);
+        return table;
+    }
+
+    /**
+     * Builds a table from the holiday bitset of its range, one bit per day starting at the first day of
+     * {@code fromYear}. The bitset is kept by the table and must not be modified afterwards.
+     */
+    static BusinessDayTable ofHolidayBits(int fromYear, int toYear, long[] holidayBits, WorkWeek workWeek,
+                                          LongPredicate excludedDay) {
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(fromYear);
+        int dayCount = (int) (EpochDayCalculator.firstEpochDayOfYear(toYear + 1) - firstEpochDay);
+        long[] excludedBits = new long[(dayCount + 63) >>> 6];
+        for (int offset = 0; offset < dayCount; offset++) {
+            if (excludedDay.test(firstEpochDay + offset)) {
+                excludedBits[offset >>> 6] |= 1L << offset;
+            }
+        }
+        return ofBits(fromYear, toYear, holidayBits, excludedBits, workWeek);
+    }
+
+    private static BusinessDayTable ofBits(int fromYear, int toYear, long[] holidayBits, long[] excludedBits,
+                                           WorkWeek workWeek) {
+        long firstEpochDay = EpochDayCalculator.firstEpochDayOfYear(fromYear);
+        int dayCount = (int) (EpochDayCalculator.firstEpochDayOfYear(toYear + 1) - firstEpochDay);
+        long[] businessBits = new long[(dayCount + 63) >>> 6];
+        for (int offset = 0; offset < dayCount; offset++) {
+            int dayOfWeek = EpochDayCalculator.dayOfWeek(firstEpochDay + offset);
+            if (workWeek.isWorkingDay(dayOfWeek) && !isSet(holidayBits, offset) && !isSet(excludedBits, offset)) {
+                businessBits[offset >>> 6] |= 1L << offset;
+            }
+        }
+        return new BusinessDayTable(fromYear, toYear, workWeek, holidayBits, excludedBits, businessBits);
+    }
+
+    /**
+     * Derives a table with the same range, holidays and excluded days whose business days are the days of another
+     * work week that are neither holidays nor excluded.
+     *
+     * @param workWeek the days of the week that are worked; must not be null
+     * @return the table of the given work week, or this table if it already has that work week
+     * @throws IllegalArgumentException if {@code workWeek} is {@code null}
+     */
+    public BusinessDayTable withWorkWeek(WorkWeek workWeek) {
+        if (workWeek == null) {
+            throw new IllegalArgumentException("The work week must not be null");
+        }
+        if (workWeek.equals(this.workWeek)) {
+            return this;
+        }
+        return ofBits(fromYear, toYear, holidayBits, excludedBits, workWeek);
+    }
+
+    /**
+     * Gets the days of the week counted as business days when they are not holidays.
+     *
+     * @return the work week of this table, {@link WorkWeek#MONDAY_TO_FRIDAY} unless derived with
+     *         {@link #withWorkWeek(WorkWeek)}
+     */
+    public WorkWeek getWorkWeek() {
+        return workWeek;
+    }
+
+    /**
+     * Gets the first year covered by this table.
+     *
+     * @return the first year, inclusive
+     */
+    public Year getFromYear() {
+        return Year.of(fromYear);
+    }
+
+    /**
+     * Gets the last year covered by this table.
+     *
+     * @return the last year, inclusive
+     */
+    public Year getToYear() {
+        return Year.of(toYear);
+    }
+
+    /**
+     * Gets the epoch day of the first day covered by this table.
+     *
+     * @return the first epoch day, inclusive
+     */
+    public long getFirstEpochDay() {
+        return firstEpochDay;
+    }
+
+    /**
+     * Gets the epoch day following the last day covered by this table.
+     *
+     * @return the last epoch day, exclusive
+     */
+    public long getEndEpochDay() {
+        return firstEpochDay + dayCount;
+    }
+
+    /**
+     * Checks if an epoch day is covered by this table.
+     *
+     * @param epochDay the epoch day to check
+     * @return {@code true} if the day is within the table range, {@code false} otherwise
+     */
+    public boolean contains(long epochDay) {
+        return epochDay >= firstEpochDay && epochDay < firstEpochDay + dayCount;
+    }
+
+    /**
+     * Checks if an epoch day is a holiday.
+     *
+     * @param epochDay the epoch day to check; must be within the table range
+     * @return {@code true} if the day is a holiday, {@code false} otherwise
+     * @throws IllegalArgumentException if the day is outside the table range
+     */
+    public boolean isHoliday(long epochDay) {
+        return isSet(holidayBits, offsetOf(epochDay));
+    }
+
+    /**
+     * Checks if an epoch day is a business day.
+     *
+     * @param epochDay the epoch day to check; must be within the table range
+     * @return {@code true} if the day is a business day, {@code false} otherwise
+     * @throws IllegalArgumentException if the day is outside the table range
+     */
+    public boolean isBusinessDay(long epochDay) {
+        return isSet(businessBits, offsetOf(epochDay));
+    }
+
+    /**
+     * Checks if a date is a business day.
+     *
+     * @param date the date to check; must not be null and must be within the table range
+     * @return {@code true} if the date is a business day, {@code false} otherwise
+     * @throws IllegalArgumentException if the date is {@code null} or outside the table range
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(toEpochDay(date));
+    }
+
+    /**
+     * Gets the number of business days strictly before an epoch day, counted from the start of the table.
+     * The rank of a business day is its zero-based position among all business days of the table.
+     *
+     * @param epochDay the epoch day; must be within the table range or equal to {@link #getEndEpochDay()}
+     * @return the number of business days in {@code [getFirstEpochDay(), epochDay)}
+     * @throws IllegalArgumentException if the day is outside the table range
+     */
+    public int businessDayRank(long epochDay) {
+        if (epochDay == firstEpochDay + dayCount) {
+            return businessDaysBefore[dayCount];
+        }
+        return businessDaysBefore[offsetOf(epochDay)];
+    }
+
+    /**
+     * Gets the business day with the given rank.
+     *
+     * @param rank the zero-based position of the business day within the table
+     * @return the epoch day of the business day
+     * @throws IllegalArgumentException if no business day of the table has that rank
+     */
+    public long businessDayAt(int rank) {
+        if (rank < 0 || rank >= businessDayOffsets.length) {
+            throw new IllegalArgumentException("The business day is outside the table range");
+        }
+        return firstEpochDay + businessDayOffsets[rank];
+    }
+
+    /**
+     * Gets the total number of business days in this table.
+     *
+     * @return the number of business days
+     */
+    public int getBusinessDayCount() {
+        return businessDayOffsets.length;
+    }
+
+    /**
+     * Counts the business days in {@code [fromInclusive, toExclusive)}.
+     *
+     * @param fromInclusive the first epoch day of the interval
+     * @param toExclusive the epoch day following the interval
+     * @return the number of business days in the interval, negative if {@code toExclusive < fromInclusive}
+     * @throws IllegalArgumentException if a bound is outside the table range
+     */
+    public int businessDaysBetween(long fromInclusive, long toExclusive) {
+        return businessDayRank(toExclusive) - businessDayRank(fromInclusive);
+    }
+
+    /**
+     * Counts the business days in {@code [fromInclusive, toExclusive)}.
+     *
+     * @param fromInclusive the first date of the interval; must not be null
+     * @param toExclusive the date following the interval; must not be null
+     * @return the number of business days in the interval, negative if {@code toExclusive} is before {@code fromInclusive}
+     * @throws IllegalArgumentException if a date is {@code null} or outside the table range
+     */
+    public int businessDaysBetween(LocalDate fromInclusive, LocalDate toExclusive) {
+        return businessDaysBetween(toEpochDay(fromInclusive), toEpochDay(toExclusive));
+    }
+
+    /**
+     * Adds business days to an epoch day.
+     * <p>
+     * A positive amount moves forward to the {@code amount}-th business day after {@code epochDay};
+     * a negative amount moves backward. An amount of zero returns {@code epochDay} itself when it is a
+     * business day, otherwise the next business day.
+     *
+     * @param epochDay the starting epoch day
+     * @param amount the number of business days to add, may be negative
+     * @return the resulting epoch day
+     * @throws IllegalArgumentException if the start or the result is outside the table range
+     */
+    public long addBusinessDays(long epochDay, int amount) {
+        int offset = offsetOf(epochDay);
+        int rank = businessDaysBefore[offset];
+        if (amount > 0) {
+            // Rank of the first business day strictly after epochDay, minus one
+            int startRank = isSet(businessBits, offset) ? rank : rank - 1;
+            return businessDayAt(startRank + amount);
+        }
+        if (amount < 0) {
+            return businessDayAt(rank + amount);
+        }
+        return businessDayAt(rank);
+    }
+
+    /**
+     * Adds business days to a date.
+     *
+     * @param date the starting date; must not be null
+     * @param amount the number of business days to add, may be negative
+     * @return the resulting date
+     * @throws IllegalArgumentException if the date is {@code null} or the start or result is outside the table range
+     * @see #addBusinessDays(long, int)
+     */
+    public LocalDate addBusinessDays(LocalDate date, int amount) {
+        return LocalDate.ofEpochDay(addBusinessDays(toEpochDay(date), amount));
+    }
+
+    /**
+     * Gets the first business day strictly after an epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the epoch day of the next business day
+     * @throws IllegalArgumentException if the day or the result is outside the table range
+     */
+    public long nextBusinessDay(long epochDay) {
+        return addBusinessDays(epochDay, 1);
+    }
+
+    /**
+     * Gets the last business day strictly before an epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the epoch day of the previous business day
+     * @throws IllegalArgumentException if the day or the result is outside the table range
+     */
+    public long previousBusinessDay(long epochDay) {
+        return addBusinessDays(epochDay, -1);
+    }
+
+    /**
+     * Moves an epoch day that is not a business day to a business day, following a roll convention.
+     * Business days are returned unchanged.
+     *
+     * @param epochDay the epoch day to roll
+     * @param convention the roll convention; must not be null
+     * @return the epoch day of the rolled business day
+     * @throws IllegalArgumentException if the convention is {@code null}, or the day or the result is outside the
+     *                                  table range
+     */
+    public long roll(long epochDay, RollConvention convention) {
+        if (convention == null) {
+            throw new IllegalArgumentException("The roll convention must not be null");
+        }
+        if (isBusinessDay(epochDay)) {
+            return epochDay;
+        }
+        switch (convention) {
+            case FOLLOWING:
+                return nextBusinessDay(epochDay);
+            case PRECEDING:
+                return previousBusinessDay(epochDay);
+            case MODIFIED_FOLLOWING: {
+                long following = nextBusinessDay(epochDay);
+                return sameMonth(epochDay, following) ? following : previousBusinessDay(epochDay);
+            }
+            default: {
+                long preceding = previousBusinessDay(epochDay);
+                return sameMonth(epochDay, preceding) ? preceding : nextBusinessDay(epochDay);
+            }
+        }
+    }
+
+    /**
+     * Moves a date that is not a business day to a business day, following a roll convention.
+     *
+     * @param date the date to roll; must not be null
+     * @param convention the roll convention; must not be null
+     * @return the rolled business day
+     * @throws IllegalArgumentException if an argument is {@code null}, or the date or the result is outside the
+     *                                  table range
+     * @see #roll(long, RollConvention)
+     */
+    public LocalDate roll(LocalDate date, RollConvention convention) {
+        return LocalDate.ofEpochDay(roll(toEpochDay(date), convention));
+    }
+
+    /**
+     * Gets the holiday bitset of this table, one bit per day of the range. The array is shared and must not be
+     * modified.
+     */
+    long[] holidayBits() {
+        return holidayBits;
+    }
+
+    private static boolean sameMonth(long epochDay, long other) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        LocalDate otherDate = LocalDate.ofEpochDay(other);
+        return date.getMonthValue() == otherDate.getMonthValue() && date.getYear() == otherDate.getYear();
+    }
+
+    private int offsetOf(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= dayCount) {
+            throw new IllegalArgumentException("The date is outside the table range");
+        }
+        return (int) offset;
+    }
+
+    private static long toEpochDay(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        return date.toEpochDay();
+    }
+
+    private static boolean isSet(long[] bits, int offset) {
+        return (bits[offset >>> 6] & (1L << offset)) != 0;
+    }
+}
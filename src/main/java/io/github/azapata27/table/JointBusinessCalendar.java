@@ -0,0 +1,214 @@
+package io.github.azapata27.table;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.enums.RollConvention;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Business days shared by several holiday calendars, for settlement that must happen on a day open in every
+ * market involved, such as T+2 in Bogotá and in New York.
+ * <p>
+ * Calendars are registered under a code. The {@link BusinessDayTable} of a combination of codes is built by
+ * OR-ing the holiday bitsets of the single calendars, so a day is a business day of the combination when it is a
+ * Monday to Friday and not a holiday in any of them, and a holiday of the combination when it is a holiday in at
+ * least one. Joint {@link BusinessDayTable#addBusinessDays(long, int) addBusinessDays},
+ * {@link BusinessDayTable#businessDaysBetween(long, long) businessDaysBetween} and
+ * {@link BusinessDayTable#roll(long, RollConvention) roll} then cost the same as on a single calendar.
+ * <p>
+ * Tables are built on first use and cached per combination, regardless of the order the codes are given in, and
+ * rebuilt when the {@link HolidayValidator#getCalendarVersion() calendar version} of one of their calendars
+ * changes. Days are local dates of each calendar, not instants. Instances are thread-safe.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * Map<String, HolidayValidator<?>> calendars = new LinkedHashMap<>();
+ * calendars.put("CO", ColombianHolidayValidator.getDefault());
+ * calendars.put("US", newYorkValidator);
+ * JointBusinessCalendar joint = JointBusinessCalendar.of(calendars, Year.of(2024), Year.of(2030));
+ *
+ * LocalDate settlement = joint.getTable("CO", "US").addBusinessDays(tradeDate, 2);
+ * }</pre>
+ *
+ * @see BusinessDayTable
+ */
+public final class JointBusinessCalendar {
+
+    /** Maximum number of calendars, one bit of a {@code long} key each. */
+    public static final int MAX_CALENDARS = Long.SIZE;
+
+    private final Map<String, Integer> indexes;
+    private final HolidayValidator<?>[] validators;
+    private final Year from;
+    private final Year to;
+    private final Map<Long, VersionedTable> tables = new ConcurrentHashMap<>();
+
+    private JointBusinessCalendar(Map<String, Integer> indexes, HolidayValidator<?>[] validators, Year from, Year to) {
+        this.indexes = indexes;
+        this.validators = validators;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Builds a joint calendar over the given calendars and range of years. No table is built until it is used.
+     *
+     * @param calendars the calendars by code, in iteration order; must not be null, empty, nor have more than
+     *                  {@link #MAX_CALENDARS} entries, and codes and validators must not be null
+     * @param from the first year of the tables, inclusive; must not be null
+     * @param to the last year of the tables, inclusive; must not be null
+     * @return the joint calendar
+     * @throws IllegalArgumentException if an argument is {@code null} or invalid, or {@code to} is before
+     *                                  {@code from}
+     */
+    public static JointBusinessCalendar of(Map<String, ? extends HolidayValidator<?>> calendars, Year from, Year to) {
+        if (calendars == null || calendars.isEmpty()) {
+            throw new IllegalArgumentException("The calendars must not be null nor empty");
+        }
+        if (calendars.size() > MAX_CALENDARS) {
+            throw new IllegalArgumentException("The calendars must not be more than " + MAX_CALENDARS);
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("The year must not be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("The last year must not be before the first year");
+        }
+
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        HolidayValidator<?>[] validators = new HolidayValidator<?>[calendars.size()];
+        for (Map.Entry<String, ? extends HolidayValidator<?>> calendar : calendars.entrySet()) {
+            if (calendar.getKey() == null) {
+                throw new IllegalArgumentException("The calendar code must not be null");
+            }
+            if (calendar.getValue() == null) {
+                throw new IllegalArgumentException("The validator must not be null");
+            }
+            validators[indexes.size()] = calendar.getValue();
+            indexes.put(calendar.getKey(), indexes.size());
+        }
+        return new JointBusinessCalendar(Collections.unmodifiableMap(indexes), validators, from, to);
+    }
+
+    /**
+     * Gets the codes of the registered calendars.
+     *
+     * @return the codes, in registration order
+     */
+    public Set<String> getCalendarCodes() {
+        return indexes.keySet();
+    }
+
+    /**
+     * Gets the business-day table of a combination of calendars.
+     *
+     * @param codes the codes of the calendars; must not be null nor empty, and every code must be registered
+     * @return the table whose business days are open in every given calendar
+     * @throws IllegalArgumentException if no code is given or a code is {@code null} or unknown
+     */
+    public BusinessDayTable getTable(String... codes) {
+        if (codes == null) {
+            throw new IllegalArgumentException("The calendar codes must not be null");
+        }
+        return getTable(Arrays.asList(codes));
+    }
+
+    /**
+     * Gets the business-day table of a combination of calendars.
+     *
+     * @param codes the codes of the calendars; must not be null nor empty, and every code must be registered
+     * @return the table whose business days are open in every given calendar
+     * @throws IllegalArgumentException if no code is given or a code is {@code null} or unknown
+     */
+    public BusinessDayTable getTable(Collection<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            throw new IllegalArgumentException("The calendar codes must not be null nor empty");
+        }
+        long mask = 0;
+        for (String code : codes) {
+            Integer index = code == null ? null : indexes.get(code);
+            if (index == null) {
+                throw new IllegalArgumentException("The calendar code is unknown: " + code);
+            }
+            mask |= 1L << index;
+        }
+        return getTable(mask);
+    }
+
+    private BusinessDayTable getTable(long mask) {
+        VersionedTable cached = tables.get(mask);
+        if (cached != null && cached.isCurrent(validators)) {
+            return cached.table;
+        }
+        VersionedTable built = build(mask);
+        tables.put(mask, built);
+        return built.table;
+    }
+
+    private VersionedTable build(long mask) {
+        // Reading the versions first means a table is never older than the versions it is tagged with
+        long[] versions = new long[Long.bitCount(mask)];
+        int i = 0;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            versions[i++] = validators[Long.numberOfTrailingZeros(remaining)].getCalendarVersion();
+        }
+        if (versions.length == 1) {
+            int index = Long.numberOfTrailingZeros(mask);
+            return new VersionedTable(mask, versions, BusinessDayTable.of(validators[index], from, to));
+        }
+
+        HolidayBatchEvent event = HolidayEvents.beginBatch();
+        long[] holidayBits = null;
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            long[] bits = getTable(Long.lowestOneBit(remaining)).holidayBits();
+            if (holidayBits == null) {
+                holidayBits = bits.clone();
+            } else {
+                for (int word = 0; word < holidayBits.length; word++) {
+                    holidayBits[word] |= bits[word];
+                }
+            }
+        }
+        BusinessDayTable table = BusinessDayTable.ofHolidayBits(from.getValue(), to.getValue(), holidayBits,
+                WorkWeek.MONDAY_TO_FRIDAY, epochDay -> false);
+        HolidayEvents.commitBatch(event, "JointBusinessCalendar.getTable",
+                EpochDayCalculator.firstEpochDayOfYear(to.getValue() + 1)
+                        - EpochDayCalculator.firstEpochDayOfYear(from.getValue()));
+        return new VersionedTable(mask, versions, table);
+    }
+
+    /**
+     * Business-day table of one combination, with the calendar versions it was built from in index order.
+     */
+    private static final class VersionedTable {
+        private final long mask;
+        private final long[] versions;
+        private final BusinessDayTable table;
+
+        private VersionedTable(long mask, long[] versions, BusinessDayTable table) {
+            this.mask = mask;
+            this.versions = versions;
+            this.table = table;
+        }
+
+        private boolean isCurrent(HolidayValidator<?>[] validators) {
+            int i = 0;
+            for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                if (validators[Long.numberOfTrailingZeros(remaining)].getCalendarVersion() != versions[i++]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
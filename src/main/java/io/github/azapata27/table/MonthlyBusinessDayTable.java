@@ -0,0 +1,235 @@
+package io.github.azapata27.table;
+
+import io.github.azapata27.HolidayValidator;
+import io.github.azapata27.enums.Fortnight;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Precomputed monthly business-day aggregates for payroll and billing.
+ * <p>
+ * For every month of the range the table stores the business-day rank of the first day of the month and of
+ * the first day of the second fortnight, together with the number of holidays. Combined with the underlying
+ * {@link BusinessDayTable}, this answers per-month and per-fortnight counts, the nth business day and the
+ * last business day of a month in constant time.
+ * <p>
+ * Like its {@link BusinessDayTable}, the table is a snapshot of the holidays at the time it is built; build a
+ * new one when the {@link HolidayValidator#getCalendarVersion() calendar version} of the validator changes.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * MonthlyBusinessDayTable table = MonthlyBusinessDayTable.of(new ColombianHolidayValidator(), Year.of(2000), Year.of(2100));
+ *
+ * int workingDays = table.getBusinessDayCount(YearMonth.of(2024, 3));
+ * Optional<LocalDate> payday = table.getNthBusinessDay(YearMonth.of(2024, 3), 3);
+ * Optional<LocalDate> closing = table.getLastBusinessDay(YearMonth.of(2024, 3));
+ * }</pre>
+ *
+ * @see BusinessDayTable
+ * @see Fortnight
+ */
+public final class MonthlyBusinessDayTable {
+
+    private final BusinessDayTable businessDays;
+    private final int fromYear;
+    private final int monthCount;
+    private final long[] monthStartEpochDays;
+    private final int[] monthStartRanks;
+    private final int[] secondFortnightRanks;
+    private final int[] holidayCounts;
+
+    private MonthlyBusinessDayTable(BusinessDayTable businessDays) {
+        this.businessDays = businessDays;
+        this.fromYear = businessDays.getFromYear().getValue();
+        this.monthCount = (businessDays.getToYear().getValue() - fromYear + 1) * 12;
+        this.monthStartEpochDays = new long[monthCount + 1];
+        this.monthStartRanks = new int[monthCount + 1];
+        this.secondFortnightRanks = new int[monthCount];
+        this.holidayCounts = new int[monthCount];
+
+        for (int index = 0; index < monthCount; index++) {
+            YearMonth month = YearMonth.of(fromYear + index / 12, index % 12 + 1);
+            long start = month.atDay(1).toEpochDay();
+            long end = start + month.lengthOfMonth();
+
+            monthStartEpochDays[index] = start;
+            monthStartRanks[index] = businessDays.businessDayRank(start);
+            secondFortnightRanks[index] = businessDays.businessDayRank(start + Fortnight.SECOND.getFirstDay() - 1);
+            for (long epochDay = start; epochDay < end; epochDay++) {
+                if (businessDays.isHoliday(epochDay)) {
+                    holidayCounts[index]++;
+                }
+            }
+        }
+        monthStartEpochDays[monthCount] = businessDays.getEndEpochDay();
+        monthStartRanks[monthCount] = businessDays.getBusinessDayCount();
+    }
+
+    /**
+     * Builds a monthly table for the given range of years from the holidays of a validator.
+     *
+     * @param validator the validator providing the holidays of each year; must not be null
+     * @param from the first year of the table, inclusive; must not be null
+     * @param to the last year of the table, inclusive; must not be null
+     * @return the monthly table for {@code [from, to]}
+     * @throws IllegalArgumentException if any argument is {@code null} or {@code to} is before {@code from}
+     */
+    public static MonthlyBusinessDayTable of(HolidayValidator<?> validator, Year from, Year to) {
+        return new MonthlyBusinessDayTable(BusinessDayTable.of(validator, from, to));
+    }
+
+    /**
+     * Builds a monthly table over the range of an existing business-day table.
+     *
+     * @param businessDays the day-level table to aggregate; must not be null
+     * @return the monthly table covering the same years
+     * @throws IllegalArgumentException if {@code businessDays} is {@code null}
+     */
+    public static MonthlyBusinessDayTable of(BusinessDayTable businessDays) {
+        if (businessDays == null) {
+            throw new IllegalArgumentException("The business day table must not be null");
+        }
+        return new MonthlyBusinessDayTable(businessDays);
+    }
+
+    /**
+     * Gets the day-level table this monthly table aggregates.
+     *
+     * @return the underlying business-day table
+     */
+    public BusinessDayTable getBusinessDayTable() {
+        return businessDays;
+    }
+
+    /**
+     * Gets the number of business days in a month.
+     *
+     * @param month the month to query; must not be null and within the table range
+     * @return the number of business days in the month
+     * @throws IllegalArgumentException if the month is {@code null} or outside the table range
+     */
+    public int getBusinessDayCount(YearMonth month) {
+        int index = indexOf(month);
+        return monthStartRanks[index + 1] - monthStartRanks[index];
+    }
+
+    /**
+     * Gets the number of business days in a fortnight of a month.
+     *
+     * @param month the month to query; must not be null and within the table range
+     * @param fortnight the half of the month; must not be null
+     * @return the number of business days in the fortnight
+     * @throws IllegalArgumentException if an argument is {@code null} or the month is outside the table range
+     */
+    public int getBusinessDayCount(YearMonth month, Fortnight fortnight) {
+        if (fortnight == null) {
+            throw new IllegalArgumentException("The fortnight must not be null");
+        }
+        int index = indexOf(month);
+        return fortnight == Fortnight.FIRST
+                ? secondFortnightRanks[index] - monthStartRanks[index]
+                : monthStartRanks[index + 1] - secondFortnightRanks[index];
+    }
+
+    /**
+     * Gets the number of holidays in a month, including holidays that fall on weekends.
+     *
+     * @param month the month to query; must not be null and within the table range
+     * @return the number of holidays in the month
+     * @throws IllegalArgumentException if the month is {@code null} or outside the table range
+     */
+    public int getHolidayCount(YearMonth month) {
+        return holidayCounts[indexOf(month)];
+    }
+
+    /**
+     * Gets the nth business day of a month.
+     *
+     * @param month the month to query; must not be null and within the table range
+     * @param n the one-based position of the business day within the month
+     * @return the nth business day, or empty if the month has fewer than {@code n} business days
+     * @throws IllegalArgumentException if the month is {@code null} or outside the table range, or {@code n < 1}
+     */
+    public Optional<LocalDate> getNthBusinessDay(YearMonth month, int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("The business day position must be positive");
+        }
+        int index = indexOf(month);
+        int rank = monthStartRanks[index] + n - 1;
+        if (rank >= monthStartRanks[index + 1]) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofEpochDay(businessDays.businessDayAt(rank)));
+    }
+
+    /**
+     * Gets the last business day of a month.
+     *
+     * @param month the month to query; must not be null and within the table range
+     * @return the last business day, or empty if the month has no business days
+     * @throws IllegalArgumentException if the month is {@code null} or outside the table range
+     */
+    public Optional<LocalDate> getLastBusinessDay(YearMonth month) {
+        int index = indexOf(month);
+        if (monthStartRanks[index + 1] == monthStartRanks[index]) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofEpochDay(businessDays.businessDayAt(monthStartRanks[index + 1] - 1)));
+    }
+
+    /**
+     * Gets the one-based position of a business day within its month.
+     *
+     * @param date the date to query; must not be null and within the table range
+     * @return the position of the date among the business days of its month, or {@code 0} if it is not a business day
+     * @throws IllegalArgumentException if the date is {@code null} or outside the table range
+     */
+    public int getBusinessDayOfMonth(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("The date must not be null");
+        }
+        return getBusinessDayOfMonth(date.toEpochDay());
+    }
+
+    /**
+     * Gets the one-based position of a business day within its month.
+     *
+     * @param epochDay the epoch day to query; must be within the table range
+     * @return the position of the day among the business days of its month, or {@code 0} if it is not a business day
+     * @throws IllegalArgumentException if the day is outside the table range
+     */
+    public int getBusinessDayOfMonth(long epochDay) {
+        if (!businessDays.isBusinessDay(epochDay)) {
+            return 0;
+        }
+        int index = monthIndexOf(epochDay);
+        return businessDays.businessDayRank(epochDay) - monthStartRanks[index] + 1;
+    }
+
+    private int indexOf(YearMonth month) {
+        if (month == null) {
+            throw new IllegalArgumentException("The month must not be null");
+        }
+        int index = (month.getYear() - fromYear) * 12 + month.getMonthValue() - 1;
+        if (index < 0 || index >= monthCount) {
+            throw new IllegalArgumentException("The month is outside the table range");
+        }
+        return index;
+    }
+
+    private int monthIndexOf(long epochDay) {
+        // Estimate with the mean Gregorian month (146097 days per 4800 months), then correct by at most a month
+        long offset = epochDay - monthStartEpochDays[0];
+        int index = (int) Math.min(monthCount - 1, offset * 4800 / 146_097);
+        while (monthStartEpochDays[index] > epochDay) {
+            index--;
+        }
+        while (monthStartEpochDays[index + 1] <= epochDay) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.azapata27.table;
+
+import java.time.DayOfWeek;
+
+/**
+ * Immutable set of the days of the week that are worked, kept as a bitmask with bit {@code n - 1} set for the
+ * ISO day-of-week {@code n}, Monday being bit 0 and Sunday bit 6.
+ * <p>
+ * A {@link BusinessDayTable} counts as business days the days of its work week that are not holidays;
+ * {@link #MONDAY_TO_FRIDAY} is the default.
+ *
+ * <p><b>Usage example:</b></p>
+ * <pre>{@code
+ * WorkWeek saturdayService = WorkWeek.MONDAY_TO_SATURDAY;
+ * WorkWeek sundayService = WorkWeek.of(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+ *         DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+ * }</pre>
+ */
+public final class WorkWeek {
+
+    /** Monday to Friday, the work week of business days. */
+    public static final WorkWeek MONDAY_TO_FRIDAY = new WorkWeek(0b0011111);
+
+    /** Monday to Saturday. */
+    public static final WorkWeek MONDAY_TO_SATURDAY = new WorkWeek(0b0111111);
+
+    /** Every day of the week. */
+    public static final WorkWeek EVERY_DAY = new WorkWeek(0b1111111);
+
+    private static final int ALL_DAYS = 0b1111111;
+
+    private final int mask;
+
+    private WorkWeek(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Creates a work week from its working days.
+     *
+     * @param days the days of the week that are worked; must not be null, empty nor contain {@code null}
+     * @return the work week
+     * @throws IllegalArgumentException if no day is given or a day is {@code null}
+     */
+    public static WorkWeek of(DayOfWeek... days) {
+        if (days == null || days.length == 0) {
+            throw new IllegalArgumentException("The days must not be null nor empty");
+        }
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            if (day == null) {
+                throw new IllegalArgumentException("The day must not be null");
+            }
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return new WorkWeek(mask);
+    }
+
+    /**
+     * Creates a work week from its bitmask.
+     *
+     * @param mask the working days, bit {@code n - 1} for the ISO day-of-week {@code n}; must have at least one of
+     *             the seven low bits set and no other bit
+     * @return the work week
+     * @throws IllegalArgumentException if the mask is empty or has bits beyond Sunday
+     */
+    public static WorkWeek ofMask(int mask) {
+        if (mask <= 0 || (mask & ~ALL_DAYS) != 0) {
+            throw new IllegalArgumentException("The mask must have between one and seven working days");
+        }
+        return new WorkWeek(mask);
+    }
+
+    /**
+     * Gets the bitmask of the working days.
+     *
+     * @return the mask, bit {@code n - 1} set when the ISO day-of-week {@code n} is worked
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Checks if a day of the week is worked.
+     *
+     * @param day the day of the week; must not be null
+     * @return {@code true} if the day is worked, {@code false} otherwise
+     * @throws IllegalArgumentException if {@code day} is null
+     */
+    public boolean isWorkingDay(DayOfWeek day) {
+        if (day == null) {
+            throw new IllegalArgumentException("The day must not be null");
+        }
+        return isWorkingDay(day.getValue());
+    }
+
+    /**
+     * Checks if an ISO day-of-week is worked.
+     *
+     * @param dayOfWeek the ISO day-of-week, from 1 (Monday) to 7 (Sunday)
+     * @return {@code true} if the day is worked, {@code false} otherwise
+     */
+    public boolean isWorkingDay(int dayOfWeek) {
+        return (mask & (1 << (dayOfWeek - 1))) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof WorkWeek && ((WorkWeek) o).mask == mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder days = new StringBuilder("WorkWeek[");
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (isWorkingDay(day)) {
+                days.append(days.length() > 9 ? ", " : "").append(day);
+            }
+        }
+        return days.append(']').toString();
+    }
+}
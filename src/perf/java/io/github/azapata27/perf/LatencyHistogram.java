@@ -0,0 +1,92 @@
+package io.github.azapata27.perf;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram, with a relative error below 1.6%.
+ * <p>
+ * Values below 128 are counted exactly. Larger values are grouped per power of two into 64 linear sub-buckets,
+ * so recording is a few shifts and an array increment. Histograms are not thread-safe: each recording thread
+ * owns one, and they are merged with {@link #add(LatencyHistogram)} once the threads are done.
+ */
+final class LatencyHistogram {
+
+    private static final int EXACT_VALUES = 128;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[EXACT_VALUES + (63 - 7) * SUB_BUCKETS];
+    private long totalCount;
+    private long maxValue;
+    private double sum;
+
+    void record(long value) {
+        long clamped = Math.max(0, value);
+        counts[indexOf(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        if (clamped > maxValue) {
+            maxValue = clamped;
+        }
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMaxValue() {
+        return maxValue;
+    }
+
+    double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Gets the value at a percentile, reported as the highest value of its bucket (capped at the maximum).
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at the percentile, or 0 when the histogram is empty
+     */
+    long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestValueOf(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    static int indexOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return EXACT_VALUES + (exponent - 7) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < EXACT_VALUES) {
+            return index;
+        }
+        int exponent = (index - EXACT_VALUES) / SUB_BUCKETS + 7;
+        int subBucket = (index - EXACT_VALUES) % SUB_BUCKETS + SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((long) (subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,302 @@
+package io.github.azapata27.perf;
+
+import io.github.azapata27.ColombianHolidayValidator;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives a mixed query load from many virtual threads against one shared {@link ColombianHolidayValidator}.
+ * <p>
+ * Every virtual thread loops until the deadline, picking an operation from a weighted mix and a random date
+ * between 1990 and 2060, and records the latency of each call in its own {@link LatencyHistogram}. Threads yield
+ * after each call so that thousands of them interleave on the carrier threads like request handlers do. The
+ * first seconds are a warm-up whose samples are discarded.
+ * <p>
+ * The report gives the throughput and p50/p90/p99/p99.9/max latencies per operation and overall, the collections
+ * and collection time of every garbage collector, and the bytes allocated per operation. It is printed and
+ * written as JSON to the output file.
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ./gradlew loadHarness
+ * ./gradlew loadHarness -Pthreads=5000 -Pduration=60 -Pmix=isHoliday=90,year=10
+ * }</pre>
+ * Options: {@code --threads=2000}, {@code --duration=20} and {@code --warmup=5} in seconds,
+ * {@code --mix=isHoliday=60,year=10,next=10,previous=10,longWeekend=10} and
+ * {@code --output=build/load-harness/result.json}.
+ */
+public final class LoadHarness {
+
+    private static final String[] OPERATIONS = {"isHoliday", "year", "next", "previous", "longWeekend"};
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(1990, 1, 1).toEpochDay();
+    private static final int DAY_SPAN = (int) (LocalDate.of(2061, 1, 1).toEpochDay() - FIRST_EPOCH_DAY);
+
+    private final ColombianHolidayValidator validator = new ColombianHolidayValidator();
+    private final int[] cumulativeWeights;
+    private volatile boolean recording;
+    private volatile boolean stopped;
+
+    private LoadHarness(int[] weights) {
+        this.cumulativeWeights = new int[weights.length];
+        int total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("threads", "2000");
+        options.put("duration", "20");
+        options.put("warmup", "5");
+        options.put("mix", "isHoliday=60,year=10,next=10,previous=10,longWeekend=10");
+        options.put("output", "build/load-harness/result.json");
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0 || !options.containsKey(arg.substring(2, separator))) {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        int threads = Integer.parseInt(options.get("threads"));
+        int durationSeconds = Integer.parseInt(options.get("duration"));
+        int warmupSeconds = Integer.parseInt(options.get("warmup"));
+        int[] weights = parseMix(options.get("mix"));
+
+        LoadHarness harness = new LoadHarness(weights);
+        String json = harness.run(threads, warmupSeconds, durationSeconds, options);
+
+        Path output = Path.of(options.get("output"));
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.writeString(output, json, StandardCharsets.UTF_8);
+        System.out.println("Result written to " + output.toAbsolutePath());
+    }
+
+    private String run(int threads, int warmupSeconds, int durationSeconds, Map<String, String> options)
+            throws Exception {
+        List<Future<Worker>> futures = new ArrayList<>(threads);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    Worker worker = new Worker();
+                    worker.run();
+                    return worker;
+                }));
+            }
+
+            Thread.sleep(warmupSeconds * 1000L);
+            GcSnapshot gcBefore = GcSnapshot.take();
+            long allocatedBefore = totalAllocatedBytes();
+            long start = System.nanoTime();
+            recording = true;
+
+            Thread.sleep(durationSeconds * 1000L);
+            recording = false;
+            long elapsedNanos = System.nanoTime() - start;
+            long allocated = totalAllocatedBytes() - allocatedBefore;
+            GcSnapshot gcAfter = GcSnapshot.take();
+            stopped = true;
+
+            LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+            long sink = 0;
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                sink += worker.sink;
+                for (int i = 0; i < histograms.length; i++) {
+                    histograms[i].add(worker.histograms[i]);
+                }
+            }
+            return report(threads, elapsedNanos, histograms, allocated, gcBefore, gcAfter, options, sink);
+        }
+    }
+
+    private String report(int threads, long elapsedNanos, LatencyHistogram[] histograms, long allocatedBytes,
+                          GcSnapshot gcBefore, GcSnapshot gcAfter, Map<String, String> options, long sink) {
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms) {
+            total.add(histogram);
+        }
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        System.out.printf(Locale.ROOT, "%d virtual threads, %.1f s, %,.0f ops/s (checksum %d)%n",
+                threads, seconds, total.getTotalCount() / seconds, sink);
+        System.out.printf(Locale.ROOT, "%-12s %12s %10s %10s %10s %10s %10s%n",
+                "operation", "ops/s", "p50 ns", "p90 ns", "p99 ns", "p99.9 ns", "max ns");
+        StringBuilder json = new StringBuilder(2048);
+        json.append("{\n  \"timestamp\": \"").append(Instant.now()).append("\",\n")
+                .append("  \"javaVersion\": \"").append(System.getProperty("java.version")).append("\",\n")
+                .append("  \"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n")
+                .append("  \"threads\": ").append(threads).append(",\n")
+                .append("  \"mix\": \"").append(options.get("mix")).append("\",\n")
+                .append("  \"durationSeconds\": ").append(format(seconds)).append(",\n")
+                .append("  \"operations\": {\n");
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            printRow(OPERATIONS[i], histograms[i], seconds);
+            json.append("    \"").append(OPERATIONS[i]).append("\": ");
+            appendLatencies(json, histograms[i], seconds);
+            json.append(",\n");
+        }
+        printRow("total", total, seconds);
+        json.append("    \"total\": ");
+        appendLatencies(json, total, seconds);
+        json.append("\n  },\n");
+
+        double bytesPerOperation = total.getTotalCount() == 0 || allocatedBytes < 0
+                ? -1 : (double) allocatedBytes / total.getTotalCount();
+        System.out.printf(Locale.ROOT, "allocation: %,d bytes, %.1f B/op%n", allocatedBytes, bytesPerOperation);
+        json.append("  \"allocation\": {\"bytes\": ").append(allocatedBytes)
+                .append(", \"bytesPerOperation\": ").append(format(bytesPerOperation)).append("},\n");
+
+        json.append("  \"gc\": [");
+        boolean first = true;
+        for (Map.Entry<String, long[]> entry : gcAfter.collectors.entrySet()) {
+            long[] before = gcBefore.collectors.getOrDefault(entry.getKey(), new long[2]);
+            long count = entry.getValue()[0] - before[0];
+            long millis = entry.getValue()[1] - before[1];
+            System.out.printf(Locale.ROOT, "gc %-24s %6d collections %8d ms%n", entry.getKey(), count, millis);
+            json.append(first ? "\n" : ",\n").append("    {\"name\": \"").append(entry.getKey())
+                    .append("\", \"collections\": ").append(count).append(", \"timeMillis\": ").append(millis).append('}');
+            first = false;
+        }
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        json.append("\n  ],\n  \"heapUsedBytes\": ").append(memory.getHeapMemoryUsage().getUsed()).append("\n}\n");
+        return json.toString();
+    }
+
+    private static void printRow(String operation, LatencyHistogram histogram, double seconds) {
+        System.out.printf(Locale.ROOT, "%-12s %,12.0f %10d %10d %10d %10d %10d%n", operation,
+                histogram.getTotalCount() / seconds, histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90), histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+    }
+
+    private static void appendLatencies(StringBuilder json, LatencyHistogram histogram, double seconds) {
+        json.append("{\"count\": ").append(histogram.getTotalCount())
+                .append(", \"opsPerSecond\": ").append(format(histogram.getTotalCount() / seconds))
+                .append(", \"meanNanos\": ").append(format(histogram.getMean()))
+                .append(", \"p50Nanos\": ").append(histogram.getValueAtPercentile(50))
+                .append(", \"p90Nanos\": ").append(histogram.getValueAtPercentile(90))
+                .append(", \"p99Nanos\": ").append(histogram.getValueAtPercentile(99))
+                .append(", \"p999Nanos\": ").append(histogram.getValueAtPercentile(99.9))
+                .append(", \"maxNanos\": ").append(histogram.getMaxValue()).append('}');
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static int[] parseMix(String mix) {
+        int[] weights = new int[OPERATIONS.length];
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int index = List.of(OPERATIONS).indexOf(parts[0]);
+            if (parts.length != 2 || index < 0) {
+                throw new IllegalArgumentException("Invalid mix entry " + entry + ", operations are " + List.of(OPERATIONS));
+            }
+            weights[index] = Integer.parseInt(parts[1]);
+        }
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The mix must have a positive weight");
+        }
+        return weights;
+    }
+
+    private static long totalAllocatedBytes() {
+        // Virtual threads allocate on their carrier threads, which this counter covers
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads && sunThreads.isThreadAllocatedMemorySupported()) {
+            return sunThreads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private final class Worker {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+        private long sink;
+
+        private Worker() {
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new LatencyHistogram();
+            }
+        }
+
+        private void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+            while (!stopped) {
+                int pick = random.nextInt(totalWeight);
+                int operation = 0;
+                while (pick >= cumulativeWeights[operation]) {
+                    operation++;
+                }
+                LocalDate date = LocalDate.ofEpochDay(FIRST_EPOCH_DAY + random.nextInt(DAY_SPAN));
+
+                long start = System.nanoTime();
+                sink += call(operation, date);
+                long latency = System.nanoTime() - start;
+                if (recording) {
+                    histograms[operation].record(latency);
+                }
+                Thread.yield();
+            }
+        }
+
+        private long call(int operation, LocalDate date) {
+            switch (operation) {
+                case 0:
+                    return validator.isHoliday(date) ? 1 : 0;
+                case 1:
+                    return validator.getHolidaysForYear(Year.of(date.getYear())).size();
+                case 2:
+                    return validator.getNextHolidayDate(date).isPresent() ? 1 : 0;
+                case 3:
+                    return validator.getPreviousHolidayDate(date).isPresent() ? 1 : 0;
+                default:
+                    return validator.isLongWeekend(date) ? 1 : 0;
+            }
+        }
+    }
+
+    private static final class GcSnapshot {
+        private final Map<String, long[]> collectors = new LinkedHashMap<>();
+
+        private static GcSnapshot take() {
+            GcSnapshot snapshot = new GcSnapshot();
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                snapshot.collectors.put(collector.getName(),
+                        new long[]{collector.getCollectionCount(), collector.getCollectionTime()});
+            }
+            return snapshot;
+        }
+    }
+}
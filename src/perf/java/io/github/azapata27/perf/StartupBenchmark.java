@@ -0,0 +1,149 @@
+package io.github.azapata27.perf;
+
+import io.github.azapata27.ColombianHolidayValidator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-answer and class loading of the toolkit in fresh JVMs.
+ * <p>
+ * Every sample starts a new JVM that answers a single {@code isHoliday} query and prints a marker line.
+ * The parent measures the wall time from process start to the marker, and counts the classes reported by
+ * {@code -Xlog:class+load} before it. Scenarios compare {@code new ColombianHolidayValidator()} with
+ * {@link ColombianHolidayValidator#getDefault()}, each with the default JDK archive and with an AppCDS archive
+ * created by a training run ({@code -XX:ArchiveClassesAtExit}).
+ *
+ * <p><b>Usage:</b></p>
+ * <pre>{@code
+ * ./gradlew startupBenchmark            # 10 samples per scenario
+ * ./gradlew startupBenchmark -Pruns=30
+ * }</pre>
+ * The Gradle task runs the harness from the library and harness JARs, since AppCDS does not archive classes
+ * loaded from directories.
+ */
+public final class StartupBenchmark {
+
+    private static final String PROBE = "--probe";
+    private static final String ANSWER_MARKER = "FIRST_ANSWER";
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && PROBE.equals(args[0])) {
+            probe(args[1]);
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Path workDir = Files.createTempDirectory("startup-benchmark");
+        Path archive = workDir.resolve("toolkit.jsa");
+
+        // Training run: dump the classes loaded by the probe into a dynamic AppCDS archive.
+        // AppCDS only archives classes loaded from JAR files, so run from jars to enable these scenarios.
+        Sample training = null;
+        try {
+            training = runProbe("default", List.of("-XX:ArchiveClassesAtExit=" + archive));
+        } catch (IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+        if (!Files.exists(archive)) {
+            System.out.println("AppCDS archive was not created, CDS scenarios are skipped");
+        }
+
+        System.out.printf("%-34s %10s %10s %10s %12s %12s%n",
+                "scenario", "min ms", "median ms", "max ms", "classes", "toolkit cls");
+        for (String mode : new String[]{"constructor", "default"}) {
+            report(mode + " (JDK CDS)", mode, List.of(), runs);
+            if (Files.exists(archive)) {
+                report(mode + " (AppCDS)", mode, List.of("-XX:SharedArchiveFile=" + archive), runs);
+            }
+        }
+        if (training != null) {
+            System.out.printf("training run: %.1f ms%n", training.millis);
+        }
+
+        Files.deleteIfExists(archive);
+        Files.deleteIfExists(workDir);
+    }
+
+    private static void report(String scenario, String mode, List<String> jvmOptions, int runs)
+            throws IOException, InterruptedException {
+        double[] millis = new double[runs];
+        Sample last = null;
+        for (int i = 0; i < runs; i++) {
+            last = runProbe(mode, jvmOptions);
+            millis[i] = last.millis;
+        }
+        Arrays.sort(millis);
+        System.out.printf("%-34s %10.1f %10.1f %10.1f %12d %12d%n",
+                scenario, millis[0], millis[runs / 2], millis[runs - 1], last.loadedClasses, last.toolkitClasses);
+    }
+
+    private static Sample runProbe(String mode, List<String> jvmOptions) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Xshare:auto");
+        command.add("-Xlog:class+load=info:stdout");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupBenchmark.class.getName());
+        command.add(PROBE);
+        command.add(mode);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Sample sample = new Sample();
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean answered = false;
+            while ((line = reader.readLine()) != null) {
+                if (!line.contains("[class,load]")) {
+                    output.append(line).append(System.lineSeparator());
+                }
+                if (!answered && line.startsWith(ANSWER_MARKER)) {
+                    sample.millis = (System.nanoTime() - start) / 1_000_000.0;
+                    answered = true;
+                } else if (!answered && line.contains("[class,load]")) {
+                    sample.loadedClasses++;
+                    if (line.contains(" io.github.azapata27.")) {
+                        sample.toolkitClasses++;
+                    }
+                }
+            }
+        }
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            throw new IllegalStateException("Probe JVM failed for mode " + mode + " " + jvmOptions
+                    + System.lineSeparator() + output);
+        }
+        return sample;
+    }
+
+    private static void probe(String mode) {
+        ColombianHolidayValidator validator = "default".equals(mode)
+                ? ColombianHolidayValidator.getDefault()
+                : new ColombianHolidayValidator();
+        boolean answer = validator.isHoliday(LocalDate.of(2024, 12, 25));
+        System.out.println(ANSWER_MARKER + " " + answer);
+    }
+
+    private static final class Sample {
+        private double millis;
+        private int loadedClasses;
+        private int toolkitClasses;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.codec.HolidayJsonEncoder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the allocation budget of the query methods.
+ * <p>
+ * Each operation is warmed up so it runs compiled, then called in a measured loop while the bytes allocated by
+ * the current thread are read from {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}. The
+ * average bytes per call must stay within the ceiling of the operation; all operations are measured before the
+ * assertion so a failure reports the whole table.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARM_UP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 20_000;
+    private static final int INPUTS = 1024;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final HolidayJsonEncoder jsonEncoder = new HolidayJsonEncoder(holidayValidator);
+    private final OutputStream discard = OutputStream.nullOutputStream();
+    private final LocalDate[] dates = new LocalDate[INPUTS];
+    private final long[] epochMillis = new long[INPUTS];
+    private final Instant[] instants = new Instant[INPUTS];
+    private final Year[] years = new Year[INPUTS];
+    private final List<String> report = new ArrayList<>();
+    private final List<String> violations = new ArrayList<>();
+    // Results of the measured calls, stored in a field so the JIT cannot drop the calls as dead code
+    private long sink;
+
+    @BeforeAll
+    static void setUpThreadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Allocation measurement needs com.sun.management.ThreadMXBean");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocated memory is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void shouldStayWithinAllocationBudgets() {
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < INPUTS; i++) {
+            dates[i] = start.plusDays(i * 37L);
+            instants[i] = Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i * 7_919L * 60);
+            epochMillis[i] = instants[i].toEpochMilli();
+            years[i] = Year.of(2000 + i % 50);
+        }
+
+        // Allocation-free paths
+        measure("isHoliday(LocalDate)", 0, i -> holidayValidator.isHoliday(dates[i]) ? 1 : 0);
+        measure("isHolidayAt(Instant)", 0, i -> holidayValidator.isHolidayAt(instants[i]) ? 1 : 0);
+        measure("isHolidayEpochMillis(long)", 0, i -> holidayValidator.isHolidayEpochMillis(epochMillis[i]) ? 1 : 0);
+        measure("isHolidayEpochDay(long)", 0, i -> holidayValidator.isHolidayEpochDay(dates[i].toEpochDay()) ? 1 : 0);
+        measure("isLongWeekend(LocalDate)", 0, i -> holidayValidator.isLongWeekend(dates[i]) ? 1 : 0);
+        measure("isBusinessDay(LocalDate)", 0, i -> holidayValidator.isBusinessDay(dates[i]) ? 1 : 0);
+
+        // At most one Optional per lookup
+        measure("getNextHolidayDate(LocalDate)", 16, i -> holidayValidator.getNextHolidayDate(dates[i]).isPresent() ? 1 : 0);
+        measure("getNextHoliday(LocalDate)", 16, i -> holidayValidator.getNextHoliday(dates[i]).isPresent() ? 1 : 0);
+        measure("getPreviousHolidayDate(LocalDate)", 16, i -> holidayValidator.getPreviousHolidayDate(dates[i]).isPresent() ? 1 : 0);
+        measure("getPreviousHoliday(LocalDate)", 16, i -> holidayValidator.getPreviousHoliday(dates[i]).isPresent() ? 1 : 0);
+
+        // A defensive copy of the cached year: one ArrayList, the array returned by toArray and its copy
+        measure("getHolidayDatesForYear(Year)", 256, i -> holidayValidator.getHolidayDatesForYear(years[i]).size());
+        measure("getHolidaysForYear(Year)", 256, i -> holidayValidator.getHolidaysForYear(years[i]).size());
+
+        // A cached year document is written as is
+        measure("HolidayJsonEncoder.writeYear(Year, OutputStream)", 0, i -> writeYear(years[i]));
+
+        // At most the returned LocalDate
+        measure("EasterCalculator.calculateEasterSunday(int)", 24, i -> EasterCalculator.calculateEasterSunday(1583 + i).getDayOfMonth());
+
+        assertTrue(violations.isEmpty(), () -> "Allocation budget exceeded:" + System.lineSeparator()
+                + String.join(System.lineSeparator(), violations) + System.lineSeparator()
+                + "All operations:" + System.lineSeparator()
+                + String.join(System.lineSeparator(), report));
+    }
+
+    private long writeYear(Year year) {
+        try {
+            return jsonEncoder.writeYear(year, discard);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void measure(String operation, long ceilingBytesPerCall, IntToLongFunction call) {
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            sink += call.applyAsLong(i & (INPUTS - 1));
+        }
+
+        long overhead = threads.getCurrentThreadAllocatedBytes();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        overhead = before - overhead;
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += call.applyAsLong(i & (INPUTS - 1));
+        }
+        long after = threads.getCurrentThreadAllocatedBytes();
+
+        double bytesPerCall = Math.max(0, after - before - overhead) / (double) MEASURED_CALLS;
+        String line = String.format("%-45s %8.1f B/call (ceiling %d)", operation, bytesPerCall, ceilingBytesPerCall);
+        report.add(line);
+        // Tolerate less than one byte per call of noise, e.g. a profiler or JIT allocation in the measured window
+        if (bytesPerCall >= ceilingBytesPerCall + 1) {
+            violations.add(line);
+        }
+    }
+}
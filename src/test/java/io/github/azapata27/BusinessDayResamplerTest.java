@@ -0,0 +1,136 @@
+package io.github.azapata27;
+
+import io.github.azapata27.enums.ResampleFrequency;
+import io.github.azapata27.enums.RollConvention;
+import io.github.azapata27.series.BusinessDayResampler;
+import io.github.azapata27.series.ResampledSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessDayResamplerTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+
+    @Test
+    void shouldFoldWeekendAndHolidayVolumeForwardOrBack() {
+        // Saturday 2024-06-29 to Wednesday 2024-07-03, Monday July 1 being San Pedro y San Pablo
+        long first = LocalDate.of(2024, 6, 29).toEpochDay();
+        long[] epochDays = {first, first + 1, first + 2, first + 3, first + 4};
+        double[] values = {1, 2, 3, 4, 5};
+
+        ResampledSeries forward = resampler(ResampleFrequency.BUSINESS_DAY, RollConvention.FOLLOWING)
+                .resample(epochDays, values);
+        ResampledSeries back = resampler(ResampleFrequency.BUSINESS_DAY, RollConvention.PRECEDING)
+                .resample(epochDays, values);
+
+        assertArrayEquals(new long[]{first + 3, first + 4}, forward.getBucketStarts());
+        assertArrayEquals(new double[]{10, 5}, forward.getSums());
+        assertArrayEquals(new int[]{4, 1}, forward.getRowCounts());
+        assertArrayEquals(new long[]{first - 1, first + 3, first + 4}, back.getBucketStarts());
+        assertArrayEquals(new double[]{6, 4, 5}, back.getSums());
+        assertArrayEquals(new int[]{1, 1, 1}, back.getBusinessDayCounts());
+    }
+
+    @Test
+    void shouldAverageMonthsPerBusinessDay() {
+        long[] epochDays = daysOf(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+        double[] values = new double[epochDays.length];
+        Arrays.fill(values, 1.0);
+
+        ResampledSeries monthly = resampler(ResampleFrequency.BUSINESS_MONTH, RollConvention.MODIFIED_FOLLOWING)
+                .resample(epochDays, values);
+
+        assertEquals(12, monthly.size());
+        for (int month = 0; month < 12; month++) {
+            YearMonth yearMonth = YearMonth.of(2024, month + 1);
+            int businessDays = 0;
+            for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+                businessDays += holidayValidator.isBusinessDay(yearMonth.atDay(day)) ? 1 : 0;
+            }
+            assertEquals(yearMonth.atDay(1).toEpochDay(), monthly.getBucketStarts()[month]);
+            assertEquals(yearMonth.lengthOfMonth(), monthly.getSums()[month], 0.0);
+            assertEquals(businessDays, monthly.getBusinessDayCounts()[month]);
+            assertEquals((double) yearMonth.lengthOfMonth() / businessDays, monthly.getMeanPerBusinessDay(month), 1e-12);
+        }
+    }
+
+    @Test
+    void shouldMatchPerRowReferenceInParallel() {
+        Random random = new Random(11);
+        long[] epochDays = new long[12_000];
+        double[] values = new double[epochDays.length];
+        long day = LocalDate.of(2021, 1, 1).toEpochDay();
+        for (int row = 0; row < epochDays.length; row++) {
+            day += random.nextInt(8) == 0 ? 1 : 0;
+            epochDays[row] = day;
+            values[row] = random.nextInt(100);
+        }
+        BusinessDayResampler resampler = resampler(ResampleFrequency.BUSINESS_WEEK, RollConvention.FOLLOWING);
+        TreeMap<Long, Double> expected = new TreeMap<>();
+        long[] buckets = new long[epochDays.length];
+        resampler.assignBuckets(epochDays, buckets);
+        for (int row = 0; row < epochDays.length; row++) {
+            LocalDate folded = LocalDate.ofEpochDay(epochDays[row]);
+            while (!holidayValidator.isBusinessDay(folded)) {
+                folded = folded.plusDays(1);
+            }
+            long monday = folded.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toEpochDay();
+            assertEquals(monday, buckets[row]);
+            expected.merge(monday, values[row], Double::sum);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ResampledSeries weekly;
+        try {
+            weekly = resampler.resampleParallel(epochDays, values, executor, 997);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertArrayEquals(expected.keySet().stream().mapToLong(Long::longValue).toArray(), weekly.getBucketStarts());
+        assertArrayEquals(expected.values().stream().mapToDouble(Double::doubleValue).toArray(), weekly.getSums());
+        ResampledSeries sequential = resampler.resample(epochDays, values);
+        assertArrayEquals(sequential.getRowCounts(), weekly.getRowCounts());
+        assertArrayEquals(sequential.getBusinessDayCounts(), weekly.getBusinessDayCounts());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        BusinessDayResampler resampler = resampler(ResampleFrequency.BUSINESS_DAY, RollConvention.FOLLOWING);
+        long day = LocalDate.of(2024, 3, 1).toEpochDay();
+
+        assertThrows(IllegalArgumentException.class, () -> BusinessDayResampler.of(holidayValidator,
+                Year.of(2020), Year.of(2025), ResampleFrequency.BUSINESS_DAY, null));
+        assertThrows(IllegalArgumentException.class, () -> resampler.resample(new long[]{day}, new double[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> resampler.resample(new long[]{day, day - 1}, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> resampler.resampleParallel(new long[]{day, day + 1, day},
+                new double[3], Executors.newSingleThreadExecutor(), 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> resampler.bucketOf(LocalDate.of(2026, 1, 1).toEpochDay()));
+    }
+
+    private BusinessDayResampler resampler(ResampleFrequency frequency, RollConvention fold) {
+        return BusinessDayResampler.of(holidayValidator, Year.of(2020), Year.of(2025), frequency, fold);
+    }
+
+    private static long[] daysOf(LocalDate fromInclusive, LocalDate toExclusive) {
+        long[] epochDays = new long[(int) (toExclusive.toEpochDay() - fromInclusive.toEpochDay())];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = fromInclusive.toEpochDay() + i;
+        }
+        return epochDays;
+    }
+}
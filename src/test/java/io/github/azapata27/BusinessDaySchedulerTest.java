@@ -0,0 +1,179 @@
+package io.github.azapata27;
+
+import io.github.azapata27.enums.SchedulePeriod;
+import io.github.azapata27.schedule.BusinessDayScheduler;
+import io.github.azapata27.schedule.ScheduleExpression;
+import io.github.azapata27.schedule.ScheduledJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BusinessDaySchedulerTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final BusinessDayScheduler scheduler =
+            BusinessDayScheduler.of(holidayValidator, Year.of(2020), Year.of(2030));
+
+    @Test
+    void shouldMatchDayByDayDefinition() {
+        List<ScheduleExpression> expressions = List.of(
+                ScheduleExpression.everyBusinessDay(),
+                ScheduleExpression.everyBusinessDay().exceptBeforeLongWeekend(),
+                ScheduleExpression.nthBusinessDayOfMonth(3),
+                ScheduleExpression.nthBusinessDayOfMonth(-2),
+                ScheduleExpression.nthBusinessDayOfMonth(23),
+                ScheduleExpression.lastBusinessDayOf(SchedulePeriod.QUARTER),
+                ScheduleExpression.nthBusinessDayOf(SchedulePeriod.YEAR, 1).exceptBeforeLongWeekend());
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2029, 12, 31);
+
+        for (ScheduleExpression expression : expressions) {
+            List<Long> expected = referenceFireDays(expression, from, to);
+            long[] fireDays = new long[expected.size()];
+
+            assertEquals(expected.size(), scheduler.nextFireDays(expression, from.toEpochDay(), fireDays),
+                    expression::toString);
+            for (int i = 0; i < fireDays.length; i++) {
+                assertEquals(expected.get(i), fireDays[i], expression::toString);
+            }
+        }
+    }
+
+    @Test
+    void shouldComputeNextFireTimesAtLocalTime() {
+        ScheduleExpression payroll = ScheduleExpression.nthBusinessDayOfMonth(3).at(LocalTime.of(8, 0));
+        Instant after = LocalDate.of(2024, 1, 4).atTime(8, 0).atZone(holidayValidator.getZone()).toInstant();
+
+        List<ZonedDateTime> fireTimes = scheduler.nextFireTimes(payroll, after, 3);
+
+        // January 2024: the 1st is a holiday and the 3rd business day is Thursday the 4th, at 08:00 exactly
+        assertEquals(List.of(
+                LocalDate.of(2024, 2, 5).atTime(8, 0).atZone(holidayValidator.getZone()),
+                LocalDate.of(2024, 3, 5).atTime(8, 0).atZone(holidayValidator.getZone()),
+                LocalDate.of(2024, 4, 3).atTime(8, 0).atZone(holidayValidator.getZone())), fireTimes);
+        assertEquals(LocalDate.of(2024, 1, 4),
+                scheduler.nextFireTime(payroll, after.minusMillis(1)).orElseThrow().toLocalDate());
+    }
+
+    @Test
+    void shouldSkipHolyWeekAtQuarterEnd() {
+        // March 28 and 29, 2024 are Holy Thursday and Good Friday
+        ScheduleExpression closing = ScheduleExpression.lastBusinessDayOf(SchedulePeriod.QUARTER);
+
+        assertEquals(LocalDate.of(2024, 3, 27),
+                scheduler.nextFireTime(closing, Instant.parse("2024-01-01T12:00:00Z")).orElseThrow().toLocalDate());
+    }
+
+    @Test
+    void shouldStopAtLastYear() {
+        ScheduleExpression closing = ScheduleExpression.lastBusinessDayOf(SchedulePeriod.YEAR);
+
+        assertEquals(2, scheduler.nextFireTimes(closing, Instant.parse("2029-01-01T12:00:00Z"), 5).size());
+    }
+
+    @Test
+    void shouldRunJobAndScheduleFollowingFireTime() throws InterruptedException {
+        ZonedDateTime firstFire = LocalDate.of(2024, 1, 4).atTime(8, 0).atZone(holidayValidator.getZone());
+        Clock clock = Clock.fixed(firstFire.toInstant().minusMillis(50), holidayValidator.getZone());
+        BusinessDayScheduler clockedScheduler =
+                BusinessDayScheduler.of(holidayValidator, Year.of(2024), Year.of(2025), clock);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch ran = new CountDownLatch(1);
+        try {
+            ScheduledJob job = clockedScheduler.schedule(executor,
+                    ScheduleExpression.nthBusinessDayOfMonth(3).at(LocalTime.of(8, 0)), ran::countDown);
+            assertEquals(firstFire, job.getNextFireTime().orElseThrow());
+
+            assertTrue(ran.await(5, TimeUnit.SECONDS));
+            ZonedDateTime secondFire = LocalDate.of(2024, 2, 5).atTime(8, 0).atZone(holidayValidator.getZone());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!job.getNextFireTime().orElseThrow().equals(secondFire) && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertEquals(secondFire, job.getNextFireTime().orElseThrow());
+
+            assertTrue(job.cancel());
+            assertTrue(job.isDone());
+            assertTrue(job.getNextFireTime().isEmpty());
+            assertFalse(job.cancel());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldDescribeExpression() {
+        assertEquals("3rd business day of month at 08:00",
+                ScheduleExpression.nthBusinessDayOfMonth(3).at(LocalTime.of(8, 0)).toString());
+        assertEquals("every business day except before a long weekend at 00:00",
+                ScheduleExpression.everyBusinessDay().exceptBeforeLongWeekend().toString());
+        assertEquals("last business day of quarter at 00:00",
+                ScheduleExpression.lastBusinessDayOf(SchedulePeriod.QUARTER).toString());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ScheduleExpression.nthBusinessDayOfMonth(0));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleExpression.nthBusinessDayOf(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleExpression.everyBusinessDay().at(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> BusinessDayScheduler.of(holidayValidator, Year.of(2030), Year.of(2020)));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.nextFireTimes(ScheduleExpression.everyBusinessDay(), Instant.EPOCH, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.nextFireTimes(null, Instant.parse("2024-01-01T00:00:00Z"), 1));
+    }
+
+    private List<Long> referenceFireDays(ScheduleExpression expression, LocalDate from, LocalDate to) {
+        List<Long> fireDays = new ArrayList<>();
+        if (expression.getPeriod().isEmpty()) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (holidayValidator.isBusinessDay(date) && !skipped(expression, date)) {
+                    fireDays.add(date.toEpochDay());
+                }
+            }
+            return fireDays;
+        }
+        int months = expression.getPeriod().get().getMonths();
+        for (YearMonth start = YearMonth.from(from); !start.atDay(1).isAfter(to); start = start.plusMonths(months)) {
+            List<LocalDate> businessDays = new ArrayList<>();
+            for (LocalDate date = start.atDay(1); date.isBefore(start.plusMonths(months).atDay(1));
+                 date = date.plusDays(1)) {
+                if (holidayValidator.isBusinessDay(date)) {
+                    businessDays.add(date);
+                }
+            }
+            int index = expression.getPosition() > 0
+                    ? expression.getPosition() - 1 : businessDays.size() + expression.getPosition();
+            if (index >= 0 && index < businessDays.size() && !skipped(expression, businessDays.get(index))) {
+                fireDays.add(businessDays.get(index).toEpochDay());
+            }
+        }
+        return fireDays;
+    }
+
+    private boolean skipped(ScheduleExpression expression, LocalDate date) {
+        if (!expression.isExceptBeforeLongWeekend()) {
+            return false;
+        }
+        LocalDate next = date.plusDays(1);
+        while (!holidayValidator.isBusinessDay(next)) {
+            next = next.plusDays(1);
+        }
+        return next.toEpochDay() - date.toEpochDay() >= 4;
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.azapata27;
+
+import io.github.azapata27.change.CalendarChange;
+import io.github.azapata27.change.YearDelta;
+import io.github.azapata27.clock.HolidayClock;
+import io.github.azapata27.codec.HolidayJsonEncoder;
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.factory.ColombianHolidayFactory;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarChangeTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+
+    @Test
+    void shouldReportAddedRemovedAndRetypedHolidaysOfEveryYear() {
+        holidayValidator.getHolidaysForYear(Year.of(2024));
+        List<CalendarChange<ColombianHoliday>> notified = new ArrayList<>();
+        holidayValidator.addChangeListener(notified::add);
+
+        CalendarChange<ColombianHoliday> change = updateWithNewDefinitions();
+
+        assertEquals(List.of(change), notified);
+        assertEquals(ColombianHolidayValidator.INITIAL_VERSION, change.getPreviousVersion());
+        assertEquals(ColombianHolidayValidator.INITIAL_VERSION + 1, change.getVersion());
+        assertEquals(change.getVersion(), holidayValidator.getCalendarVersion());
+        List<Year> affectedYears = change.getAffectedYears();
+        assertEquals(4099 - 1583 + 1, affectedYears.size());
+        assertEquals(Year.of(1583), affectedYears.get(0));
+        assertEquals(Year.of(4099), affectedYears.get(affectedYears.size() - 1));
+
+        YearDelta<ColombianHoliday> delta = change.getYearDelta(Year.of(2024)).orElseThrow();
+        assertEquals(List.of(LocalDate.of(2024, 9, 15)), dates(delta.getAdded()));
+        assertEquals(List.of(LocalDate.of(2024, 3, 25)), dates(delta.getRemoved()));
+        assertEquals(List.of(LocalDate.of(2024, 12, 25)), dates(delta.getRetyped()));
+        assertEquals("Natividad del Señor", delta.getRetyped().get(0).getName());
+        assertEquals(List.of(LocalDate.of(2024, 3, 25), LocalDate.of(2024, 9, 15), LocalDate.of(2024, 12, 25)),
+                delta.getAffectedDates());
+        assertTrue(change.affects(LocalDate.of(2024, 9, 15)));
+        assertFalse(change.affects(LocalDate.of(2024, 1, 1)));
+        assertTrue(change.affects(LocalDate.of(2026, 9, 15)));
+        assertFalse(change.affects(LocalDate.of(2026, 9, 14)));
+    }
+
+    @Test
+    void shouldReportYearsNeverQueriedAndOutsideTheCachedRange() {
+        holidayValidator.getHolidaysForYear(Year.of(2030));
+        holidayValidator.updateDefinitions(
+                ColombianHolidayFactory.createFixedHolidays(),
+                ColombianHolidayFactory.createEasterBasedHolidays(),
+                ColombianHolidayFactory.createTransferableHolidays());
+
+        CalendarChange<ColombianHoliday> change = updateWithNewDefinitions();
+
+        assertTrue(change.affects(LocalDate.of(2030, 9, 15)));
+        assertTrue(change.affects(LocalDate.of(1200, 12, 25)));
+        assertTrue(change.affects(LocalDate.of(5000, 9, 15)));
+        assertFalse(change.affects(LocalDate.of(5000, 9, 16)));
+        YearDelta<ColombianHoliday> delta = change.getYearDelta(Year.of(5000)).orElseThrow();
+        assertEquals(List.of(LocalDate.of(5000, 9, 15)), dates(delta.getAdded()));
+        assertFalse(change.getAffectedYears().contains(Year.of(5000)));
+    }
+
+    @Test
+    void shouldServeNewDefinitionsAfterUpdate() {
+        assertTrue(holidayValidator.isHoliday(LocalDate.of(2024, 3, 25)));
+        assertFalse(holidayValidator.isHoliday(LocalDate.of(2024, 9, 15)));
+
+        updateWithNewDefinitions();
+
+        assertFalse(holidayValidator.isHoliday(LocalDate.of(2024, 3, 25)));
+        assertTrue(holidayValidator.isHoliday(LocalDate.of(2024, 9, 15)));
+        assertTrue(holidayValidator.isHoliday(LocalDate.of(2030, 9, 15)));
+    }
+
+    @Test
+    void shouldInvalidateDerivedCachesOnVersionChange() {
+        HolidayJsonEncoder encoder = new HolidayJsonEncoder(holidayValidator);
+        HolidayClock holidayClock = new HolidayClock(holidayValidator,
+                Clock.fixed(LocalDate.of(2024, 9, 15).atStartOfDay(holidayValidator.getZone()).toInstant(),
+                        holidayValidator.getZone()));
+        assertFalse(new String(encoder.getYearBytes(Year.of(2024)), StandardCharsets.UTF_8).contains("2024-09-15"));
+        assertFalse(holidayClock.isHolidayToday());
+
+        updateWithNewDefinitions();
+
+        assertTrue(new String(encoder.getYearBytes(Year.of(2024)), StandardCharsets.UTF_8).contains("2024-09-15"));
+        assertTrue(holidayClock.isHolidayToday());
+    }
+
+    @Test
+    void shouldReportNoYearsWhenDefinitionsAreUnchanged() {
+        holidayValidator.getHolidaysForYear(Year.of(2024));
+
+        CalendarChange<ColombianHoliday> change = holidayValidator.updateDefinitions(
+                ColombianHolidayFactory.createFixedHolidays(),
+                ColombianHolidayFactory.createEasterBasedHolidays(),
+                ColombianHolidayFactory.createTransferableHolidays());
+
+        assertTrue(change.isEmpty());
+        assertEquals(ColombianHolidayValidator.INITIAL_VERSION + 1, holidayValidator.getCalendarVersion());
+    }
+
+    @Test
+    void shouldNotifyAllListenersWhenOneFails() {
+        List<Long> versions = new ArrayList<>();
+        IllegalStateException failure = new IllegalStateException("listener failure");
+        holidayValidator.addChangeListener(change -> {
+            throw failure;
+        });
+        holidayValidator.addChangeListener(change -> versions.add(change.getVersion()));
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, this::updateWithNewDefinitions);
+
+        assertSame(failure, thrown);
+        assertEquals(List.of(ColombianHolidayValidator.INITIAL_VERSION + 1), versions);
+        assertTrue(holidayValidator.isHoliday(LocalDate.of(2024, 9, 15)));
+    }
+
+    @Test
+    void shouldRejectDefinitionsOutsideTheirYear() {
+        List<ColombianHoliday> fixed = ColombianHolidayFactory.createFixedHolidays();
+        List<ColombianHoliday> easterBased = ColombianHolidayFactory.createEasterBasedHolidays();
+        List<ColombianHoliday> transferable = ColombianHolidayFactory.createTransferableHolidays();
+
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(fixed,
+                with(easterBased, easterBasedHoliday(-100)), transferable));
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(fixed,
+                with(easterBased, easterBasedHoliday(300)), transferable));
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(
+                with(fixed, datedHoliday(Month.FEBRUARY, 29, ColombianHolidayType.FIXED_CIVIL)),
+                easterBased, transferable));
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(fixed, easterBased,
+                with(transferable, datedHoliday(Month.DECEMBER, 28, ColombianHolidayType.TRANSFERABLE_CIVIL))));
+
+        assertEquals(ColombianHolidayValidator.INITIAL_VERSION, holidayValidator.getCalendarVersion());
+        assertFalse(holidayValidator.isHoliday(LocalDate.of(2024, 6, 1)));
+        assertTrue(holidayValidator.isHoliday(LocalDate.of(2024, 12, 25)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        List<ColombianHoliday> fixed = ColombianHolidayFactory.createFixedHolidays();
+        List<ColombianHoliday> withNull = new ArrayList<>(fixed);
+        withNull.add(null);
+
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.addChangeListener(null));
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(null, fixed, fixed));
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.updateDefinitions(withNull, fixed, fixed));
+        assertThrows(IllegalArgumentException.class, () -> YearDelta.between(null, fixed, fixed));
+        assertEquals(ColombianHolidayValidator.INITIAL_VERSION, holidayValidator.getCalendarVersion());
+    }
+
+    /**
+     * Adds a fixed holiday on September 15, renames Navidad and drops Día de San José.
+     */
+    private CalendarChange<ColombianHoliday> updateWithNewDefinitions() {
+        List<ColombianHoliday> fixed = new ArrayList<>();
+        for (ColombianHoliday holiday : ColombianHolidayFactory.createFixedHolidays()) {
+            if (holiday.getName().equals("Navidad")) {
+                fixed.add(new ColombianHoliday.Builder().from(holiday).name("Natividad del Señor").build());
+            } else {
+                fixed.add(holiday);
+            }
+        }
+        fixed.add(new ColombianHoliday.Builder()
+                .name("Día de la Prueba")
+                .date(Month.SEPTEMBER, 15)
+                .type(ColombianHolidayType.FIXED_CIVIL)
+                .build());
+        List<ColombianHoliday> transferable = new ArrayList<>(ColombianHolidayFactory.createTransferableHolidays());
+        transferable.removeIf(holiday -> holiday.getName().equals("Día de San José"));
+
+        return holidayValidator.updateDefinitions(fixed, ColombianHolidayFactory.createEasterBasedHolidays(),
+                transferable);
+    }
+
+    private static List<ColombianHoliday> with(List<ColombianHoliday> holidays, ColombianHoliday holiday) {
+        List<ColombianHoliday> extended = new ArrayList<>(holidays);
+        extended.add(holiday);
+        return extended;
+    }
+
+    private static ColombianHoliday easterBasedHoliday(int easterOffset) {
+        return new ColombianHoliday.Builder()
+                .name("Día de la Prueba")
+                .type(ColombianHolidayType.EASTER_BASED_RELIGIOUS)
+                .easterOffset(easterOffset)
+                .build();
+    }
+
+    private static ColombianHoliday datedHoliday(Month month, int day, ColombianHolidayType type) {
+        return new ColombianHoliday.Builder()
+                .name("Día de la Prueba")
+                .date(month, day)
+                .type(type)
+                .build();
+    }
+
+    private static List<LocalDate> dates(List<ColombianHoliday> holidays) {
+        return holidays.stream().map(ColombianHoliday::getDate).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.azapata27;
+
+import io.github.azapata27.export.CalendarDimensionGenerator;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarDimensionGeneratorTest {
+
+    private final HolidayValidator<ColombianHoliday> holidayValidator = new ColombianHolidayValidator();
+
+    @Test
+    void shouldWriteRowsMatchingValidator() throws IOException {
+        String[] lines = generate(Year.of(1999), Year.of(2026), CalendarDimensionGenerator.Format.CSV);
+
+        assertEquals("date,is_holiday,holiday_name,holiday_type,is_business_day,business_day_of_month,"
+                + "is_long_weekend,days_to_next_holiday", lines[0]);
+        assertEquals(LocalDate.of(2027, 1, 1).toEpochDay() - LocalDate.of(1999, 1, 1).toEpochDay() + 1, lines.length);
+
+        LocalDate date = LocalDate.of(1999, 1, 1);
+        for (int i = 1; i < lines.length; i++, date = date.plusDays(1)) {
+            String[] columns = lines[i].split(",", -1);
+            assertEquals(date.toString(), columns[0]);
+            assertEquals(holidayValidator.isHoliday(date), Boolean.parseBoolean(columns[1]), "Holiday " + date);
+            assertEquals(holidayValidator.isBusinessDay(date), Boolean.parseBoolean(columns[4]), "Business day " + date);
+            assertEquals(holidayValidator.isLongWeekend(date), Boolean.parseBoolean(columns[6]), "Long weekend " + date);
+
+            LocalDate nextHoliday = date.plusDays(1);
+            while (!holidayValidator.isHoliday(nextHoliday)) {
+                nextHoliday = nextHoliday.plusDays(1);
+            }
+            assertEquals(nextHoliday.toEpochDay() - date.toEpochDay(), Long.parseLong(columns[7]), "Next holiday " + date);
+        }
+    }
+
+    @Test
+    void shouldWriteJsonLinesWithAccentedNames() throws IOException {
+        String[] lines = generate(Year.of(2024), Year.of(2024), CalendarDimensionGenerator.Format.JSON_LINES);
+
+        assertEquals(366, lines.length);
+        assertEquals("{\"date\":\"2024-03-25\",\"is_holiday\":true,\"holiday_name\":\"Día de San José\","
+                + "\"holiday_type\":\"TRANSFERABLE_RELIGIOUS\",\"is_business_day\":false,\"business_day_of_month\":0,"
+                + "\"is_long_weekend\":false,\"days_to_next_holiday\":3}", lines[84]);
+        assertEquals("{\"date\":\"2024-03-26\",\"is_holiday\":false,\"holiday_name\":null,\"holiday_type\":null,"
+                + "\"is_business_day\":true,\"business_day_of_month\":17,\"is_long_weekend\":false,"
+                + "\"days_to_next_holiday\":2}", lines[85]);
+    }
+
+    @Test
+    void shouldKeepYearOrderWithSmallWindow() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CalendarDimensionGenerator generator = new CalendarDimensionGenerator(holidayValidator, executor, 3);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            generator.write(Year.of(1900), Year.of(2100), Channels.newChannel(out), CalendarDimensionGenerator.Format.CSV);
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+            LocalDate date = LocalDate.of(1900, 1, 1);
+            for (int i = 1; i < lines.length; i++, date = date.plusDays(1)) {
+                assertTrue(lines[i].startsWith(date + ","), "Row " + i);
+            }
+            assertEquals(LocalDate.of(2101, 1, 1), date);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private String[] generate(Year from, Year to, CalendarDimensionGenerator.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = new CalendarDimensionGenerator(holidayValidator).write(from, to, Channels.newChannel(out), format);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(rows, format == CalendarDimensionGenerator.Format.CSV ? lines.length - 1 : lines.length);
+        return lines;
+    }
+}
@@ -9,9 +9,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Optional;
@@ -335,6 +337,48 @@ class ColombianHolidayValidatorTest {
         assertTrue(holidayValidator.isLongWeekend(weekendDate), "The next Monday is a holiday, so it should be a long weekend.");
     }
 
+    @Test
+    void shouldResolveInstantsInBogotaLocalDay() {
+        // 2024-12-25T04:59:59Z is still December 24th in Bogotá (UTC-5)
+        assertFalse(holidayValidator.isHolidayAt(Instant.parse("2024-12-25T04:59:59Z")));
+        assertTrue(holidayValidator.isHolidayAt(Instant.parse("2024-12-25T05:00:00Z")));
+        assertTrue(holidayValidator.isHolidayAt(Instant.parse("2024-12-26T04:59:59Z")));
+        assertFalse(holidayValidator.isHolidayAt(Instant.parse("2024-12-26T05:00:00Z")));
+    }
+
+    @Test
+    void shouldResolveEpochMillisInBogotaLocalDay() {
+        long christmasStart = Instant.parse("2024-12-25T05:00:00Z").toEpochMilli();
+
+        assertFalse(holidayValidator.isHolidayEpochMillis(christmasStart - 1));
+        assertTrue(holidayValidator.isHolidayEpochMillis(christmasStart));
+        assertTrue(holidayValidator.isHolidayEpochMillis(Instant.parse("1950-01-01T12:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void shouldResolveInstantsInConfiguredZone() {
+        HolidayValidator<ColombianHoliday> utcValidator = new ColombianHolidayValidator(ZoneOffset.UTC);
+
+        assertEquals(ZoneOffset.UTC, utcValidator.getZone());
+        assertTrue(utcValidator.isHolidayAt(Instant.parse("2024-12-25T00:00:00Z")));
+        assertFalse(utcValidator.isHolidayEpochMillis(Instant.parse("2024-12-26T00:00:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void shouldMatchHolidayListForEveryEpochDay() {
+        for (int year = 1583; year <= 2200; year++) {
+            List<LocalDate> holidays = holidayValidator.getHolidayDatesForYear(Year.of(year));
+            for (LocalDate date = LocalDate.of(year, 1, 1); date.getYear() == year; date = date.plusDays(1)) {
+                assertEquals(holidays.contains(date), holidayValidator.isHolidayEpochDay(date.toEpochDay()),
+                        "Mismatch on " + date);
+            }
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIsHolidayCalledWithNullInstant() {
+        assertThrows(IllegalArgumentException.class, () -> holidayValidator.isHolidayAt(null), "The instant must not be null");
+    }
 
     // Helper method to find a holiday by date
     private ColombianHoliday findHolidayByDate(List<ColombianHoliday> holidays, LocalDate date) {
@@ -0,0 +1,130 @@
+package io.github.azapata27;
+
+import io.github.azapata27.delivery.DeliveryEtaEngine;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.WorkWeek;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryEtaEngineTest {
+
+    private static final WorkWeek SUNDAY_SERVICE = WorkWeek.of(DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+            DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final DeliveryEtaEngine engine;
+
+    DeliveryEtaEngineTest() {
+        Map<String, WorkWeek> carriers = new LinkedHashMap<>();
+        carriers.put("standard", WorkWeek.MONDAY_TO_FRIDAY);
+        carriers.put("national", WorkWeek.MONDAY_TO_SATURDAY);
+        carriers.put("express", WorkWeek.EVERY_DAY);
+        carriers.put("city", SUNDAY_SERVICE);
+        engine = DeliveryEtaEngine.of(holidayValidator, Year.of(2024), Year.of(2025), carriers);
+    }
+
+    @Test
+    void shouldQuoteAcrossChristmasPerWorkWeek() {
+        LocalDate shipDate = LocalDate.of(2024, 12, 23);
+
+        assertEquals(LocalDate.of(2024, 12, 31), engine.quote("standard", shipDate, 5));
+        assertEquals(LocalDate.of(2024, 12, 30), engine.quote("national", shipDate, 5));
+        assertEquals(LocalDate.of(2024, 12, 29), engine.quote("express", shipDate, 5));
+        assertEquals(LocalDate.of(2024, 12, 28), engine.quote("city", shipDate, 4));
+        assertEquals(LocalDate.of(2025, 1, 3), engine.quote("standard", LocalDate.of(2024, 12, 31), 2));
+        // Shipped on a Sunday with no transit, a weekday carrier delivers on Monday
+        assertEquals(LocalDate.of(2024, 12, 30), engine.quote("standard", LocalDate.of(2024, 12, 29), 0));
+        assertEquals(SUNDAY_SERVICE, engine.getWorkWeek("city"));
+    }
+
+    @Test
+    void shouldMatchDayByDayReferenceInBatch() {
+        Random random = new Random(5);
+        int rows = 50_000;
+        int[] carrierIndexes = new int[rows];
+        long[] shipEpochDays = new long[rows];
+        int[] transitDays = new int[rows];
+        long[] etaEpochDays = new long[rows];
+        long first = LocalDate.of(2024, 1, 1).toEpochDay();
+        for (int row = 0; row < rows; row++) {
+            carrierIndexes[row] = random.nextInt(engine.getCarriers().size());
+            shipEpochDays[row] = first + random.nextInt(731);
+            transitDays[row] = random.nextInt(15);
+        }
+
+        engine.quote(carrierIndexes, shipEpochDays, transitDays, etaEpochDays);
+
+        for (int row = 0; row < rows; row++) {
+            WorkWeek workWeek = engine.getWorkWeek(engine.getCarriers().get(carrierIndexes[row]));
+            LocalDate eta = LocalDate.ofEpochDay(shipEpochDays[row]);
+            if (transitDays[row] == 0) {
+                while (!isWorkingDay(workWeek, eta)) {
+                    eta = eta.plusDays(1);
+                }
+            }
+            for (int remaining = transitDays[row]; remaining > 0; ) {
+                eta = eta.plusDays(1);
+                if (isWorkingDay(workWeek, eta)) {
+                    remaining--;
+                }
+            }
+            assertEquals(eta.toEpochDay(), etaEpochDays[row], "Shipment " + row);
+        }
+    }
+
+    @Test
+    void shouldKeepExcludedDaysWhenDerivingWorkWeek() {
+        long closedSaturday = LocalDate.of(2024, 12, 21).toEpochDay();
+        long closedMonday = LocalDate.of(2024, 12, 23).toEpochDay();
+        BusinessDayTable table = BusinessDayTable.of(holidayValidator, Year.of(2024), Year.of(2024),
+                epochDay -> epochDay == closedSaturday || epochDay == closedMonday);
+
+        BusinessDayTable saturdays = table.withWorkWeek(WorkWeek.MONDAY_TO_SATURDAY);
+        BusinessDayTable weekdays = saturdays.withWorkWeek(WorkWeek.MONDAY_TO_FRIDAY);
+
+        assertFalse(saturdays.isBusinessDay(LocalDate.of(2024, 12, 21)));
+        assertFalse(saturdays.isBusinessDay(LocalDate.of(2024, 12, 23)));
+        assertTrue(saturdays.isBusinessDay(LocalDate.of(2024, 12, 28)));
+        assertFalse(saturdays.isHoliday(closedMonday));
+        assertFalse(weekdays.isBusinessDay(LocalDate.of(2024, 12, 23)));
+        assertSame(table, table.withWorkWeek(WorkWeek.MONDAY_TO_FRIDAY));
+        for (long epochDay = table.getFirstEpochDay(); epochDay < table.getEndEpochDay(); epochDay++) {
+            assertEquals(table.isBusinessDay(epochDay), weekdays.isBusinessDay(epochDay));
+        }
+    }
+
+    @Test
+    void shouldBuildWorkWeeksFromDaysAndMasks() {
+        assertEquals(WorkWeek.MONDAY_TO_SATURDAY, WorkWeek.ofMask(0b0111111));
+        assertEquals(0b1111110, SUNDAY_SERVICE.getMask());
+        assertTrue(SUNDAY_SERVICE.isWorkingDay(DayOfWeek.SUNDAY));
+        assertFalse(SUNDAY_SERVICE.isWorkingDay(DayOfWeek.MONDAY));
+        assertEquals("WorkWeek[MONDAY, SATURDAY]", WorkWeek.of(DayOfWeek.SATURDAY, DayOfWeek.MONDAY).toString());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DeliveryEtaEngine.of(holidayValidator, Year.of(2024), Year.of(2025), Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> engine.quote("unknown", LocalDate.of(2024, 5, 2), 1));
+        assertThrows(IllegalArgumentException.class, () -> engine.quote("standard", LocalDate.of(2024, 5, 2), -1));
+        assertThrows(IllegalArgumentException.class, () -> engine.quote("standard", LocalDate.of(2026, 1, 2), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.quote(new int[1], new long[1], new int[2], new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> WorkWeek.ofMask(0));
+        assertThrows(IllegalArgumentException.class, () -> WorkWeek.ofMask(0b10000000));
+        assertThrows(IllegalArgumentException.class, () -> WorkWeek.of());
+    }
+
+    private boolean isWorkingDay(WorkWeek workWeek, LocalDate date) {
+        return workWeek.isWorkingDay(date.getDayOfWeek()) && !holidayValidator.isHoliday(date);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EpochDayCalculator;
+import io.github.azapata27.calculator.EpochDayResolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpochDayCalculatorTest {
+
+    @Test
+    void shouldMatchLocalDateForEveryDay() {
+        LocalDate end = LocalDate.of(4100, 1, 1);
+        for (LocalDate date = LocalDate.of(-400, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            long epochDay = date.toEpochDay();
+            assertEquals(date.getYear(), EpochDayCalculator.yearOf(epochDay), "Year of " + date);
+            assertEquals(date.getDayOfWeek().getValue(), EpochDayCalculator.dayOfWeek(epochDay), "Day of week of " + date);
+            assertEquals(date.withDayOfMonth(1).toEpochDay(), EpochDayCalculator.firstEpochDayOfMonth(epochDay),
+                    "First day of the month of " + date);
+            if (date.getDayOfYear() == 1) {
+                assertEquals(epochDay, EpochDayCalculator.firstEpochDayOfYear(date.getYear()), "First day of " + date.getYear());
+            }
+        }
+    }
+
+    @Test
+    void shouldResolveBogotaDaysAcrossHistoricalOffsets() {
+        ZoneId bogota = ZoneId.of("America/Bogota");
+        EpochDayResolver resolver = new EpochDayResolver(bogota);
+
+        // Covers Bogotá local mean time, the 1992-1993 daylight saving period and the fixed UTC-5 era
+        for (String text : new String[]{"1900-06-01T04:40:00Z", "1992-06-01T04:30:00Z", "1992-06-01T03:59:59Z",
+                "2024-01-01T04:59:59.999Z", "2024-01-01T05:00:00Z"}) {
+            Instant instant = Instant.parse(text);
+            long expected = LocalDate.ofInstant(instant, bogota).toEpochDay();
+            assertEquals(expected, resolver.toEpochDay(instant.toEpochMilli()), "Epoch millis " + text);
+            assertEquals(expected, resolver.toEpochDay(instant), "Instant " + text);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenZoneIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new EpochDayResolver(null), "The zone must not be null");
+    }
+}
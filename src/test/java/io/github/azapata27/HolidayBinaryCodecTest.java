@@ -0,0 +1,126 @@
+package io.github.azapata27;
+
+import io.github.azapata27.codec.HolidayBinaryCodec;
+import io.github.azapata27.codec.HolidayJsonEncoder;
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.enums.HolidayType;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayBinaryCodecTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+
+    @Test
+    void shouldRoundTripYearList() {
+        List<ColombianHoliday> holidays = holidayValidator.getHolidaysForYear(Year.of(2024));
+
+        List<ColombianHoliday> decoded = HolidayBinaryCodec.decode(ByteBuffer.wrap(HolidayBinaryCodec.encode(holidays)));
+
+        assertSameHolidays(holidays, decoded);
+    }
+
+    @Test
+    void shouldBeMuchSmallerThanJson() {
+        List<ColombianHoliday> holidays = new ArrayList<>();
+        for (int year = 2000; year <= 2100; year++) {
+            holidays.addAll(holidayValidator.getHolidaysForYear(Year.of(year)));
+        }
+        int jsonSize = HolidayJsonEncoder.encode(holidays).length;
+
+        int binarySize = HolidayBinaryCodec.encodedSize(holidays);
+
+        assertTrue(binarySize * 10 < jsonSize, () -> binarySize + " bytes against " + jsonSize + " bytes of JSON");
+        List<ColombianHoliday> decoded = HolidayBinaryCodec.decode(ByteBuffer.wrap(HolidayBinaryCodec.encode(holidays)));
+        assertSameHolidays(holidays, decoded);
+        // Año Nuevo of 2000 and 2001 share the dictionary entry
+        assertSame(decoded.get(0).getName(),
+                decoded.get(holidayValidator.getHolidaysForYear(Year.of(2000)).size()).getName());
+    }
+
+    @Test
+    void shouldEncodeIntoBufferAtItsPosition() {
+        List<ColombianHoliday> holidays = holidayValidator.getHolidaysForYear(Year.of(2025));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HolidayBinaryCodec.encodedSize(holidays) + 3);
+        buffer.put((byte) 1).put((byte) 2).put((byte) 3);
+
+        int written = HolidayBinaryCodec.encode(holidays, buffer);
+
+        assertEquals(HolidayBinaryCodec.encodedSize(holidays), written);
+        assertFalse(buffer.hasRemaining());
+        buffer.position(3);
+        assertSameHolidays(holidays, HolidayBinaryCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void shouldRoundTripUnusualHolidays() {
+        ColombianHoliday unusual = new ColombianHoliday.Builder()
+                .name("Fiesta \"ñ\" 🎉")
+                .date(Month.FEBRUARY, 29)
+                .type(ColombianHolidayType.TRANSFERABLE_CIVIL)
+                .type(HolidayType.LUNAR_BASED)
+                .easterOffset(-48)
+                .date(LocalDate.of(-200, 3, 1))
+                .build();
+        ColombianHoliday empty = new ColombianHoliday.Builder().build();
+
+        ColombianHoliday decoded = HolidayBinaryCodec.decodeHoliday(ByteBuffer.wrap(HolidayBinaryCodec.encode(unusual)));
+        List<ColombianHoliday> decodedEmpty =
+                HolidayBinaryCodec.decode(ByteBuffer.wrap(HolidayBinaryCodec.encode(List.of(empty))));
+
+        assertSameHolidays(List.of(unusual), List.of(decoded));
+        assertSameHolidays(List.of(empty), decodedEmpty);
+    }
+
+    @Test
+    void shouldRejectMalformedDocuments() {
+        byte[] document = HolidayBinaryCodec.encode(holidayValidator.getHolidaysForYear(Year.of(2024)));
+        byte[] otherVersion = document.clone();
+        otherVersion[1] = HolidayBinaryCodec.FORMAT_VERSION + 1;
+        ByteBuffer truncated = ByteBuffer.wrap(document, 0, document.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.decode(ByteBuffer.wrap(otherVersion)));
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.decode(truncated));
+        assertEquals(0, truncated.position());
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.decode(ByteBuffer.wrap(new byte[]{'{'})));
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.decodeHoliday(ByteBuffer.wrap(document)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        List<ColombianHoliday> holidays = holidayValidator.getHolidaysForYear(Year.of(2024));
+        ByteBuffer small = ByteBuffer.allocate(8);
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.encode((ColombianHoliday) null));
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.encode(holidays, null));
+        assertThrows(IllegalArgumentException.class, () -> HolidayBinaryCodec.decode(null));
+        assertThrows(BufferOverflowException.class, () -> HolidayBinaryCodec.encode(holidays, small));
+        assertEquals(0, small.position());
+    }
+
+    private static void assertSameHolidays(List<ColombianHoliday> expected, List<ColombianHoliday> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            ColombianHoliday e = expected.get(i);
+            ColombianHoliday a = actual.get(i);
+            assertEquals(e.getDate(), a.getDate());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getMonth(), a.getMonth());
+            assertEquals(e.getDay(), a.getDay());
+            assertEquals(e.getType(), a.getType());
+            assertEquals(e.getColombianType(), a.getColombianType());
+            assertEquals(e.getEasterOffset(), a.getEasterOffset());
+        }
+    }
+}
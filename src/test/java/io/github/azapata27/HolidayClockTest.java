@@ -0,0 +1,84 @@
+package io.github.azapata27;
+
+import io.github.azapata27.clock.HolidayClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayClockTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-12-24T15:00:00Z"));
+    private final HolidayClock holidayClock = new HolidayClock(new ColombianHolidayValidator(), clock);
+
+    @Test
+    void shouldAnswerForCurrentLocalDay() {
+        assertEquals(LocalDate.of(2024, Month.DECEMBER, 24), holidayClock.today());
+        assertFalse(holidayClock.isHolidayToday());
+        assertTrue(holidayClock.isBusinessDayToday());
+        assertEquals(LocalDate.of(2024, Month.DECEMBER, 25), holidayClock.getNextHolidayDate());
+        assertEquals(LocalDate.of(2024, Month.DECEMBER, 26), holidayClock.getNextBusinessDay());
+    }
+
+    @Test
+    void shouldRollOverAtBogotaMidnight() {
+        clock.instant = Instant.parse("2024-12-25T04:59:59.999Z");
+        assertFalse(holidayClock.isHolidayToday(), "Still December 24th in Bogotá");
+
+        clock.instant = Instant.parse("2024-12-25T05:00:00Z");
+        assertTrue(holidayClock.isHolidayToday(), "Christmas has started in Bogotá");
+        assertFalse(holidayClock.isBusinessDayToday());
+        assertEquals(LocalDate.of(2024, Month.DECEMBER, 25), holidayClock.today());
+    }
+
+    @Test
+    void shouldLookIntoNextYearForNextHoliday() {
+        clock.instant = Instant.parse("2024-12-31T12:00:00Z");
+
+        assertEquals(LocalDate.of(2025, Month.JANUARY, 1), holidayClock.getNextHolidayDate());
+        assertEquals(LocalDate.of(2025, Month.JANUARY, 2), holidayClock.getNextBusinessDay());
+    }
+
+    @Test
+    void shouldRefreshWhenClockMovesBackwards() {
+        clock.instant = Instant.parse("2024-12-25T12:00:00Z");
+        assertTrue(holidayClock.isHolidayToday());
+
+        clock.instant = Instant.parse("2024-12-20T12:00:00Z");
+        assertFalse(holidayClock.isHolidayToday());
+        assertEquals(LocalDate.of(2024, Month.DECEMBER, 20), holidayClock.today());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenValidatorIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> new HolidayClock(null), "The validator must not be null");
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ColombianHolidayValidator.DEFAULT_ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
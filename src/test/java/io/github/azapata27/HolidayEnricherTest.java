@@ -0,0 +1,86 @@
+package io.github.azapata27;
+
+import io.github.azapata27.stream.EnrichedEvent;
+import io.github.azapata27.stream.HolidayEnricher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayEnricherTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+
+    @Test
+    void shouldTagEventsByDate() {
+        HolidayEnricher<LocalDate> enricher = HolidayEnricher.ofDate(holidayValidator, Function.identity());
+
+        List<EnrichedEvent<LocalDate>> tagged = enricher.apply(List.of(
+                LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 26), LocalDate.of(2024, 3, 23)));
+
+        assertEquals(LocalDate.of(2024, 12, 25), tagged.get(0).getEvent());
+        assertTrue(tagged.get(0).isHoliday());
+        assertFalse(tagged.get(0).isBusinessDay());
+        assertTrue(tagged.get(1).isBusinessDay());
+        assertFalse(tagged.get(1).isHoliday());
+        // Saturday before the San José Monday holiday
+        assertTrue(tagged.get(2).isLongWeekend());
+        assertFalse(tagged.get(2).isBusinessDay());
+    }
+
+    @Test
+    void shouldResolveEpochMillisInValidatorZone() {
+        HolidayEnricher<Instant> enricher = HolidayEnricher.ofEpochMillis(holidayValidator, Instant::toEpochMilli);
+
+        // 2024-12-26T03:00Z is still December 25 in Bogotá
+        assertEquals(EnrichedEvent.HOLIDAY, enricher.classify(Instant.parse("2024-12-26T03:00:00Z")));
+        assertEquals(EnrichedEvent.BUSINESS_DAY, enricher.classify(Instant.parse("2024-12-26T06:00:00Z")));
+    }
+
+    @Test
+    void shouldMatchValidatorForEveryDay() {
+        HolidayEnricher<LocalDate> enricher = HolidayEnricher.ofDate(holidayValidator, Function.identity());
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = LocalDate.of(2020, 1, 1); date.getYear() < 2030; date = date.plusDays(1)) {
+            // Repeat days to exercise the last-day reuse
+            dates.add(date);
+            dates.add(date);
+        }
+        int[] flags = new int[dates.size()];
+
+        enricher.classify(dates, flags);
+
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            int expected = (holidayValidator.isHoliday(date) ? EnrichedEvent.HOLIDAY : 0)
+                    | (holidayValidator.isBusinessDay(date) ? EnrichedEvent.BUSINESS_DAY : 0)
+                    | (holidayValidator.isLongWeekend(date) ? EnrichedEvent.LONG_WEEKEND : 0);
+            assertEquals(expected, flags[i], date::toString);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        HolidayEnricher<LocalDate> enricher = HolidayEnricher.ofDate(holidayValidator, Function.identity());
+
+        assertThrows(IllegalArgumentException.class, () -> HolidayEnricher.ofDate(null, Function.<LocalDate>identity()));
+        assertThrows(IllegalArgumentException.class, () -> HolidayEnricher.ofDate(holidayValidator, null));
+        assertThrows(IllegalArgumentException.class, () -> HolidayEnricher.ofEpochMillis(holidayValidator, null));
+        assertThrows(IllegalArgumentException.class, () -> enricher.apply(null));
+        assertThrows(IllegalArgumentException.class, () -> enricher.classify(List.of(LocalDate.of(2024, 1, 1)), new int[0]));
+    }
+
+    @Test
+    void shouldUseZoneOfValidator() {
+        ColombianHolidayValidator utcValidator = new ColombianHolidayValidator(ZoneId.of("UTC"));
+        HolidayEnricher<Instant> enricher = HolidayEnricher.ofEpochMillis(utcValidator, Instant::toEpochMilli);
+
+        assertEquals(EnrichedEvent.BUSINESS_DAY, enricher.classify(Instant.parse("2024-12-26T03:00:00Z")));
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.azapata27;
+
+import io.github.azapata27.stream.EnrichedEvent;
+import io.github.azapata27.stream.HolidayEnricher;
+import io.github.azapata27.stream.HolidayEnrichmentProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayEnrichmentProcessorTest {
+
+    private static final int BATCH_SIZE = 16;
+    private static final int BUFFER_CAPACITY = 32;
+    private static final Duration NO_LATENCY_FLUSH = Duration.ofMinutes(1);
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final HolidayEnricher<LocalDate> enricher = HolidayEnricher.ofDate(holidayValidator, Function.identity());
+
+    @Test
+    void shouldTagAllEventsInOrderWithBoundedLag() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HolidayEnrichmentProcessor<LocalDate> processor = new HolidayEnrichmentProcessor<>(
+                    enricher, BATCH_SIZE, executor, BUFFER_CAPACITY, NO_LATENCY_FLUSH);
+            CollectingSubscriber subscriber = new CollectingSubscriber(processor, BATCH_SIZE);
+            processor.subscribe(subscriber);
+
+            LocalDate start = LocalDate.of(2024, 1, 1);
+            int events = 1_000;
+            try (SubmissionPublisher<LocalDate> source = new SubmissionPublisher<>(executor, BUFFER_CAPACITY)) {
+                source.subscribe(processor);
+                for (int i = 0; i < events; i++) {
+                    source.submit(start.plusDays(i / 3));
+                }
+            }
+
+            subscriber.done.get(30, TimeUnit.SECONDS);
+
+            assertTagged(start, events, subscriber);
+            assertEquals(events, processor.getReceivedCount());
+            assertEquals(events, processor.getPublishedCount());
+            assertEquals((events + BATCH_SIZE - 1) / BATCH_SIZE, processor.getBatchCount());
+            assertTrue(subscriber.maxInFlight.get() <= BATCH_SIZE,
+                    () -> "In flight: " + subscriber.maxInFlight.get());
+            assertTrue(processor.getEventsPerSecond() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldTagAllEventsWhenUpstreamIsSubscribedFirst() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HolidayEnrichmentProcessor<LocalDate> processor =
+                    new HolidayEnrichmentProcessor<>(enricher, BATCH_SIZE, executor, BUFFER_CAPACITY);
+            CollectingSubscriber subscriber = new CollectingSubscriber(processor, 1);
+
+            LocalDate start = LocalDate.of(2024, 1, 1);
+            int events = 1_000;
+            try (SubmissionPublisher<LocalDate> source = new SubmissionPublisher<>(executor, BUFFER_CAPACITY)) {
+                source.subscribe(processor);
+                for (int i = 0; i < BUFFER_CAPACITY; i++) {
+                    source.submit(start.plusDays(i / 3));
+                }
+                processor.subscribe(subscriber);
+                for (int i = BUFFER_CAPACITY; i < events; i++) {
+                    source.submit(start.plusDays(i / 3));
+                }
+            }
+
+            subscriber.done.get(30, TimeUnit.SECONDS);
+
+            assertTagged(start, events, subscriber);
+            assertEquals(events, processor.getPublishedCount());
+            assertTrue(subscriber.maxInFlight.get() <= 1, () -> "In flight: " + subscriber.maxInFlight.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRequestUpstreamOnlyForDownstreamDemand() {
+        HolidayEnrichmentProcessor<LocalDate> processor =
+                new HolidayEnrichmentProcessor<>(enricher, BATCH_SIZE, Runnable::run, BUFFER_CAPACITY);
+        NoOpSubscription upstream = new NoOpSubscription();
+
+        processor.onSubscribe(upstream);
+        assertEquals(0, upstream.requested.get());
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(processor, 4);
+        processor.subscribe(subscriber);
+        assertEquals(4, upstream.requested.get());
+        assertTrue(processor.isSubscribed(subscriber));
+        assertEquals(List.of(subscriber), processor.getSubscribers());
+
+        for (int i = 0; i < 4; i++) {
+            processor.onNext(LocalDate.of(2024, 12, 22 + i));
+        }
+        assertEquals(4, subscriber.received.size());
+        assertEquals(8, upstream.requested.get());
+        assertEquals(1, processor.getBatchCount());
+    }
+
+    @Test
+    void shouldPublishPartialBatchAfterMaxLatency() throws Exception {
+        HolidayEnrichmentProcessor<LocalDate> processor = new HolidayEnrichmentProcessor<>(
+                enricher, BATCH_SIZE, Runnable::run, BUFFER_CAPACITY, Duration.ofMillis(200));
+        CollectingSubscriber subscriber = new CollectingSubscriber(processor, BATCH_SIZE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new NoOpSubscription());
+
+        processor.onNext(LocalDate.of(2024, 12, 24));
+        processor.onNext(LocalDate.of(2024, 12, 25));
+        assertEquals(0, subscriber.received.size());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (subscriber.received.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, subscriber.received.size());
+        assertTrue(subscriber.received.get(1).isHoliday());
+        assertEquals(1, processor.getBatchCount());
+    }
+
+    @Test
+    void shouldForwardUpstreamError() throws Exception {
+        HolidayEnrichmentProcessor<LocalDate> processor = new HolidayEnrichmentProcessor<>(enricher);
+        CollectingSubscriber subscriber = new CollectingSubscriber(processor, 0);
+        processor.subscribe(subscriber);
+
+        processor.onSubscribe(new NoOpSubscription());
+        processor.onNext(LocalDate.of(2024, 12, 25));
+        processor.onError(new IllegalStateException("upstream failed"));
+
+        Throwable error = assertThrows(Exception.class, () -> subscriber.done.get(30, TimeUnit.SECONDS)).getCause();
+        assertEquals("upstream failed", error.getMessage());
+        assertEquals(0, processor.getPublishedCount());
+    }
+
+    @Test
+    void shouldFailWhenKeyExtractionFails() throws Exception {
+        HolidayEnrichmentProcessor<LocalDate> processor = new HolidayEnrichmentProcessor<>(
+                HolidayEnricher.ofDate(holidayValidator, date -> null), 1, Runnable::run, 4);
+        CollectingSubscriber subscriber = new CollectingSubscriber(processor, 1);
+        processor.subscribe(subscriber);
+        NoOpSubscription subscription = new NoOpSubscription();
+
+        processor.onSubscribe(subscription);
+        processor.onNext(LocalDate.of(2024, 12, 25));
+
+        assertThrows(Exception.class, () -> subscriber.done.get(30, TimeUnit.SECONDS));
+        assertTrue(subscription.cancelled);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new HolidayEnrichmentProcessor<LocalDate>(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HolidayEnrichmentProcessor<>(enricher, 0, Runnable::run, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HolidayEnrichmentProcessor<>(enricher, 16, null, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new HolidayEnrichmentProcessor<>(enricher, 16, Runnable::run, 4, Duration.ofMillis(-1)));
+    }
+
+    private void assertTagged(LocalDate start, int events, CollectingSubscriber subscriber) {
+        assertEquals(events, subscriber.received.size());
+        for (int i = 0; i < events; i++) {
+            EnrichedEvent<LocalDate> event = subscriber.received.get(i);
+            assertEquals(start.plusDays(i / 3), event.getEvent());
+            assertEquals(holidayValidator.isHoliday(event.getEvent()), event.isHoliday());
+            assertEquals(holidayValidator.isBusinessDay(event.getEvent()), event.isBusinessDay());
+        }
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<EnrichedEvent<LocalDate>> {
+        private final HolidayEnrichmentProcessor<LocalDate> processor;
+        private final int requestSize;
+        private final List<EnrichedEvent<LocalDate>> received = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final AtomicLong maxInFlight = new AtomicLong();
+        private Flow.Subscription subscription;
+
+        private CollectingSubscriber(HolidayEnrichmentProcessor<LocalDate> processor, int requestSize) {
+            this.processor = processor;
+            this.requestSize = requestSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (requestSize > 0) {
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onNext(EnrichedEvent<LocalDate> item) {
+            received.add(item);
+            maxInFlight.accumulateAndGet(processor.getReceivedCount() - received.size(), Math::max);
+            if (requestSize > 0 && received.size() % requestSize == 0) {
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    private static final class NoOpSubscription implements Flow.Subscription {
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.jfr.EasterComputationEvent;
+import io.github.azapata27.jfr.HolidayBatchEvent;
+import io.github.azapata27.jfr.HolidayEvents;
+import io.github.azapata27.jfr.HolidayQueryEvent;
+import io.github.azapata27.jfr.HolidayYearEvent;
+import io.github.azapata27.table.BusinessDayTable;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayEventsTest {
+
+    @Test
+    void shouldRecordYearMaterializationAndBatchEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(HolidayYearEvent.NAME);
+            recording.enable(HolidayBatchEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            assertTrue(HolidayEvents.isRecording());
+
+            ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+            holidayValidator.isHoliday(LocalDate.of(2024, 12, 25));
+            BusinessDayTable.of(holidayValidator, Year.of(2024), Year.of(2024));
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        RecordedEvent year = events.stream()
+                .filter(event -> event.getEventType().getName().equals(HolidayYearEvent.NAME))
+                .filter(event -> event.getInt("year") == 2024)
+                .findFirst().orElseThrow();
+        assertEquals(18, year.getInt("holidayCount"));
+        assertTrue(year.getBoolean("cached"));
+
+        RecordedEvent batch = events.stream()
+                .filter(event -> event.getEventType().getName().equals(HolidayBatchEvent.NAME))
+                .findFirst().orElseThrow();
+        assertEquals("BusinessDayTable.of", batch.getString("operation"));
+        assertEquals(366, batch.getLong("itemCount"));
+        assertFalse(HolidayEvents.isRecording());
+    }
+
+    @Test
+    void shouldRespectPerEventEnablementAndThresholds() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            // Easter is disabled by default; queries keep their 1 ms threshold
+            recording.enable(HolidayQueryEvent.NAME);
+            recording.start();
+
+            EasterCalculator.calculateEasterSunday(2024);
+            ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+            holidayValidator.getHolidaysForYear(Year.of(2024));
+            for (int i = 0; i < 1_000; i++) {
+                holidayValidator.getHolidaysForYear(Year.of(2024));
+            }
+
+            recording.stop();
+            events = dump(recording);
+        }
+
+        List<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+        assertFalse(names.contains(EasterComputationEvent.NAME));
+        assertTrue(names.stream().filter(HolidayQueryEvent.NAME::equals).count() <= 1, names::toString);
+
+        try (Recording recording = new Recording()) {
+            recording.enable(EasterComputationEvent.NAME);
+            recording.start();
+            EasterCalculator.calculateEasterSunday(2024);
+            recording.stop();
+            events = dump(recording);
+        }
+
+        RecordedEvent easter = events.stream()
+                .filter(event -> event.getEventType().getName().equals(EasterComputationEvent.NAME))
+                .findFirst().orElseThrow();
+        assertEquals(2024, easter.getInt("year"));
+        assertEquals("2024-03-31", easter.getString("easterSunday"));
+    }
+
+    private static List<RecordedEvent> dump(Recording recording) throws Exception {
+        Path file = Files.createTempFile("holiday-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.feature.HolidayFeatureGenerator;
+import io.github.azapata27.feature.HolidayFeatures;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayFeatureGeneratorTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final HolidayFeatureGenerator generator =
+            HolidayFeatureGenerator.of(holidayValidator, Year.of(2020), Year.of(2026));
+
+    @Test
+    void shouldMatchPerDayDefinitionOnSortedRows() {
+        long[] epochDays = daysOf(LocalDate.of(2020, 1, 1), LocalDate.of(2027, 1, 1));
+        HolidayFeatures features = HolidayFeatures.allocate(epochDays.length);
+
+        generator.generate(epochDays, features);
+
+        assertMatchesReference(epochDays, features);
+    }
+
+    @Test
+    void shouldMatchPerDayDefinitionOnShuffledRowsInParallel() {
+        long[] epochDays = daysOf(LocalDate.of(2020, 1, 1), LocalDate.of(2027, 1, 1));
+        Random random = new Random(42);
+        for (int i = epochDays.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = epochDays[i];
+            epochDays[i] = epochDays[j];
+            epochDays[j] = swap;
+        }
+        HolidayFeatures features = HolidayFeatures.allocate(epochDays.length);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            generator.generateParallel(epochDays, features, executor, 100);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertMatchesReference(epochDays, features);
+    }
+
+    @Test
+    void shouldComputeKnownFeatures() {
+        // 2024-11-01 is the Friday before the holiday Monday of Todos los Santos
+        long[] epochDays = {
+                LocalDate.of(2024, 3, 27).toEpochDay(),
+                LocalDate.of(2024, 11, 1).toEpochDay(),
+                LocalDate.of(2024, 11, 4).toEpochDay(),
+                LocalDate.of(2025, 5, 2).toEpochDay()
+        };
+        HolidayFeatures features = HolidayFeatures.allocate(epochDays.length);
+
+        generator.generateParallel(epochDays, features);
+
+        assertTrue(features.getHolyWeek()[0]);
+        assertEquals(1, features.getDaysToNextHoliday()[0]);
+        assertEquals(3, features.getDaysToNextHoliday()[1]);
+        assertFalse(features.getBridgeDay()[1]);
+        assertEquals((byte) ColombianHolidayType.TRANSFERABLE_RELIGIOUS.ordinal(), features.getHolidayType()[2]);
+        assertEquals(0, features.getBusinessDayOfMonth()[2]);
+        // Labour Day 2025 is a Thursday, so Friday May 2 is a bridge day
+        assertTrue(features.getBridgeDay()[3]);
+        assertEquals(1, features.getDaysSincePreviousHoliday()[3]);
+        assertEquals(1, features.getBusinessDayOfMonth()[3]);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        HolidayFeatures features = HolidayFeatures.allocate(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> HolidayFeatureGenerator.of(null, Year.of(2020), Year.of(2021)));
+        assertThrows(IllegalArgumentException.class, () -> HolidayFeatures.allocate(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(new long[2], features));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(new long[]{LocalDate.of(2027, 1, 1).toEpochDay()}, features));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generateParallel(new long[]{LocalDate.of(2019, 12, 31).toEpochDay()}, features));
+    }
+
+    private void assertMatchesReference(long[] epochDays, HolidayFeatures features) {
+        for (int row = 0; row < epochDays.length; row++) {
+            LocalDate date = LocalDate.ofEpochDay(epochDays[row]);
+            String message = date.toString();
+
+            LocalDate next = date.plusDays(1);
+            while (!holidayValidator.isHoliday(next)) {
+                next = next.plusDays(1);
+            }
+            LocalDate previous = date.minusDays(1);
+            while (!holidayValidator.isHoliday(previous)) {
+                previous = previous.minusDays(1);
+            }
+            List<ColombianHoliday> holidays = holidayValidator.getHolidaysForYear(Year.of(date.getYear())).stream()
+                    .filter(holiday -> holiday.getDate().equals(date)).toList();
+            boolean bridge = holidayValidator.isBusinessDay(date)
+                    && !holidayValidator.isBusinessDay(date.minusDays(1))
+                    && !holidayValidator.isBusinessDay(date.plusDays(1))
+                    && (holidayValidator.isHoliday(date.minusDays(1)) || holidayValidator.isHoliday(date.plusDays(1)));
+            int businessDayOfMonth = 0;
+            if (holidayValidator.isBusinessDay(date)) {
+                for (LocalDate day = date.withDayOfMonth(1); !day.isAfter(date); day = day.plusDays(1)) {
+                    businessDayOfMonth += holidayValidator.isBusinessDay(day) ? 1 : 0;
+                }
+            }
+            LocalDate easter = EasterCalculator.calculateEasterSunday(date.getYear());
+
+            assertEquals(next.toEpochDay() - date.toEpochDay(), features.getDaysToNextHoliday()[row], message);
+            assertEquals(date.toEpochDay() - previous.toEpochDay(), features.getDaysSincePreviousHoliday()[row], message);
+            assertEquals(holidays.isEmpty() ? HolidayFeatures.NO_HOLIDAY_TYPE
+                    : (byte) holidays.get(0).getColombianType().ordinal(), features.getHolidayType()[row], message);
+            assertEquals(bridge, features.getBridgeDay()[row], message);
+            assertEquals(businessDayOfMonth, features.getBusinessDayOfMonth()[row], message);
+            assertEquals(!date.isBefore(easter.minusDays(7)) && !date.isAfter(easter), features.getHolyWeek()[row],
+                    message);
+        }
+    }
+
+    private static long[] daysOf(LocalDate fromInclusive, LocalDate toExclusive) {
+        long[] epochDays = new long[(int) (toExclusive.toEpochDay() - fromInclusive.toEpochDay())];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = fromInclusive.toEpochDay() + i;
+        }
+        return epochDays;
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.azapata27;
+
+import io.github.azapata27.codec.HolidayJsonEncoder;
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.model.ColombianHoliday;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HolidayJsonEncoderTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final HolidayJsonEncoder encoder = new HolidayJsonEncoder(holidayValidator);
+
+    @Test
+    void shouldEncodeAccentedNamesAsUtf8() {
+        ColombianHoliday holiday = holidayValidator.getNextHoliday(LocalDate.of(2024, 3, 20)).orElseThrow();
+
+        byte[] json = HolidayJsonEncoder.encode(holiday);
+
+        assertEquals("{\"date\":\"2024-03-25\",\"name\":\"Día de San José\",\"type\":\"TRANSFERABLE\","
+                + "\"colombianType\":\"TRANSFERABLE_RELIGIOUS\"}", new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldEscapeSpecialCharacters() {
+        ColombianHoliday holiday = new ColombianHoliday.Builder()
+                .name("Quote \" slash \\ tab \t emoji 🎉 lone \uD800")
+                .date(LocalDate.of(2024, 1, 1))
+                .type(ColombianHolidayType.FIXED_CIVIL)
+                .build();
+
+        String json = new String(HolidayJsonEncoder.encode(List.of(holiday)), StandardCharsets.UTF_8);
+
+        assertEquals("[{\"date\":\"2024-01-01\",\"name\":\"Quote \\\" slash \\\\ tab \\u0009 emoji 🎉 lone ?\","
+                + "\"type\":\"FIXED\",\"colombianType\":\"FIXED_CIVIL\"}]", json);
+    }
+
+    @Test
+    void shouldEncodeYearDocument() {
+        String json = new String(encoder.getYearBytes(Year.of(2024)), StandardCharsets.UTF_8);
+
+        assertTrue(json.startsWith("{\"year\":2024,\"holidays\":[{\"date\":\"2024-01-01\",\"name\":\"Año Nuevo\""));
+        assertTrue(json.endsWith("]}"));
+        assertEquals(holidayValidator.getHolidaysForYear(Year.of(2024)).size(), json.split("\"name\"").length - 1);
+        assertEquals(new String(HolidayJsonEncoder.encode(holidayValidator.getHolidaysForYear(Year.of(2024))),
+                StandardCharsets.UTF_8), json.substring("{\"year\":2024,\"holidays\":".length(), json.length() - 1));
+    }
+
+    @Test
+    void shouldServeCachedYearAsIndependentReadOnlyBuffers() {
+        ByteBuffer first = encoder.getYear(Year.of(2024));
+        ByteBuffer second = encoder.getYear(Year.of(2024));
+
+        first.position(first.limit());
+
+        assertTrue(second.isReadOnly());
+        assertEquals(0, second.position());
+        assertArrayEquals(encoder.getYearBytes(Year.of(2024)), toArray(second));
+    }
+
+    @Test
+    void shouldKeepETagWithSharedYearDocument() throws Exception {
+        HolidayJsonEncoder.EncodedYear first = encoder.getEncodedYear(Year.of(2024));
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        assertSame(first, encoder.getEncodedYear(Year.of(2024)));
+        assertEquals(first.getLength(), first.writeTo(stream));
+        assertArrayEquals(encoder.getYearBytes(Year.of(2024)), stream.toByteArray());
+        assertTrue(first.getETag().startsWith("\"") && first.getETag().endsWith("\""));
+        assertNotEquals(first.getETag(), encoder.getEncodedYear(Year.of(2025)).getETag());
+        assertEquals(encoder.getEncodedYear(Year.of(5000)).getETag(), encoder.getEncodedYear(Year.of(5000)).getETag());
+    }
+
+    @Test
+    void shouldWriteYearToStreamAndChannel() throws Exception {
+        byte[] expected = encoder.getYearBytes(Year.of(1900));
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+
+        assertEquals(expected.length, encoder.writeYear(Year.of(1900), stream));
+        assertEquals(expected.length, encoder.writeYear(Year.of(1900), Channels.newChannel(channelTarget)));
+
+        assertArrayEquals(expected, stream.toByteArray());
+        assertArrayEquals(expected, channelTarget.toByteArray());
+    }
+
+    @Test
+    void shouldEncodeYearsOutsideTheCache() {
+        String json = new String(encoder.getYearBytes(Year.of(5000)), StandardCharsets.UTF_8);
+
+        assertTrue(json.startsWith("{\"year\":5000,\"holidays\":[{\"date\":\"5000-01-01\""));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreNull() {
+        assertThrows(IllegalArgumentException.class, () -> new HolidayJsonEncoder(null));
+        assertThrows(IllegalArgumentException.class, () -> HolidayJsonEncoder.encode((ColombianHoliday) null));
+        assertThrows(IllegalArgumentException.class, () -> HolidayJsonEncoder.encode((List<ColombianHoliday>) null));
+        assertThrows(IllegalArgumentException.class, () -> encoder.getYear(null));
+        assertThrows(IllegalArgumentException.class, () -> encoder.writeYear(Year.of(2024), (ByteArrayOutputStream) null));
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
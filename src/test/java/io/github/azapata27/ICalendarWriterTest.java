@@ -0,0 +1,66 @@
+package io.github.azapata27;
+
+import io.github.azapata27.export.ICalendarWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICalendarWriterTest {
+
+    private final ICalendarWriter writer = new ICalendarWriter(new ColombianHolidayValidator(),
+            Clock.fixed(Instant.parse("2024-11-13T22:02:43Z"), ZoneOffset.UTC));
+
+    @Test
+    void shouldWriteOneEventPerHoliday() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long events = writer.write(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), out);
+        String calendar = out.toString(StandardCharsets.UTF_8);
+
+        assertEquals(18, events);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertEquals(18, calendar.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(calendar.contains("DTSTART;VALUE=DATE:20241014\r\nDTEND;VALUE=DATE:20241015\r\n"
+                + "SUMMARY:Día de la Diversidad Étnica y Cultural\r\n"));
+        assertTrue(calendar.contains("DTSTAMP:20241113T220243Z\r\n"));
+    }
+
+    @Test
+    void shouldKeepContentLinesWithinSeventyFiveOctets() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31), out);
+        byte[] bytes = out.toByteArray();
+
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                assertTrue(i - lineStart <= 75, "Line longer than 75 octets at offset " + lineStart);
+                lineStart = i + 2;
+            }
+        }
+        String unfolded = new String(bytes, StandardCharsets.UTF_8).replace("\r\n ", "");
+        assertEquals(201 * 18, unfolded.split("\r\nEND:VEVENT\r\n", -1).length - 1);
+    }
+
+    @Test
+    void shouldRespectRangeBoundaries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long events = writer.write(LocalDate.of(2024, 12, 8), LocalDate.of(2025, 1, 1), out);
+
+        assertEquals(3, events, "Inmaculada Concepción, Navidad and Año Nuevo");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRangeIsInverted() {
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.write(LocalDate.of(2025, 1, 1), LocalDate.of(2024, 1, 1), new ByteArrayOutputStream()));
+    }
+}
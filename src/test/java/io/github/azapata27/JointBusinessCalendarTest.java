@@ -0,0 +1,105 @@
+package io.github.azapata27;
+
+import io.github.azapata27.enums.ColombianHolidayType;
+import io.github.azapata27.enums.RollConvention;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.JointBusinessCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JointBusinessCalendarTest {
+
+    private final ColombianHolidayValidator colombia = new ColombianHolidayValidator();
+    private final ColombianHolidayValidator newYork = new ColombianHolidayValidator();
+    private final JointBusinessCalendar joint;
+
+    JointBusinessCalendarTest() {
+        newYork.updateDefinitions(List.of(fixed("Independence Day", Month.JULY, 4),
+                fixed("Christmas Day", Month.DECEMBER, 25)), List.of(), List.of());
+        Map<String, HolidayValidator<?>> calendars = new LinkedHashMap<>();
+        calendars.put("CO", colombia);
+        calendars.put("US", newYork);
+        joint = JointBusinessCalendar.of(calendars, Year.of(2024), Year.of(2026));
+    }
+
+    @Test
+    void shouldOpenOnlyDaysOpenInEveryCalendar() {
+        BusinessDayTable table = joint.getTable("CO", "US");
+
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() < 2027; date = date.plusDays(1)) {
+            assertEquals(colombia.isBusinessDay(date) && newYork.isBusinessDay(date), table.isBusinessDay(date),
+                    date.toString());
+            assertEquals(colombia.isHoliday(date) || newYork.isHoliday(date), table.isHoliday(date.toEpochDay()),
+                    date.toString());
+        }
+        assertEquals(List.of("CO", "US"), List.copyOf(joint.getCalendarCodes()));
+    }
+
+    @Test
+    void shouldSettleOnJointBusinessDays() {
+        // Trade on Wednesday 2024-07-03: Thursday is Independence Day in New York only
+        LocalDate tradeDate = LocalDate.of(2024, 7, 3);
+
+        assertEquals(LocalDate.of(2024, 7, 5), joint.getTable("CO").addBusinessDays(tradeDate, 2));
+        assertEquals(LocalDate.of(2024, 7, 8), joint.getTable("CO", "US").addBusinessDays(tradeDate, 2));
+        assertEquals(2, joint.getTable("US", "CO").businessDaysBetween(tradeDate, LocalDate.of(2024, 7, 8)));
+        assertSame(joint.getTable("CO", "US"), joint.getTable("US", "CO"));
+    }
+
+    @Test
+    void shouldRollFollowingConventions() {
+        BusinessDayTable table = joint.getTable("CO");
+        // Sunday 2024-06-30 is followed by San Pedro y San Pablo on Monday, July 1
+        LocalDate sunday = LocalDate.of(2024, 6, 30);
+
+        assertEquals(LocalDate.of(2024, 7, 2), table.roll(sunday, RollConvention.FOLLOWING));
+        assertEquals(LocalDate.of(2024, 6, 28), table.roll(sunday, RollConvention.MODIFIED_FOLLOWING));
+        assertEquals(LocalDate.of(2024, 6, 28), table.roll(sunday, RollConvention.PRECEDING));
+        assertEquals(LocalDate.of(2024, 6, 28), table.roll(sunday, RollConvention.MODIFIED_PRECEDING));
+        assertEquals(LocalDate.of(2024, 12, 2), table.roll(LocalDate.of(2024, 12, 1), RollConvention.MODIFIED_PRECEDING));
+        assertEquals(LocalDate.of(2024, 7, 3), table.roll(LocalDate.of(2024, 7, 3), RollConvention.PRECEDING));
+    }
+
+    @Test
+    void shouldRebuildCombinationsWhenCalendarChanges() {
+        BusinessDayTable before = joint.getTable("CO", "US");
+        LocalDate thanksgiving = LocalDate.of(2024, 11, 28);
+        assertTrue(before.isBusinessDay(thanksgiving));
+
+        newYork.updateDefinitions(List.of(fixed("Thanksgiving Day", Month.NOVEMBER, 28)), List.of(), List.of());
+        BusinessDayTable after = joint.getTable("CO", "US");
+
+        assertNotSame(before, after);
+        assertFalse(after.isBusinessDay(thanksgiving));
+        assertTrue(after.isBusinessDay(LocalDate.of(2024, 7, 4)));
+        assertSame(after, joint.getTable("US", "CO"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> JointBusinessCalendar.of(Map.of(), Year.of(2024), Year.of(2025)));
+        assertThrows(IllegalArgumentException.class,
+                () -> JointBusinessCalendar.of(Map.of("CO", colombia), Year.of(2025), Year.of(2024)));
+        assertThrows(IllegalArgumentException.class, () -> joint.getTable());
+        assertThrows(IllegalArgumentException.class, () -> joint.getTable("CO", "GB"));
+        assertThrows(IllegalArgumentException.class,
+                () -> joint.getTable("CO").roll(LocalDate.of(2024, 6, 30), null));
+    }
+
+    private static ColombianHoliday fixed(String name, Month month, int day) {
+        return new ColombianHoliday.Builder()
+                .name(name)
+                .date(month, day)
+                .type(ColombianHolidayType.FIXED_CIVIL)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.judicial.JudicialCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JudicialCalendarTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final JudicialCalendar calendar = JudicialCalendar.of(holidayValidator, Year.of(2000), Year.of(2030));
+
+    @Test
+    void shouldMatchDayByDayDefinition() {
+        int judicialDays = 0;
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (LocalDate date = start; date.getYear() <= 2030; date = date.plusDays(1)) {
+            LocalDate easter = EasterCalculator.calculateEasterSunday(date.getYear());
+            boolean holyWeek = !date.isBefore(easter.minusDays(7)) && !date.isAfter(easter);
+            boolean collectiveVacancy = (date.getMonthValue() == 12 && date.getDayOfMonth() >= 20)
+                    || (date.getMonthValue() == 1 && date.getDayOfMonth() <= 10);
+            boolean expected = date.getDayOfWeek().getValue() <= DayOfWeek.FRIDAY.getValue()
+                    && !holidayValidator.isHoliday(date) && !holyWeek && !collectiveVacancy;
+
+            assertEquals(holyWeek || collectiveVacancy, calendar.isVacancy(date), date::toString);
+            assertEquals(expected, calendar.isJudicialDay(date), date::toString);
+            assertEquals(judicialDays, calendar.judicialDaysBetween(start, date), date::toString);
+            judicialDays += expected ? 1 : 0;
+        }
+    }
+
+    @Test
+    void shouldSkipCollectiveVacancy() {
+        assertEquals(LocalDate.of(2024, 12, 19), calendar.addJudicialDays(LocalDate.of(2024, 12, 18), 1));
+        assertEquals(LocalDate.of(2025, 1, 13), calendar.addJudicialDays(LocalDate.of(2024, 12, 19), 1));
+        assertEquals(LocalDate.of(2024, 12, 19), calendar.addJudicialDays(LocalDate.of(2025, 1, 13), -1));
+        assertEquals(0, calendar.judicialDaysBetween(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 11)));
+    }
+
+    @Test
+    void shouldSkipHolyWeek() {
+        // Easter 2024 is March 31: Holy Week runs from March 24 to March 31
+        assertTrue(calendar.isVacancy(LocalDate.of(2024, 3, 25)));
+        assertFalse(calendar.isJudicialDay(LocalDate.of(2024, 3, 26)));
+        assertEquals(LocalDate.of(2024, 4, 1), calendar.nextJudicialDay(LocalDate.of(2024, 3, 22)));
+    }
+
+    @Test
+    void shouldComputeTenDayTerm() {
+        // Notified Friday 2024-06-28: July 1 (San Pedro y San Pablo) is a holiday
+        LocalDate deadline = calendar.addJudicialDays(LocalDate.of(2024, 6, 28), 10);
+
+        assertEquals(LocalDate.of(2024, 7, 15), deadline);
+        assertEquals(10, calendar.judicialDaysBetween(LocalDate.of(2024, 6, 29), deadline.plusDays(1)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> JudicialCalendar.of(null, Year.of(2000), Year.of(2001)));
+        assertThrows(IllegalArgumentException.class, () -> JudicialCalendar.of(Year.of(2001), Year.of(2000)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isVacancy(null));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isVacancy(LocalDate.of(2031, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.addJudicialDays(LocalDate.of(2030, 12, 19), 1));
+    }
+}
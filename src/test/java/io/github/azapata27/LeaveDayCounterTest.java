@@ -0,0 +1,109 @@
+package io.github.azapata27;
+
+import io.github.azapata27.payroll.LeaveDayCounter;
+import io.github.azapata27.payroll.LeaveDays;
+import io.github.azapata27.payroll.LeaveDaysBatch;
+import io.github.azapata27.table.WorkWeek;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaveDayCounterTest {
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final LeaveDayCounter counter = LeaveDayCounter.of(holidayValidator, Year.of(2020), Year.of(2025));
+
+    @Test
+    void shouldNotConsumeVacationOnHolidays() {
+        // Christmas, New Year and Reyes Magos (moved to Monday, January 6) fall inside the leave
+        LeaveDays days = counter.count(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 10));
+
+        assertEquals(13, days.getBusinessDays());
+        assertEquals(3, days.getHolidays());
+        assertEquals(6, days.getWeekendDays());
+        assertEquals(22, days.getTotal());
+
+        LeaveDays oneDay = counter.count(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 25));
+        assertEquals(1, oneDay.getHolidays());
+        assertEquals(1, oneDay.getTotal());
+    }
+
+    @Test
+    void shouldCountHolidaysOnWorkingSaturdays() {
+        LeaveDayCounter saturdays = LeaveDayCounter.of(holidayValidator, Year.of(2020), Year.of(2025),
+                WorkWeek.MONDAY_TO_SATURDAY);
+        // 2021-12-25 and 2022-01-01 are Saturday holidays; 2022-01-10 is Reyes Magos moved to Monday
+        LeaveDays days = saturdays.count(LocalDate.of(2021, 12, 20), LocalDate.of(2022, 1, 15));
+
+        assertEquals(21, days.getBusinessDays());
+        assertEquals(3, days.getHolidays());
+        assertEquals(3, days.getWeekendDays());
+        assertEquals(27, days.getTotal());
+        assertThrows(IllegalArgumentException.class,
+                () -> LeaveDayCounter.of(holidayValidator, Year.of(2020), Year.of(2025), null));
+    }
+
+    @Test
+    void shouldMatchDayByDayReferenceInParallel() {
+        Random random = new Random(3);
+        int rows = 50_000;
+        long[] firstDays = new long[rows];
+        long[] lastDays = new long[rows];
+        long start = LocalDate.of(2020, 1, 1).toEpochDay();
+        for (int row = 0; row < rows; row++) {
+            firstDays[row] = start + random.nextInt(2000);
+            lastDays[row] = firstDays[row] + random.nextInt(90);
+        }
+        LeaveDaysBatch days = LeaveDaysBatch.allocate(rows);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            counter.countParallel(firstDays, lastDays, days, executor, 1000);
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int row = 0; row < rows; row++) {
+            int business = 0;
+            int holidays = 0;
+            int weekend = 0;
+            for (long epochDay = firstDays[row]; epochDay <= lastDays[row]; epochDay++) {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    weekend++;
+                } else if (holidayValidator.isHoliday(date)) {
+                    holidays++;
+                } else {
+                    business++;
+                }
+            }
+            String message = "Leave " + row;
+            assertEquals(business, days.getBusinessDays()[row], message);
+            assertEquals(holidays, days.getHolidays()[row], message);
+            assertEquals(weekend, days.getWeekendDays()[row], message);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        long day = LocalDate.of(2024, 3, 1).toEpochDay();
+
+        assertThrows(IllegalArgumentException.class, () -> LeaveDayCounter.of(null, Year.of(2020), Year.of(2021)));
+        assertThrows(IllegalArgumentException.class,
+                () -> counter.count(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> counter.count(LocalDate.of(2025, 12, 20), LocalDate.of(2026, 1, 10)));
+        assertThrows(IllegalArgumentException.class,
+                () -> counter.count(new long[]{day}, new long[]{day}, LeaveDaysBatch.allocate(2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> counter.countParallel(new long[]{day}, new long[]{day}, LeaveDaysBatch.allocate(1),
+                        Runnable::run, 0));
+        assertThrows(IllegalArgumentException.class, () -> LeaveDaysBatch.allocate(-1));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.azapata27;
+
+import io.github.azapata27.enums.Fortnight;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.table.BusinessDayTable;
+import io.github.azapata27.table.MonthlyBusinessDayTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyBusinessDayTableTest {
+
+    private final HolidayValidator<ColombianHoliday> holidayValidator = new ColombianHolidayValidator();
+    private final MonthlyBusinessDayTable table = MonthlyBusinessDayTable.of(holidayValidator, Year.of(2000), Year.of(2030));
+
+    @Test
+    void shouldMatchDayByDayCountsForEveryMonth() {
+        for (YearMonth month = YearMonth.of(2000, 1); month.getYear() <= 2030; month = month.plusMonths(1)) {
+            List<LocalDate> businessDays = new ArrayList<>();
+            int holidays = 0;
+            int firstFortnight = 0;
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                LocalDate date = month.atDay(day);
+                if (holidayValidator.isHoliday(date)) {
+                    holidays++;
+                }
+                if (holidayValidator.isBusinessDay(date)) {
+                    businessDays.add(date);
+                    firstFortnight += day <= 15 ? 1 : 0;
+                    assertEquals(businessDays.size(), table.getBusinessDayOfMonth(date), "Position of " + date);
+                } else {
+                    assertEquals(0, table.getBusinessDayOfMonth(date), "Position of " + date);
+                }
+            }
+
+            assertEquals(businessDays.size(), table.getBusinessDayCount(month), "Business days of " + month);
+            assertEquals(holidays, table.getHolidayCount(month), "Holidays of " + month);
+            assertEquals(firstFortnight, table.getBusinessDayCount(month, Fortnight.FIRST), "First fortnight of " + month);
+            assertEquals(businessDays.size() - firstFortnight, table.getBusinessDayCount(month, Fortnight.SECOND),
+                    "Second fortnight of " + month);
+            assertEquals(Optional.of(businessDays.get(2)), table.getNthBusinessDay(month, 3), "Third business day of " + month);
+            assertEquals(Optional.of(businessDays.get(businessDays.size() - 1)), table.getLastBusinessDay(month),
+                    "Last business day of " + month);
+            assertFalse(table.getNthBusinessDay(month, businessDays.size() + 1).isPresent());
+        }
+    }
+
+    @Test
+    void shouldCountMarch2024BusinessDays() {
+        // March 2024: 21 weekdays minus San José (25th), Jueves Santo (28th) and Viernes Santo (29th)
+        YearMonth march = YearMonth.of(2024, Month.MARCH);
+
+        assertEquals(18, table.getBusinessDayCount(march));
+        assertEquals(3, table.getHolidayCount(march));
+        assertEquals(Optional.of(LocalDate.of(2024, Month.MARCH, 5)), table.getNthBusinessDay(march, 3));
+        assertEquals(Optional.of(LocalDate.of(2024, Month.MARCH, 27)), table.getLastBusinessDay(march));
+    }
+
+    @Test
+    void shouldAddBusinessDaysLikeDayByDayIteration() {
+        BusinessDayTable businessDays = table.getBusinessDayTable();
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() == 2024; date = date.plusDays(1)) {
+            LocalDate expected = date;
+            for (int amount = 1; amount <= 10; amount++) {
+                expected = expected.plusDays(1);
+                while (!holidayValidator.isBusinessDay(expected)) {
+                    expected = expected.plusDays(1);
+                }
+                assertEquals(expected, businessDays.addBusinessDays(date, amount), date + " + " + amount);
+            }
+
+            LocalDate previous = date.minusDays(1);
+            while (!holidayValidator.isBusinessDay(previous)) {
+                previous = previous.minusDays(1);
+            }
+            assertEquals(previous, businessDays.addBusinessDays(date, -1), date + " - 1");
+        }
+    }
+
+    @Test
+    void shouldRejectMonthsOutsideTheRange() {
+        assertThrows(IllegalArgumentException.class, () -> table.getBusinessDayCount(YearMonth.of(1999, 12)));
+        assertThrows(IllegalArgumentException.class, () -> table.getLastBusinessDay(YearMonth.of(2031, 1)));
+        assertThrows(IllegalArgumentException.class, () -> table.getNthBusinessDay(YearMonth.of(2024, 1), 0));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.azapata27;
+
+import io.github.azapata27.payroll.PayrollSurchargeEngine;
+import io.github.azapata27.payroll.ShiftMinutes;
+import io.github.azapata27.payroll.ShiftMinutesBatch;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayrollSurchargeEngineTest {
+
+    private static final ZoneId BOGOTA = ZoneId.of("America/Bogota");
+
+    private final ColombianHolidayValidator holidayValidator = new ColombianHolidayValidator();
+    private final PayrollSurchargeEngine engine =
+            PayrollSurchargeEngine.of(holidayValidator, Year.of(2024), Year.of(2025));
+
+    @Test
+    void shouldSplitOvernightShiftIntoHoliday() {
+        // Christmas Eve is a working Tuesday and Christmas a holiday Wednesday
+        ShiftMinutes minutes = engine.split(instant(2024, 12, 24, 18, 0), instant(2024, 12, 25, 8, 0));
+
+        assertEquals(180, minutes.getOrdinary());
+        assertEquals(180, minutes.getNight());
+        assertEquals(360, minutes.getNightHoliday());
+        assertEquals(120, minutes.getHoliday());
+        assertEquals(840, minutes.getTotal());
+    }
+
+    @Test
+    void shouldSurchargeSundaysAndHonourCustomNightWindow() {
+        PayrollSurchargeEngine reformed = PayrollSurchargeEngine.of(holidayValidator, Year.of(2024), Year.of(2025),
+                LocalTime.of(19, 0), LocalTime.of(6, 0));
+        // 2025-03-09 is a Sunday and the next day a working Monday
+        ShiftMinutes minutes = reformed.split(instant(2025, 3, 9, 14, 0), instant(2025, 3, 10, 7, 30));
+
+        assertEquals(300, minutes.getHoliday());
+        assertEquals(300, minutes.getNightHoliday());
+        assertEquals(360, minutes.getNight());
+        assertEquals(90, minutes.getOrdinary());
+        assertTrue(reformed.isSurchargeDay(LocalDateTime.of(2025, 3, 9, 0, 0).toLocalDate()));
+    }
+
+    @Test
+    void shouldStartNightEarlierFromLaw2466() {
+        // 2025-12-23 and 2026-01-13 are working Tuesdays, before and after the reform
+        PayrollSurchargeEngine engine = PayrollSurchargeEngine.of(holidayValidator, Year.of(2025), Year.of(2026));
+        ShiftMinutes before = engine.split(instant(2025, 12, 23, 14, 0), instant(2025, 12, 23, 22, 0));
+        ShiftMinutes after = engine.split(instant(2026, 1, 13, 14, 0), instant(2026, 1, 13, 22, 0));
+
+        assertEquals(420, before.getOrdinary());
+        assertEquals(60, before.getNight());
+        assertEquals(300, after.getOrdinary());
+        assertEquals(180, after.getNight());
+    }
+
+    @Test
+    void shouldMatchMinuteByMinuteReferenceInBatch() {
+        Random random = new Random(7);
+        int rows = 2_000;
+        long first = instant(2024, 1, 1, 0, 0).toEpochMilli();
+        long[] start = new long[rows];
+        long[] end = new long[rows];
+        for (int row = 0; row < rows; row++) {
+            start[row] = first + random.nextInt(728 * 1440) * 60_000L + random.nextInt(60_000);
+            end[row] = start[row] + random.nextInt(36 * 60) * 60_000L;
+        }
+        ShiftMinutesBatch batch = ShiftMinutesBatch.allocate(rows);
+
+        engine.split(start, end, batch);
+
+        for (int row = 0; row < rows; row++) {
+            int[] expected = new int[4];
+            long from = Math.floorDiv(start[row], 60_000L) * 60_000L;
+            long to = Math.floorDiv(end[row], 60_000L) * 60_000L;
+            for (long minute = from; minute < to; minute += 60_000L) {
+                LocalDateTime local = LocalDateTime.ofInstant(Instant.ofEpochMilli(minute), BOGOTA);
+                int nightStart = local.toLocalDate().isBefore(PayrollSurchargeEngine.NIGHT_REFORM_DATE) ? 21 : 19;
+                boolean night = local.getHour() >= nightStart || local.getHour() < 6;
+                boolean holiday = local.getDayOfWeek() == DayOfWeek.SUNDAY
+                        || holidayValidator.isHoliday(local.toLocalDate());
+                expected[(holiday ? 2 : 0) + (night ? 1 : 0)]++;
+            }
+            String message = Instant.ofEpochMilli(start[row]) + " - " + Instant.ofEpochMilli(end[row]);
+            assertEquals(expected[0], batch.getOrdinary()[row], message);
+            assertEquals(expected[1], batch.getNight()[row], message);
+            assertEquals(expected[2], batch.getHoliday()[row], message);
+            assertEquals(expected[3], batch.getNightHoliday()[row], message);
+
+            ShiftMinutes single = engine.split(start[row], end[row]);
+            assertEquals(expected[3], single.getNightHoliday(), message);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArgumentsAreInvalid() {
+        Instant start = instant(2024, 6, 1, 8, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PayrollSurchargeEngine.of(null, Year.of(2024), Year.of(2025)));
+        assertThrows(IllegalArgumentException.class,
+                () -> PayrollSurchargeEngine.of(holidayValidator, Year.of(2025), Year.of(2024)));
+        assertThrows(IllegalArgumentException.class, () -> PayrollSurchargeEngine.of(holidayValidator,
+                Year.of(2024), Year.of(2025), LocalTime.of(21, 0), LocalTime.of(21, 0)));
+        assertThrows(IllegalArgumentException.class, () -> engine.split(start, start.minusSeconds(60)));
+        assertThrows(IllegalArgumentException.class, () -> engine.split(null, start));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.split(instant(2025, 12, 31, 22, 0), instant(2026, 1, 1, 2, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.split(new long[2], new long[2], ShiftMinutesBatch.allocate(1)));
+    }
+
+    private static Instant instant(int year, int month, int day, int hour, int minute) {
+        return LocalDateTime.of(year, month, day, hour, minute).atZone(BOGOTA).toInstant();
+    }
+}
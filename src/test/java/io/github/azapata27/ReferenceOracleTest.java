@@ -0,0 +1,297 @@
+package io.github.azapata27;
+
+import io.github.azapata27.calculator.EasterCalculator;
+import io.github.azapata27.factory.ColombianHolidayFactory;
+import io.github.azapata27.model.ColombianHoliday;
+import io.github.azapata27.table.BusinessDayTable;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests of the calendar implementations against a reference oracle.
+ * <p>
+ * The oracle is the plain algorithm of Law 51 of 1983, written independently of the main code: Easter Sunday by
+ * Oudin's algorithm, the holiday dates listed literally and moved to Monday one day at a time, and business days
+ * found by stepping through dates. Every implementation in {@link #validators()} is compared with it on every day
+ * from {@value #FIRST_YEAR} to {@value #LAST_YEAR}, the years are swept in parallel, and randomized queries check
+ * next/previous lookups and business-day arithmetic. New or optimized implementations are registered there.
+ */
+class ReferenceOracleTest {
+
+    private static final int FIRST_YEAR = 1583;
+    private static final int LAST_YEAR = 4099;
+    private static final int RANDOM_QUERIES = 200_000;
+    private static final int REPORTED_MISMATCHES = 20;
+
+    private static Stream<Arguments> validators() {
+        ColombianHolidayValidator redefined = new ColombianHolidayValidator();
+        redefined.updateDefinitions(ColombianHolidayFactory.createFixedHolidays(),
+                ColombianHolidayFactory.createEasterBasedHolidays(),
+                ColombianHolidayFactory.createTransferableHolidays());
+        return Stream.of(
+                Arguments.of(Named.of("ColombianHolidayValidator", new ColombianHolidayValidator())),
+                Arguments.of(Named.of("ColombianHolidayValidator in UTC", new ColombianHolidayValidator(ZoneOffset.UTC))),
+                Arguments.of(Named.of("ColombianHolidayValidator after updateDefinitions", redefined))
+        );
+    }
+
+    @Test
+    void shouldMatchReferenceEaster() {
+        Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+        IntStream.rangeClosed(FIRST_YEAR, LAST_YEAR).parallel().forEach(year -> {
+            LocalDate expected = ReferenceCalendar.easterSunday(year);
+            LocalDate actual = EasterCalculator.calculateEasterSunday(year);
+            if (!expected.equals(actual)) {
+                mismatches.add(year + ": expected " + expected + " but was " + actual);
+            }
+        });
+
+        assertNoMismatches(mismatches);
+    }
+
+    @ParameterizedTest
+    @MethodSource("validators")
+    void shouldMatchReferenceOnEveryDay(HolidayValidator<ColombianHoliday> validator) {
+        Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+        IntStream.rangeClosed(FIRST_YEAR, LAST_YEAR).parallel().forEach(year -> {
+            List<LocalDate> expectedDates = ReferenceCalendar.holidays(year);
+            check(mismatches, year + " getHolidayDatesForYear", expectedDates,
+                    validator.getHolidayDatesForYear(Year.of(year)));
+            check(mismatches, year + " getHolidaysForYear", expectedDates,
+                    validator.getHolidaysForYear(Year.of(year)).stream()
+                            .map(ColombianHoliday::getDate).collect(Collectors.toList()));
+
+            LocalDate end = LocalDate.of(year + 1, 1, 1);
+            for (LocalDate date = LocalDate.of(year, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+                boolean holiday = ReferenceCalendar.isHoliday(date);
+                check(mismatches, date + " isHoliday", holiday, validator.isHoliday(date));
+                check(mismatches, date + " isHolidayEpochDay", holiday, validator.isHolidayEpochDay(date.toEpochDay()));
+                check(mismatches, date + " isBusinessDay", ReferenceCalendar.isBusinessDay(date),
+                        validator.isBusinessDay(date));
+                check(mismatches, date + " isLongWeekend", ReferenceCalendar.isLongWeekend(date),
+                        validator.isLongWeekend(date));
+            }
+        });
+
+        assertNoMismatches(mismatches);
+    }
+
+    @ParameterizedTest
+    @MethodSource("validators")
+    void shouldMatchReferenceInBusinessDayTable(HolidayValidator<ColombianHoliday> validator) {
+        BusinessDayTable table = BusinessDayTable.of(validator, Year.of(FIRST_YEAR), Year.of(LAST_YEAR));
+        Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+        IntStream.rangeClosed(FIRST_YEAR, LAST_YEAR).parallel().forEach(year -> {
+            LocalDate start = LocalDate.of(year, 1, 1);
+            LocalDate end = LocalDate.of(year + 1, 1, 1);
+            int businessDays = 0;
+            for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                long epochDay = date.toEpochDay();
+                boolean business = ReferenceCalendar.isBusinessDay(date);
+                businessDays += business ? 1 : 0;
+                check(mismatches, date + " table isHoliday", ReferenceCalendar.isHoliday(date),
+                        table.isHoliday(epochDay));
+                check(mismatches, date + " table isBusinessDay", business, table.isBusinessDay(epochDay));
+            }
+            check(mismatches, year + " businessDaysBetween", businessDays, table.businessDaysBetween(start, end));
+        });
+
+        assertNoMismatches(mismatches);
+    }
+
+    @ParameterizedTest
+    @MethodSource("validators")
+    void shouldMatchReferenceOnRandomQueries(HolidayValidator<ColombianHoliday> validator) {
+        BusinessDayTable table = BusinessDayTable.of(validator, Year.of(FIRST_YEAR), Year.of(LAST_YEAR));
+        long firstEpochDay = LocalDate.of(FIRST_YEAR, 4, 1).toEpochDay();
+        int span = (int) (LocalDate.of(LAST_YEAR, 10, 1).toEpochDay() - firstEpochDay);
+        Queue<String> mismatches = new ConcurrentLinkedQueue<>();
+
+        IntStream.range(0, RANDOM_QUERIES).parallel().forEach(query -> {
+            Random random = new Random(query);
+            LocalDate date = LocalDate.ofEpochDay(firstEpochDay + random.nextInt(span));
+            Optional<LocalDate> next = ReferenceCalendar.nextHoliday(date);
+            Optional<LocalDate> previous = ReferenceCalendar.previousHoliday(date);
+            check(mismatches, date + " getNextHolidayDate", next, validator.getNextHolidayDate(date));
+            check(mismatches, date + " getNextHoliday", next, validator.getNextHoliday(date).map(ColombianHoliday::getDate));
+            check(mismatches, date + " getPreviousHolidayDate", previous, validator.getPreviousHolidayDate(date));
+            check(mismatches, date + " getPreviousHoliday", previous,
+                    validator.getPreviousHoliday(date).map(ColombianHoliday::getDate));
+
+            int amount = random.nextInt(81) - 40;
+            check(mismatches, date + " addBusinessDays " + amount, ReferenceCalendar.addBusinessDays(date, amount),
+                    table.addBusinessDays(date, amount));
+            LocalDate other = date.plusDays(random.nextInt(121) - 60);
+            check(mismatches, date + " businessDaysBetween " + other, ReferenceCalendar.businessDaysBetween(date, other),
+                    table.businessDaysBetween(date, other));
+        });
+
+        assertNoMismatches(mismatches);
+    }
+
+    private static void check(Queue<String> mismatches, String query, Object expected, Object actual) {
+        if (!expected.equals(actual)) {
+            mismatches.add(query + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static void assertNoMismatches(Queue<String> mismatches) {
+        assertTrue(mismatches.isEmpty(), () -> mismatches.size() + " mismatches, first ones:\n"
+                + mismatches.stream().sorted().limit(REPORTED_MISMATCHES).collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Straightforward Colombian calendar used as ground truth. Nothing is shared with the main code, so it stays
+     * obviously correct rather than fast; the holidays of the swept years are only listed once so the sweep
+     * does not spend its time rebuilding them.
+     */
+    private static final class ReferenceCalendar {
+
+        private static final int[][] FIXED = {{1, 1}, {5, 1}, {7, 20}, {8, 7}, {12, 8}, {12, 25}};
+        private static final int[][] MOVED_TO_MONDAY = {{1, 6}, {3, 19}, {6, 29}, {8, 15}, {10, 12}, {11, 1}, {11, 11}};
+        private static final int[] EASTER_OFFSETS = {-3, -2};
+        private static final int[] EASTER_OFFSETS_MOVED_TO_MONDAY = {39, 60, 68};
+
+        /**
+         * Easter Sunday by Oudin's algorithm (1940), a different derivation from the Meeus/Jones/Butcher one.
+         */
+        static LocalDate easterSunday(int year) {
+            int century = year / 100;
+            int golden = year % 19;
+            int k = (century - 17) / 25;
+            int i = (century - century / 4 - (century - k) / 3 + 19 * golden + 15) % 30;
+            i = i - (i / 28) * (1 - (i / 28) * (29 / (i + 1)) * ((21 - golden) / 11));
+            int j = (year + year / 4 + i + 2 - century + century / 4) % 7;
+            int l = i - j;
+            int month = 3 + (l + 40) / 44;
+            int day = l + 28 - 31 * (month / 4);
+            return LocalDate.of(year, month, day);
+        }
+
+        private static final List<List<LocalDate>> HOLIDAYS = IntStream.rangeClosed(FIRST_YEAR, LAST_YEAR + 1)
+                .mapToObj(ReferenceCalendar::listHolidays)
+                .collect(Collectors.toList());
+
+        static List<LocalDate> holidays(int year) {
+            return HOLIDAYS.get(year - FIRST_YEAR);
+        }
+
+        private static List<LocalDate> listHolidays(int year) {
+            List<LocalDate> holidays = new ArrayList<>();
+            for (int[] monthDay : FIXED) {
+                holidays.add(LocalDate.of(year, monthDay[0], monthDay[1]));
+            }
+            for (int[] monthDay : MOVED_TO_MONDAY) {
+                holidays.add(toMonday(LocalDate.of(year, monthDay[0], monthDay[1])));
+            }
+            LocalDate easter = easterSunday(year);
+            for (int offset : EASTER_OFFSETS) {
+                holidays.add(easter.plusDays(offset));
+            }
+            for (int offset : EASTER_OFFSETS_MOVED_TO_MONDAY) {
+                holidays.add(toMonday(easter.plusDays(offset)));
+            }
+            Collections.sort(holidays);
+            return Collections.unmodifiableList(holidays);
+        }
+
+        static boolean isHoliday(LocalDate date) {
+            return holidays(date.getYear()).contains(date);
+        }
+
+        static boolean isBusinessDay(LocalDate date) {
+            return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !isHoliday(date);
+        }
+
+        static boolean isLongWeekend(LocalDate date) {
+            LocalDate monday = date.plusDays(1);
+            while (monday.getDayOfWeek() != DayOfWeek.MONDAY) {
+                monday = monday.plusDays(1);
+            }
+            return isHoliday(monday);
+        }
+
+        /** Next holiday of the same year, as documented by {@link HolidayValidator#getNextHolidayDate}. */
+        static Optional<LocalDate> nextHoliday(LocalDate date) {
+            for (LocalDate holiday : holidays(date.getYear())) {
+                if (holiday.isAfter(date)) {
+                    return Optional.of(holiday);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /** Previous holiday of the same year, as documented by {@link HolidayValidator#getPreviousHolidayDate}. */
+        static Optional<LocalDate> previousHoliday(LocalDate date) {
+            List<LocalDate> holidays = holidays(date.getYear());
+            for (int i = holidays.size() - 1; i >= 0; i--) {
+                if (holidays.get(i).isBefore(date)) {
+                    return Optional.of(holidays.get(i));
+                }
+            }
+            return Optional.empty();
+        }
+
+        static LocalDate addBusinessDays(LocalDate date, int amount) {
+            if (amount == 0) {
+                while (!isBusinessDay(date)) {
+                    date = date.plusDays(1);
+                }
+                return date;
+            }
+            int step = amount > 0 ? 1 : -1;
+            for (int remaining = Math.abs(amount); remaining > 0; ) {
+                date = date.plusDays(step);
+                if (isBusinessDay(date)) {
+                    remaining--;
+                }
+            }
+            return date;
+        }
+
+        static int businessDaysBetween(LocalDate fromInclusive, LocalDate toExclusive) {
+            if (toExclusive.isBefore(fromInclusive)) {
+                return -businessDaysBetween(toExclusive, fromInclusive);
+            }
+            int count = 0;
+            for (LocalDate date = fromInclusive; date.isBefore(toExclusive); date = date.plusDays(1)) {
+                count += isBusinessDay(date) ? 1 : 0;
+            }
+            return count;
+        }
+
+        private static LocalDate toMonday(LocalDate date) {
+            while (date.getDayOfWeek() != DayOfWeek.MONDAY) {
+                date = date.plusDays(1);
+            }
+            return date;
+        }
+
+        private ReferenceCalendar() {
+        }
+    }
+}